@@ -16,6 +16,7 @@
  * along with this program.  If not, see <https://www.gnu.org/licenses/>.
  */
 
+import com.adarshr.gradle.testlogger.TestLoggerExtension
 import com.adarshr.gradle.testlogger.theme.ThemeType
 
 plugins {
@@ -59,9 +60,11 @@ dependencies {
     val therApiVersion = "0.15.0"
     val testContainersJunitVersion = "1.21.4"
     val testContainersLocalstackVersion = "1.21.4"
+    val testContainersMysqlVersion = "1.21.4"
 
     // Spring Boot Dependencies
     implementation("org.springframework.boot:spring-boot-starter")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-webmvc")
@@ -73,6 +76,11 @@ dependencies {
     // AWS S3 SDK
     implementation("software.amazon.awssdk:s3")
 
+    // In-memory caches
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-jcache")
+
     compileOnly("org.projectlombok:lombok")
 
     annotationProcessor("org.projectlombok:lombok")
@@ -86,6 +94,7 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:junit-jupiter:$testContainersJunitVersion")
     testImplementation("org.testcontainers:localstack:$testContainersLocalstackVersion")
+    testImplementation("org.testcontainers:mysql:$testContainersMysqlVersion")
     testImplementation("com.h2database:h2")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
@@ -136,3 +145,17 @@ tasks.test {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.register<Test>("benchmark") {
+    description = "Runs the benchmarks, which are skipped by the test task."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    filter {
+        includeTestsMatching("*Benchmark")
+    }
+    systemProperty("entrypoint.benchmark", "true")
+    extensions.configure<TestLoggerExtension> {
+        showStandardStreams = true
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.admission;
+
+import com.lamergameryt.entrypoint.enums.AdmissionStatus;
+import com.lamergameryt.entrypoint.util.TokenBucket;
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * The virtual waiting room of a single event.
+ *
+ * <p>Clients joining the room are handed consecutive queue positions, and the room admits the front of the queue at
+ * the rate of a {@link TokenBucket}. Since positions are admitted strictly in order, the whole queue is described by
+ * the last issued and the last admitted position: a waiting client costs no memory at all, and its place in the queue
+ * is a subtraction.
+ *
+ * <p>An admission lasts for a fixed time. The room remembers when each admission step happened for that long, and
+ * every position admitted before the oldest remembered step has expired.
+ *
+ * <p>{@link #admit(long)} must only be called from a single thread at a time, every other method is lock-free.
+ */
+public final class WaitingRoom {
+    @Getter
+    private final long eventId;
+
+    @Getter
+    private final long epoch;
+
+    private final TokenBucket bucket;
+    private final long admissionTtlMillis;
+    private final AtomicLong issued = new AtomicLong();
+    private final ArrayDeque<long[]> steps = new ArrayDeque<>();
+    private volatile long admitted;
+    private volatile long expired;
+
+    /**
+     * Create an empty waiting room.
+     *
+     * @param eventId The id of the event
+     * @param epoch A random value identifying this room, so positions of a closed room are not valid in a reopened one
+     * @param admitRate The number of clients admitted per second
+     * @param burst The number of clients which can be admitted at once after the queue was idle
+     * @param admissionTtlMillis How long an admitted client stays admitted, in milliseconds
+     * @param nowMillis The current epoch millisecond
+     */
+    public WaitingRoom(
+            long eventId, long epoch, double admitRate, long burst, long admissionTtlMillis, long nowMillis) {
+        this.eventId = eventId;
+        this.epoch = epoch;
+        this.bucket = new TokenBucket(admitRate, burst, nowMillis);
+        this.admissionTtlMillis = admissionTtlMillis;
+    }
+
+    public void configure(double admitRate, long burst) {
+        bucket.configure(admitRate, burst);
+    }
+
+    public double getAdmitRate() {
+        return bucket.getRatePerSecond();
+    }
+
+    /**
+     * Join the back of the queue.
+     *
+     * @return The queue position of the new client, starting at 1
+     */
+    public long join() {
+        return issued.incrementAndGet();
+    }
+
+    /**
+     * Get the place of a client in the queue.
+     *
+     * @param position The queue position of the client
+     * @return The number of waiting clients up to and including this one, 0 once the client is admitted
+     */
+    public long positionOf(long position) {
+        return Math.max(0, position - admitted);
+    }
+
+    /**
+     * Get the admission status of a queue position.
+     *
+     * @param position The queue position of the client
+     * @return The status of the client, {@code null} if the position was never handed out
+     */
+    @Nullable public AdmissionStatus statusOf(long position) {
+        if (position <= 0 || position > issued.get()) return null;
+        if (position <= expired) return AdmissionStatus.EXPIRED;
+        return position <= admitted ? AdmissionStatus.ADMITTED : AdmissionStatus.WAITING;
+    }
+
+    public long getWaitingCount() {
+        return Math.max(0, issued.get() - admitted);
+    }
+
+    public long getAdmittedCount() {
+        return admitted - expired;
+    }
+
+    /**
+     * Admit as many waiting clients as the token bucket allows, and expire admissions which have run out.
+     *
+     * @param nowMillis The current epoch millisecond
+     */
+    public void admit(long nowMillis) {
+        val granted = bucket.take(issued.get() - admitted, nowMillis);
+        if (granted > 0) {
+            admitted += granted;
+            steps.addLast(new long[] {nowMillis, admitted});
+        }
+
+        while (!steps.isEmpty() && steps.peekFirst()[0] + admissionTtlMillis <= nowMillis) {
+            expired = steps.pollFirst()[1];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.admission;
+
+import com.lamergameryt.entrypoint.service.WaitingRoomService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import lombok.val;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Rejects requests to {@link AdmissionRequired} routes of events with an open waiting room unless they carry an
+ * admitted token. The check is served from memory, so rejected clients never reach the database.
+ */
+@Component
+public class WaitingRoomInterceptor implements HandlerInterceptor {
+    public static final String TOKEN_HEADER = "X-Waiting-Room-Token";
+
+    private final WaitingRoomService waitingRoomService;
+
+    public WaitingRoomInterceptor(WaitingRoomService waitingRoomService) {
+        this.waitingRoomService = waitingRoomService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || !method.hasMethodAnnotation(AdmissionRequired.class))
+            return true;
+
+        val variables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !(variables.get("eventId") instanceof String eventId)) return true;
+
+        final long id;
+        try {
+            id = Long.parseLong(eventId);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+
+        if (!waitingRoomService.isAdmitted(id, request.getHeader(TOKEN_HEADER))) {
+            throw new ResponseStatusException(
+                    HttpStatus.TOO_MANY_REQUESTS, "Join the waiting room of the event and wait to be admitted.");
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import com.lamergameryt.entrypoint.util.StripedLock;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BookingLockConfig {
+    /**
+     * The stripes ticket mutations falling back to the database queue on. Every stripe reports how often it was
+     * acquired and waited for, tagged with its index, as {@code entrypoint.booking.lock.wait} and
+     * {@code entrypoint.booking.lock.contended}.
+     */
+    @Bean
+    public StripedLock bookingLocks(BookingProperties properties, MeterRegistry registry) {
+        val locks = new StripedLock(properties.getLockStripes());
+        for (int i = 0; i < locks.stripeCount(); i++) {
+            val stripe = i;
+            FunctionTimer.builder(
+                            "entrypoint.booking.lock.wait",
+                            locks,
+                            lock -> lock.acquisitions(stripe),
+                            lock -> lock.waitNanos(stripe),
+                            TimeUnit.NANOSECONDS)
+                    .description("Acquisitions of a booking lock stripe and the time spent waiting for it")
+                    .tag("stripe", Integer.toString(stripe))
+                    .register(registry);
+            FunctionCounter.builder("entrypoint.booking.lock.contended", locks, lock -> lock.contended(stripe))
+                    .description("Acquisitions of a booking lock stripe which had to wait for another thread")
+                    .tag("stripe", Integer.toString(stripe))
+                    .register(registry);
+        }
+
+        return locks;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.booking")
+@Data
+public class BookingProperties {
+    /**
+     * How long a reservation holds a ticket before it is released back to the available tickets.
+     *
+     * <p>Configured via {@code entrypoint.booking.hold-ttl}, for example {@code 10m}.
+     */
+    private Duration holdTtl = Duration.ofMinutes(10);
+
+    /**
+     * Interval in milliseconds at which expired reservations are released. Reservations are released at most one tick
+     * after their hold runs out.
+     *
+     * <p>Configured via {@code entrypoint.booking.expiry-tick-ms}.
+     */
+    private long expiryTickMs = 1000;
+
+    /**
+     * Number of buckets of the reservation expiry timing wheel. Holds shorter than {@code expiry-tick-ms} times this
+     * value expire without being revisited.
+     *
+     * <p>Configured via {@code entrypoint.booking.expiry-wheel-size}.
+     */
+    private int expiryWheelSize = 1024;
+
+    /**
+     * Maximum number of tickets released by a single set-based update.
+     *
+     * <p>Configured via {@code entrypoint.booking.expiry-batch-size}.
+     */
+    private int expiryBatchSize = 500;
+
+    /**
+     * Maximum number of seats a single bulk ticket creation request may generate.
+     *
+     * <p>Configured via {@code entrypoint.booking.bulk-create-limit}.
+     */
+    private long bulkCreateLimit = 100_000;
+
+    /**
+     * Number of tickets inserted per JDBC batch and per transaction by a bulk ticket creation. A batch which conflicts
+     * with a concurrently created seat is rolled back and retried without that seat.
+     *
+     * <p>Configured via {@code entrypoint.booking.bulk-batch-size}.
+     */
+    private int bulkBatchSize = 1000;
+
+    /**
+     * Maximum number of tickets which can be reserved or booked together in a single group booking.
+     *
+     * <p>Configured via {@code entrypoint.booking.max-group-size}.
+     */
+    private int maxGroupSize = 10;
+
+    /**
+     * Number of lock stripes which ticket mutations falling back to the database queue on, rounded up to the next
+     * power of two. Each ticket hashes to one stripe, so only one connection per seat waits on its row lock.
+     *
+     * <p>Configured via {@code entrypoint.booking.lock-stripes}.
+     */
+    private int lockStripes = 256;
+}
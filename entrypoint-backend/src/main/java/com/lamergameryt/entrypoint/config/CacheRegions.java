@@ -0,0 +1,48 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.util.List;
+
+/**
+ * Names of the regions of the Hibernate second-level cache, see {@link SecondLevelCacheConfig}.
+ */
+public final class CacheRegions {
+    public static final String EVENTS = "events";
+    public static final String EVENT_PERFORMERS = "event-performers";
+    public static final String PERFORMERS = "performers";
+    public static final String EVENT_QUERIES = "event-queries";
+    public static final String PERFORMER_QUERIES = "performer-queries";
+
+    /**
+     * The region Hibernate caches query results in unless a query names another one.
+     */
+    public static final String DEFAULT_QUERIES = "default-query-results-region";
+
+    /**
+     * The region Hibernate records the last write to every table in, to tell whether a cached query result is stale.
+     * Its entries must outlive every cached query result, so it is never bounded.
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ALL =
+            List.of(EVENTS, EVENT_PERFORMERS, PERFORMERS, EVENT_QUERIES, PERFORMER_QUERIES, DEFAULT_QUERIES);
+
+    private CacheRegions() {}
+}
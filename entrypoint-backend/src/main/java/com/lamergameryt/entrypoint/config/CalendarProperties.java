@@ -0,0 +1,58 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.calendar")
+@Data
+public class CalendarProperties {
+    /**
+     * Whether upcoming events are kept in an in-memory calendar, which answers listings of any window without a query.
+     *
+     * <p>Configured via {@code entrypoint.calendar.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of events read per query while loading the calendar.
+     *
+     * <p>Configured via {@code entrypoint.calendar.load-batch-size}.
+     */
+    private int loadBatchSize = 10_000;
+
+    /**
+     * Interval in milliseconds at which events created on other instances are added to the calendar, and events which
+     * have started are removed from it.
+     *
+     * <p>Configured via {@code entrypoint.calendar.catch-up-interval-ms}.
+     */
+    private long catchUpIntervalMs = 10_000;
+
+    /**
+     * Interval in milliseconds at which the calendar is loaded again, to pick up events changed on other instances.
+     * Changes on this instance reload it once their transaction commits.
+     *
+     * <p>Configured via {@code entrypoint.calendar.reload-interval-ms}.
+     */
+    private long reloadIntervalMs = 300_000;
+}
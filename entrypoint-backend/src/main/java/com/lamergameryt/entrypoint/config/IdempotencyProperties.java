@@ -0,0 +1,83 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.idempotency")
+@Data
+public class IdempotencyProperties {
+    /**
+     * Whether requests carrying an {@code Idempotency-Key} header are deduplicated.
+     *
+     * <p>Configured via {@code entrypoint.idempotency.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long the response to an idempotency key is kept and replayed. Repeating a request after this window runs it
+     * again.
+     *
+     * <p>Configured via {@code entrypoint.idempotency.ttl}, for example {@code 24h}.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a request may hold the claim on its idempotency key without completing. Past this, the request is
+     * assumed lost with its node and a repetition is handled again.
+     *
+     * <p>Configured via {@code entrypoint.idempotency.claim-timeout}, for example {@code 5m}.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Upper bound in bytes of the stored responses kept in memory. The least recently used responses are evicted
+     * beyond it and read back from the database when they are repeated.
+     *
+     * <p>Configured via {@code entrypoint.idempotency.max-cache-bytes}.
+     */
+    private long maxCacheBytes = 32L * 1024 * 1024;
+
+    /**
+     * Largest response body in bytes which is stored for an idempotency key. Larger responses are not stored, and
+     * repeating their request runs it again.
+     *
+     * <p>Configured via {@code entrypoint.idempotency.max-body-bytes}.
+     */
+    private int maxBodyBytes = 64 * 1024;
+
+    /**
+     * Largest request body in bytes accepted with an idempotency key. The body is read into memory to fingerprint the
+     * request, so larger requests are rejected with {@code 413} before it is read in full.
+     *
+     * <p>Configured via {@code entrypoint.idempotency.max-request-body-bytes}.
+     */
+    private int maxRequestBodyBytes = 1024 * 1024;
+
+    /**
+     * Interval in milliseconds at which stored responses older than the {@code ttl} are deleted from the database.
+     *
+     * <p>Configured via {@code entrypoint.idempotency.purge-interval-ms}.
+     */
+    private long purgeIntervalMs = 3_600_000;
+}
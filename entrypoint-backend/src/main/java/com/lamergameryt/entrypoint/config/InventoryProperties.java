@@ -0,0 +1,63 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import jakarta.annotation.Nullable;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.inventory")
+@Data
+public class InventoryProperties {
+    /**
+     * Whether booking decisions for upcoming events are served from the in-memory seat inventory.
+     *
+     * <p>When disabled, every availability check and booking goes straight to the database. Every node keeps the seat
+     * state in memory and writes it back on its own, so the inventory is only safe with more than one node if every
+     * event is leased to a single node. Left unset, it follows {@code entrypoint.ownership.enabled}, it may be enabled
+     * explicitly for a deployment with a single node.
+     *
+     * <p>Configured via {@code entrypoint.inventory.enabled}.
+     */
+    @Nullable private Boolean enabled;
+
+    /**
+     * Interval in milliseconds between two write-behind flushes of seat transitions to the {@code tickets} table.
+     *
+     * <p>Configured via {@code entrypoint.inventory.flush-interval-ms}.
+     */
+    private long flushIntervalMs = 100;
+
+    /**
+     * Maximum number of ticket updates sent in a single JDBC batch.
+     *
+     * <p>Configured via {@code entrypoint.inventory.flush-batch-size}.
+     */
+    private int flushBatchSize = 500;
+
+    /**
+     * Interval in milliseconds at which the availability counters are reconciled against the actual ticket states.
+     * Counters which were not read since the previous reconciliation are dropped instead.
+     *
+     * <p>Configured via {@code entrypoint.inventory.reconcile-interval-ms}.
+     */
+    private long reconcileIntervalMs = 30_000;
+}
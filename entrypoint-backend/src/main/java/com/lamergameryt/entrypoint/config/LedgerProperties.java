@@ -0,0 +1,66 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.ledger")
+@Data
+public class LedgerProperties {
+    /**
+     * Whether ticket transitions are recorded in the append-only {@code ticket_transitions} ledger.
+     *
+     * <p>Configured via {@code entrypoint.ledger.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval in milliseconds between two batched appends of recorded transitions to the ledger.
+     *
+     * <p>Configured via {@code entrypoint.ledger.flush-interval-ms}.
+     */
+    private long flushIntervalMs = 200;
+
+    /**
+     * Maximum number of ledger entries appended in a single JDBC batch.
+     *
+     * <p>Configured via {@code entrypoint.ledger.flush-batch-size}.
+     */
+    private int flushBatchSize = 500;
+
+    /**
+     * Interval in milliseconds at which a snapshot is taken of every event with transitions since its last snapshot.
+     * Shorter intervals shorten the tail of the ledger replayed when an inventory is recovered.
+     *
+     * <p>Configured via {@code entrypoint.ledger.snapshot-interval-ms}.
+     */
+    private long snapshotIntervalMs = 300_000;
+
+    /**
+     * Number of ledger ids before the position of a snapshot which are checked for entries still being appended when
+     * the snapshot is taken. Ids are assigned before their entries commit, so the position is not reached in commit
+     * order, and entries committed later at ids missing from this window are replayed on top of the snapshot.
+     *
+     * <p>Configured via {@code entrypoint.ledger.snapshot-window}.
+     */
+    private int snapshotWindow = 10_000;
+}
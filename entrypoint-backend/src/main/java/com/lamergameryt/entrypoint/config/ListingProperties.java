@@ -0,0 +1,76 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.listing")
+@Data
+public class ListingProperties {
+    /**
+     * Whether the listing of upcoming events is served from an in-memory snapshot.
+     *
+     * <p>When disabled, every listing request queries the database.
+     *
+     * <p>Configured via {@code entrypoint.listing.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How far ahead of the current time the listing of upcoming events reaches.
+     *
+     * <p>Configured via {@code entrypoint.listing.window}, for example {@code 10d}.
+     */
+    private Duration window = Duration.ofDays(10);
+
+    /**
+     * Granularity at which the range of a listing snapshot is aligned. A snapshot is loaded for two quanta beyond the
+     * window and replaced in the background once the first of them has passed, so one database query per quantum
+     * serves every request.
+     *
+     * <p>Configured via {@code entrypoint.listing.quantum}, for example {@code 1m}.
+     */
+    private Duration quantum = Duration.ofMinutes(1);
+
+    /**
+     * Interval in milliseconds at which the listing snapshot is checked for being due for a refresh.
+     *
+     * <p>Configured via {@code entrypoint.listing.refresh-interval-ms}.
+     */
+    private long refreshIntervalMs = 1000;
+
+    /**
+     * Whether a gzip compressed copy of every encoded listing is kept, and sent to clients accepting it.
+     *
+     * <p>Configured via {@code entrypoint.listing.gzip}.
+     */
+    private boolean gzip = true;
+
+    /**
+     * Minimum size in bytes of an encoded listing for a compressed copy to be kept. Smaller listings are always sent
+     * uncompressed.
+     *
+     * <p>Configured via {@code entrypoint.listing.gzip-min-bytes}.
+     */
+    private int gzipMinBytes = 1024;
+}
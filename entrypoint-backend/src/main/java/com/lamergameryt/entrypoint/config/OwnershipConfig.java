@@ -0,0 +1,43 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import com.lamergameryt.entrypoint.ownership.EventOwnershipInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class OwnershipConfig implements WebMvcConfigurer {
+    private final EventOwnershipInterceptor ownershipInterceptor;
+
+    public OwnershipConfig(EventOwnershipInterceptor ownershipInterceptor) {
+        this.ownershipInterceptor = ownershipInterceptor;
+    }
+
+    /**
+     * Requests are redirected before any other interceptor runs, as the state those interceptors check, such as the
+     * waiting room of the event, is only held by the owner.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(ownershipInterceptor).addPathPatterns("/events/*/**").order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
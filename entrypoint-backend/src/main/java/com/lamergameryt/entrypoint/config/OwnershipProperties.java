@@ -0,0 +1,69 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.ownership")
+@Data
+public class OwnershipProperties {
+    /**
+     * Whether every event is leased to a single node which serves all its requests. Must be enabled when more than one
+     * node serves bookings, as every node keeps the seat state of its events in memory.
+     *
+     * <p>Configured via {@code entrypoint.ownership.enabled}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Unique name of this node in the lease table, a random id if left empty.
+     *
+     * <p>Configured via {@code entrypoint.ownership.node-id}.
+     */
+    private String nodeId = "";
+
+    /**
+     * Base URL other nodes redirect requests for the events of this node to, for example
+     * {@code http://10.0.0.12:8080}.
+     *
+     * <p>Configured via {@code entrypoint.ownership.advertised-url}.
+     */
+    private String advertisedUrl = "";
+
+    /**
+     * How long a lease is valid without being renewed, after which another node takes the event over. A node stops
+     * serving an event on its own once half of this has passed since the last renewal, so the clocks of the nodes
+     * must not drift apart by more than that.
+     *
+     * <p>Configured via {@code entrypoint.ownership.lease-ttl}, for example {@code 15s}.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(15);
+
+    /**
+     * Interval in milliseconds at which the leases of this node are renewed. Must be well below half the
+     * {@code lease-ttl}. Leases of other nodes are looked up again at the same interval.
+     *
+     * <p>Configured via {@code entrypoint.ownership.heartbeat-interval-ms}.
+     */
+    private long heartbeatIntervalMs = 3000;
+}
@@ -0,0 +1,53 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import jakarta.annotation.Nullable;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.pagination")
+@Data
+public class PaginationProperties {
+    /**
+     * Number of rows on a page of a paginated listing if the request does not ask for a page size.
+     *
+     * <p>Configured via {@code entrypoint.pagination.default-page-size}.
+     */
+    private int defaultPageSize = 100;
+
+    /**
+     * Maximum number of rows on a page of a paginated listing. Larger page sizes are reduced to it.
+     *
+     * <p>Configured via {@code entrypoint.pagination.max-page-size}.
+     */
+    private int maxPageSize = 1000;
+
+    /**
+     * Get the page size to use for a request.
+     *
+     * @param requested The page size asked for, {@code null} if none
+     * @return The requested page size capped at the maximum, or the default page size
+     */
+    public int pageSize(@Nullable Integer requested) {
+        return requested == null ? defaultPageSize : Math.min(requested, maxPageSize);
+    }
+}
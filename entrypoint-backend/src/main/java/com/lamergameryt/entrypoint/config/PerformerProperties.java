@@ -0,0 +1,52 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.performers")
+@Data
+public class PerformerProperties {
+    /**
+     * Maximum number of performers kept in the shared in-memory cache.
+     *
+     * <p>Configured via {@code entrypoint.performers.cache-size}.
+     */
+    private long cacheSize = 10_000;
+
+    /**
+     * Time after which a cached performer is read from the database again. Writes on this instance evict a performer
+     * at once, this only bounds how long a change made by another instance goes unnoticed.
+     *
+     * <p>Configured via {@code entrypoint.performers.cache-ttl}, for example {@code 10m}.
+     */
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of ids in the IN list of a single query reading performers or the performers of events. Larger
+     * sets are read in several queries.
+     *
+     * <p>Configured via {@code entrypoint.performers.batch-size}.
+     */
+    private int batchSize = 1000;
+}
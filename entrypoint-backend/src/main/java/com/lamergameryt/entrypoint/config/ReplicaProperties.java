@@ -0,0 +1,96 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.datasource")
+@Data
+public class ReplicaProperties {
+    /**
+     * The read replicas of the primary configured via {@code spring.datasource.*}. Without replicas every query goes
+     * to the primary.
+     *
+     * <p>Configured via {@code entrypoint.datasource.replicas[<index>].*}.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Maximum replication lag of a replica still serving reads. Lag is measured in steps of the lag check interval, so
+     * a multiple of it is the most useful value. Reads fall back to the primary while every replica lags further.
+     *
+     * <p>Configured via {@code entrypoint.datasource.max-lag}, for example {@code 2s}.
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * Interval in milliseconds at which a heartbeat is written to the primary and the lag of every replica is checked.
+     *
+     * <p>Configured via {@code entrypoint.datasource.lag-check-interval-ms}.
+     */
+    private long lagCheckIntervalMs = 1000;
+
+    /**
+     * How long a client reads from the primary after a modifying request, so it sees its own booking even while the
+     * replicas catch up.
+     *
+     * <p>Configured via {@code entrypoint.datasource.sticky-primary}, for example {@code 5s}.
+     */
+    private Duration stickyPrimary = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+        /**
+         * Name of the replica, used in its pool name and metrics.
+         *
+         * <p>Configured via {@code entrypoint.datasource.replicas[<index>].name}.
+         */
+        private String name;
+
+        /**
+         * JDBC URL of the replica.
+         *
+         * <p>Configured via {@code entrypoint.datasource.replicas[<index>].url}.
+         */
+        private String url;
+
+        /**
+         * Configured via {@code entrypoint.datasource.replicas[<index>].username}.
+         */
+        private String username;
+
+        /**
+         * Configured via {@code entrypoint.datasource.replicas[<index>].password}.
+         */
+        private String password;
+
+        /**
+         * Maximum number of connections to the replica.
+         *
+         * <p>Configured via {@code entrypoint.datasource.replicas[<index>].maximum-pool-size}.
+         */
+        private int maximumPoolSize = 10;
+    }
+}
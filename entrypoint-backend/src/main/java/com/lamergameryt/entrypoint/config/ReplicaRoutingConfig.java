@@ -0,0 +1,74 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import com.lamergameryt.entrypoint.datasource.ReplicaPool;
+import com.lamergameryt.entrypoint.datasource.ReplicaRoutingDataSource;
+import javax.sql.DataSource;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+public class ReplicaRoutingConfig {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Wraps the data source of the primary configured via {@code spring.datasource.*} in a
+     * {@link ReplicaRoutingDataSource} once read replicas are configured. The primary keeps its auto-configured pool.
+     *
+     * <p>Connections are opened lazily, with or without replicas, so a read-only transaction which is answered from
+     * memory, such as a seat map served from the seat inventory, does not take a connection from the pool at all.
+     */
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(ObjectProvider<ReplicaPool> replicaPool) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource primary)) return bean;
+
+                val pool = replicaPool.getObject();
+                val target = pool.isEmpty() ? primary : new ReplicaRoutingDataSource(primary, pool);
+                return new LazyDataSource(primary, target);
+            }
+        };
+    }
+
+    /**
+     * The data source exposed in place of the primary, which opens connections lazily as required by
+     * {@link ReplicaRoutingDataSource}. It closes the pool of the primary along with the context, since the primary is
+     * no longer exposed as the bean.
+     */
+    private static final class LazyDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+        private final DataSource primary;
+
+        private LazyDataSource(DataSource primary, DataSource target) {
+            super(target);
+            this.primary = primary;
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (primary instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
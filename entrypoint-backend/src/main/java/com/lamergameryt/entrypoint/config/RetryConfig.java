@@ -0,0 +1,85 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import com.lamergameryt.entrypoint.util.RetryExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.ToDoubleFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.ConcurrencyFailureException;
+
+@Configuration
+public class RetryConfig {
+    /**
+     * The executor retrying ticket mutations which lost an optimistic or pessimistic locking race. Every operation
+     * reports its calls, conflicts, retries and exhausted calls, tagged with its name, as
+     * {@code entrypoint.retry.calls}, {@code entrypoint.retry.conflicts}, {@code entrypoint.retry.retries} and
+     * {@code entrypoint.retry.exhausted}.
+     */
+    @Bean
+    public RetryExecutor retryExecutor(RetryProperties properties, MeterRegistry registry) {
+        return new RetryExecutor(
+                ConcurrencyFailureException.class::isInstance,
+                name -> toPolicy(properties.getOperations().getOrDefault(name, properties.getDefaults())),
+                operation -> {
+                    register(registry, operation, "calls", "Calls of the operation", RetryExecutor.Operation::calls);
+                    register(
+                            registry,
+                            operation,
+                            "conflicts",
+                            "Attempts of the operation which failed with a retryable conflict",
+                            RetryExecutor.Operation::conflicts);
+                    register(
+                            registry,
+                            operation,
+                            "retries",
+                            "Attempts of the operation made after a conflict",
+                            RetryExecutor.Operation::retries);
+                    register(
+                            registry,
+                            operation,
+                            "exhausted",
+                            "Calls of the operation which failed after running out of attempts or retry budget",
+                            RetryExecutor.Operation::exhausted);
+                });
+    }
+
+    private static RetryExecutor.Policy toPolicy(RetryProperties.Policy policy) {
+        return new RetryExecutor.Policy(
+                policy.getMaxAttempts(),
+                policy.getBaseDelay(),
+                policy.getMaxDelay(),
+                policy.getRetriesPerSecond(),
+                policy.getRetryBurst());
+    }
+
+    private static void register(
+            MeterRegistry registry,
+            RetryExecutor.Operation operation,
+            String name,
+            String description,
+            ToDoubleFunction<RetryExecutor.Operation> count) {
+        FunctionCounter.builder("entrypoint.retry." + name, operation, count)
+                .description(description)
+                .tag("operation", operation.name())
+                .register(registry);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.retry")
+@Data
+public class RetryProperties {
+    /**
+     * The retry policy of every operation without an entry in {@link #operations}.
+     *
+     * <p>Configured via {@code entrypoint.retry.defaults.*}.
+     */
+    private Policy defaults = new Policy();
+
+    /**
+     * Retry policies by operation name, for example {@code reserve-tickets}. Every policy is configured as a whole,
+     * settings left out take the built-in defaults rather than those of {@link #defaults}.
+     *
+     * <p>Configured via {@code entrypoint.retry.operations.<name>.*}.
+     */
+    private Map<String, Policy> operations = new HashMap<>();
+
+    @Data
+    public static class Policy {
+        /**
+         * Maximum number of attempts of an operation, including the first one.
+         *
+         * <p>Configured via {@code entrypoint.retry.defaults.max-attempts}.
+         */
+        private int maxAttempts = 4;
+
+        /**
+         * Upper bound of the random delay before the first retry. The bound doubles with every further retry.
+         *
+         * <p>Configured via {@code entrypoint.retry.defaults.base-delay}, for example {@code 10ms}.
+         */
+        private Duration baseDelay = Duration.ofMillis(10);
+
+        /**
+         * Upper bound of the random delay before any retry.
+         *
+         * <p>Configured via {@code entrypoint.retry.defaults.max-delay}.
+         */
+        private Duration maxDelay = Duration.ofMillis(200);
+
+        /**
+         * Number of retries per second the retry budget of an operation refills with. Conflicts beyond the budget
+         * fail immediately.
+         *
+         * <p>Configured via {@code entrypoint.retry.defaults.retries-per-second}.
+         */
+        private double retriesPerSecond = 50;
+
+        /**
+         * Number of retries the retry budget of an operation holds for a burst of conflicts.
+         *
+         * <p>Configured via {@code entrypoint.retry.defaults.retry-burst}.
+         */
+        private long retryBurst = 100;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.search")
+@Data
+public class SearchProperties {
+    /**
+     * Whether event searches are served from the in-memory trigram index.
+     *
+     * <p>When disabled, or while the index is built after startup, searches fall back to a substring match in the
+     * database.
+     *
+     * <p>Configured via {@code entrypoint.search.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Minimum fraction of the trigrams of a query which the name of a matching event must contain. Lower values
+     * tolerate more typos at the cost of more loosely related matches.
+     *
+     * <p>Configured via {@code entrypoint.search.min-coverage}.
+     */
+    private double minCoverage = 0.5;
+
+    /**
+     * Maximum number of events returned by a single search, best matches first.
+     *
+     * <p>Configured via {@code entrypoint.search.max-results}.
+     */
+    private int maxResults = 100;
+
+    /**
+     * Number of events read per query while building the index.
+     *
+     * <p>Configured via {@code entrypoint.search.load-batch-size}.
+     */
+    private int loadBatchSize = 10_000;
+
+    /**
+     * Interval in milliseconds at which events created by other instances are added to the index.
+     *
+     * <p>Configured via {@code entrypoint.search.catch-up-interval-ms}.
+     */
+    private long catchUpIntervalMs = 10_000;
+
+    /**
+     * Maximum number of searches whose results are kept in memory, including searches without results. Set to
+     * {@code 0} to disable the cache.
+     *
+     * <p>Configured via {@code entrypoint.search.cache-size}.
+     */
+    private long cacheSize = 10_000;
+
+    /**
+     * Time after which the cached results of a search are computed again. Events created on this instance, and changes
+     * to events or performers on it, clear the cache at once, this only bounds how long other changes go unnoticed.
+     *
+     * <p>Configured via {@code entrypoint.search.cache-ttl}, for example {@code 30s}.
+     */
+    private Duration cacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * Granularity with which the start date after which matching events start is cached. Searches within the same
+     * quantum share their cached results, which are then narrowed down to the exact start date.
+     *
+     * <p>Configured via {@code entrypoint.search.cache-quantum}, at least one second.
+     */
+    private Duration cacheQuantum = Duration.ofMinutes(1);
+}
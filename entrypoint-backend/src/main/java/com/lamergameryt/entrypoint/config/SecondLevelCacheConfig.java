@@ -0,0 +1,103 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.util.LinkedHashSet;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.val;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SecondLevelCacheConfig {
+    /**
+     * The in-process JCache manager holding the regions of the Hibernate second-level and query cache, backed by
+     * Caffeine. Every region is created up front with the size and time to live configured for it, except the update
+     * timestamps, which are never bounded.
+     */
+    @Bean
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        val cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        val names = new LinkedHashSet<>(CacheRegions.ALL);
+        names.addAll(properties.getRegions().keySet());
+        for (val name : names) {
+            val region = properties.region(name);
+            createIfAbsent(
+                    cacheManager,
+                    name,
+                    OptionalLong.of(region.getMaximumSize()),
+                    OptionalLong.of(region.getTtl().toNanos()));
+        }
+
+        createIfAbsent(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, OptionalLong.empty(), OptionalLong.empty());
+        return cacheManager;
+    }
+
+    /**
+     * Points Hibernate at {@link #hibernateCacheManager}. Hibernate fails to start if an entity, collection or query
+     * names a region which was not created, instead of creating an unbounded one.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            SecondLevelCacheProperties properties, CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.isEnabled());
+            if (!properties.isEnabled()) return;
+
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Reports the hits, misses, puts, evictions and removals of every region, tagged with its name as {@code cache},
+     * as {@code cache.gets}, {@code cache.puts}, {@code cache.evictions} and {@code cache.removals}.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (val name : hibernateCacheManager.getCacheNames())
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(name));
+        };
+    }
+
+    private static void createIfAbsent(
+            CacheManager cacheManager, String name, OptionalLong maximumSize, OptionalLong ttlNanos) {
+        if (cacheManager.getCache(name) != null) return;
+
+        val configuration = new CaffeineConfiguration<Object, Object>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(ttlNanos);
+        configuration.setStatisticsEnabled(true);
+        // Hibernate never mutates the disassembled state it caches, so copying it on every read and write is wasted
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(name, configuration);
+    }
+}
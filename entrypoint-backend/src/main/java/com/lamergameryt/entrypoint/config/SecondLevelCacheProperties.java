@@ -0,0 +1,85 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.cache")
+@Data
+public class SecondLevelCacheProperties {
+    /**
+     * Whether events and performers are kept in the Hibernate second-level cache, and event and performer queries in
+     * the query cache.
+     *
+     * <p>Configured via {@code entrypoint.cache.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The limits of every region without an entry in {@link #regions}.
+     *
+     * <p>Configured via {@code entrypoint.cache.defaults.*}.
+     */
+    private Region defaults = new Region();
+
+    /**
+     * Limits by region name, see {@link CacheRegions}. Every region is configured as a whole, settings left out take
+     * the built-in defaults rather than those of {@link #defaults}.
+     *
+     * <p>Configured via {@code entrypoint.cache.regions.<name>.*}.
+     */
+    private Map<String, Region> regions = new HashMap<>(Map.of(
+            CacheRegions.EVENTS, new Region(10_000, Duration.ofMinutes(10)),
+            CacheRegions.EVENT_PERFORMERS, new Region(10_000, Duration.ofMinutes(10)),
+            CacheRegions.PERFORMERS, new Region(10_000, Duration.ofMinutes(10)),
+            CacheRegions.EVENT_QUERIES, new Region(1_000, Duration.ofMinutes(1)),
+            CacheRegions.PERFORMER_QUERIES, new Region(1_000, Duration.ofMinutes(5))));
+
+    public Region region(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        /**
+         * Maximum number of entries of the region. The least valuable entries are evicted beyond it.
+         *
+         * <p>Configured via {@code entrypoint.cache.defaults.maximum-size}.
+         */
+        private long maximumSize = 1_000;
+
+        /**
+         * Time after which an entry is read from the database again. Writes on this instance update or evict entries
+         * at once, this only bounds how long a change made by another instance goes unnoticed.
+         *
+         * <p>Configured via {@code entrypoint.cache.defaults.ttl}, for example {@code 10m}.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
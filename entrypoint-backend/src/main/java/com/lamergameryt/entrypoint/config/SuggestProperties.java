@@ -0,0 +1,74 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.suggest")
+@Data
+public class SuggestProperties {
+    /**
+     * Whether event names are suggested from an in-memory trie. When disabled, suggestions are always empty.
+     *
+     * <p>Configured via {@code entrypoint.suggest.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of events suggested for a prefix.
+     *
+     * <p>Configured via {@code entrypoint.suggest.max-results}.
+     */
+    private int maxResults = 10;
+
+    /**
+     * Start date distance over which the weight of the popularity of an event halves. With the default of a week, an
+     * event starting a week later needs twice as many reserved or booked tickets to rank the same.
+     *
+     * <p>Configured via {@code entrypoint.suggest.popularity-half-life}.
+     */
+    private Duration popularityHalfLife = Duration.ofDays(7);
+
+    /**
+     * Number of events whose ticket counts are read per query while building the trie.
+     *
+     * <p>Configured via {@code entrypoint.suggest.load-batch-size}.
+     */
+    private int loadBatchSize = 1000;
+
+    /**
+     * Interval in milliseconds at which the events created on other instances are added to the trie, or the trie is
+     * built again if its build failed.
+     *
+     * <p>Configured via {@code entrypoint.suggest.catch-up-interval-ms}.
+     */
+    private long catchUpIntervalMs = 5000;
+
+    /**
+     * Interval in milliseconds at which the trie is built again, to update the popularity of events and pick up events
+     * changed on other instances.
+     *
+     * <p>Configured via {@code entrypoint.suggest.rebuild-interval-ms}.
+     */
+    private long rebuildIntervalMs = 60_000;
+}
@@ -0,0 +1,67 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.config;
+
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entrypoint.waiting-room")
+@Data
+public class WaitingRoomProperties {
+    /**
+     * Secret used to sign waiting room tokens. Every instance serving the same events must share it. When unset, a
+     * random secret is generated on startup and tokens do not survive a restart.
+     *
+     * <p>Configured via {@code entrypoint.waiting-room.secret}.
+     */
+    @Nullable private String secret;
+
+    /**
+     * Interval in milliseconds at which waiting clients are admitted.
+     *
+     * <p>Configured via {@code entrypoint.waiting-room.admit-interval-ms}.
+     */
+    private long admitIntervalMs = 100;
+
+    /**
+     * Number of clients admitted per second when a waiting room is opened without an explicit rate.
+     *
+     * <p>Configured via {@code entrypoint.waiting-room.default-admit-rate}.
+     */
+    private double defaultAdmitRate = 50;
+
+    /**
+     * Number of clients which can be admitted at once after the queue was idle, when a waiting room is opened without
+     * an explicit burst.
+     *
+     * <p>Configured via {@code entrypoint.waiting-room.default-burst}.
+     */
+    private long defaultBurst = 100;
+
+    /**
+     * How long an admitted client may access the tickets of the event before it has to queue again.
+     *
+     * <p>Configured via {@code entrypoint.waiting-room.admission-ttl}, for example {@code 15m}.
+     */
+    private Duration admissionTtl = Duration.ofMinutes(15);
+}
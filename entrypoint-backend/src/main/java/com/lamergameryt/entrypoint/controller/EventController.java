@@ -18,10 +18,25 @@
 
 package com.lamergameryt.entrypoint.controller;
 
+import com.lamergameryt.entrypoint.admission.AdmissionRequired;
+import com.lamergameryt.entrypoint.config.BookingProperties;
+import com.lamergameryt.entrypoint.config.PaginationProperties;
+import com.lamergameryt.entrypoint.datasource.ReadYourWrites;
+import com.lamergameryt.entrypoint.dto.AvailabilityDto;
 import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.dto.SeatIndexDto;
+import com.lamergameryt.entrypoint.dto.TicketBulkCreateDto;
 import com.lamergameryt.entrypoint.dto.TicketDto;
 import com.lamergameryt.entrypoint.dto.request.EventCreateRequestDto;
+import com.lamergameryt.entrypoint.dto.request.TicketBookingRequestDto;
+import com.lamergameryt.entrypoint.dto.request.TicketBulkCreateRequestDto;
 import com.lamergameryt.entrypoint.dto.request.TicketCreateRequestDto;
+import com.lamergameryt.entrypoint.dto.request.TicketGroupBookingRequestDto;
+import com.lamergameryt.entrypoint.inventory.SeatMap;
+import com.lamergameryt.entrypoint.listing.EncodedListing;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import com.lamergameryt.entrypoint.service.AvailabilityService;
+import com.lamergameryt.entrypoint.service.EventListingService;
 import com.lamergameryt.entrypoint.service.EventService;
 import com.lamergameryt.entrypoint.service.TicketService;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,36 +48,94 @@ import jakarta.validation.constraints.PastOrPresent;
 import jakarta.validation.constraints.Positive;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import lombok.val;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/events")
 @Tag(name = "events", description = "API routes to manage events and tickets")
 public class EventController {
     private final EventService eventService;
+    private final EventListingService listingService;
     private final TicketService ticketService;
+    private final AvailabilityService availabilityService;
+    private final BookingProperties bookingProperties;
+    private final PaginationProperties paginationProperties;
+    private final JsonMapper jsonMapper;
 
-    public EventController(EventService eventService, TicketService ticketService) {
+    public EventController(
+            EventService eventService,
+            EventListingService listingService,
+            TicketService ticketService,
+            AvailabilityService availabilityService,
+            BookingProperties bookingProperties,
+            PaginationProperties paginationProperties,
+            JsonMapper jsonMapper) {
         this.eventService = eventService;
+        this.listingService = listingService;
         this.ticketService = ticketService;
+        this.availabilityService = availabilityService;
+        this.bookingProperties = bookingProperties;
+        this.paginationProperties = paginationProperties;
+        this.jsonMapper = jsonMapper;
     }
 
     /**
      * Get all events
      *
      * <p>Retrieve all available events which start after the current date.<br>
-     * Does not return any past events as the tickets for those cannot be booked.
+     * Does not return any past events as the tickets for those cannot be booked. Responds with 304 Not Modified if
+     * the ETag in If-None-Match is still current. Events are returned in pages ordered by start date, the Link header
+     * holds the URL of the next page if there is one. Without an end date, events of the configured listing window are
+     * returned.
      *
+     * @param startsBefore The latest start date of the returned events
+     * @param cursor The cursor of the page to return, taken from the Link header of the previous page
+     * @param limit The maximum number of events on the page
+     * @param ifNoneMatch The ETags of the listings the client already holds
+     * @param acceptEncoding The content codings the client accepts, the listing is sent gzip compressed if allowed
      * @return A list of available events
      */
-    @GetMapping()
-    public ResponseEntity<List<EventDto>> getAllEvents() {
-        val events =
-                eventService.getAvailableEvents().stream().map(EventDto::from).toList();
-        return ResponseEntity.ok(events);
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllEvents(
+            @Parameter(description = "The latest start date of the events", example = "2025-05-15 12:00:00")
+                    @RequestParam(name = "starts_before", required = false)
+                    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+                    @Nullable LocalDateTime startsBefore,
+            @RequestParam(required = false) @Nullable String cursor,
+            @RequestParam(required = false) @Positive @Nullable Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) @Nullable String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+        val page = listingService.getUpcoming(
+                startsBefore,
+                cursor == null ? null : parseCursor(cursor, PageCursor::parseEvent),
+                paginationProperties.pageSize(limit));
+        val listing = page.content();
+        val gzip = listing.gzip() != null && EncodedListing.acceptsGzip(acceptEncoding);
+        val notModified = listing.matches(ifNoneMatch);
+        val response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(gzip ? listing.gzipEtag() : listing.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (page.nextCursor() != null) response.header(HttpHeaders.LINK, nextLink(page.nextCursor()));
+        if (notModified) return response.build();
+        if (!gzip) return response.contentType(MediaType.APPLICATION_JSON).body(listing.json());
+
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(listing.gzip());
     }
 
     /**
@@ -86,7 +159,7 @@ public class EventController {
      * <p>Retrieves events which matches the entered filters using an AND type query.<br>
      * Both the filters are required to be entered and are not optional.
      *
-     * @param name Name of the event to fuzzy find.
+     * @param name Name of the event to fuzzy find, tolerating typos. The best matches are returned first.
      * @param startsAfter The date after which the event starts.
      * @return The list of events matching the search
      */
@@ -99,27 +172,130 @@ public class EventController {
                     @PastOrPresent @Nullable LocalDateTime startsAfter) {
         if (startsAfter == null) startsAfter = LocalDateTime.now();
 
-        val events = eventService.searchEvents(name, startsAfter).stream()
-                .map(EventDto::from)
-                .toList();
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok(eventService.searchEvents(name, startsAfter));
+    }
+
+    /**
+     * Suggest events for a prefix
+     *
+     * <p>Retrieves the upcoming events with a name, or a performer, containing a word which starts with the prefix.<br>
+     * Meant to be called on every keystroke of a search box, suggestions are answered from memory and ranked by the
+     * number of reserved and booked tickets, favouring events which start sooner.
+     *
+     * @param prefix The text typed so far, ignoring case and accents
+     * @param limit The maximum number of suggested events, capped at the configured maximum
+     * @return The suggested events, best ranked first
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EventDto>> suggestEvents(
+            @RequestParam @NotNull String prefix, @RequestParam(required = false) @Positive @Nullable Integer limit) {
+        return ResponseEntity.ok(eventService.suggestEvents(prefix, limit == null ? Integer.MAX_VALUE : limit));
+    }
+
+    /**
+     * Get availability of event
+     *
+     * <p>Retrieves the number of available, reserved and booked tickets for an event.<br>
+     * Served from in-memory counters, clients may poll this route to check whether an event is sold out.
+     *
+     * @param eventId The id of the event
+     * @return The ticket counts of the event
+     */
+    @GetMapping("/{eventId}/availability")
+    public ResponseEntity<AvailabilityDto> getAvailabilityForEvent(@PathVariable @Positive long eventId) {
+        return ResponseEntity.ok(AvailabilityDto.from(eventId, availabilityService.getCounts(eventId)));
     }
 
     /**
      * Get tickets for event
      *
      * <p>Retrieves all available tickets for an event.<br>
-     * This route does not return tickets which are booked.
+     * This route does not return tickets which are booked. While the event has an open waiting room, an admitted token
+     * is required. Tickets are returned in pages ordered by id, the Link header holds the URL of the next page if there
+     * is one.
      *
      * @param eventId The id of the event
+     * @param cursor The cursor of the page to return, taken from the Link header of the previous page
+     * @param limit The maximum number of tickets on the page
      * @return The list of available tickets
      */
     @GetMapping("/{eventId}/tickets")
-    public ResponseEntity<List<TicketDto>> getTicketsForEvent(@PathVariable @Positive long eventId) {
-        val tickets = ticketService.getAvailableForEvent(eventId).stream()
-                .map(TicketDto::from)
-                .toList();
-        return ResponseEntity.ok(tickets);
+    @AdmissionRequired
+    public ResponseEntity<List<TicketDto>> getTicketsForEvent(
+            @PathVariable @Positive long eventId,
+            @RequestParam(required = false) @Nullable String cursor,
+            @RequestParam(required = false) @Positive @Nullable Integer limit) {
+        val page = ticketService.getAvailableForEvent(
+                eventId,
+                cursor == null ? 0 : parseCursor(cursor, PageCursor::parseTicket),
+                paginationProperties.pageSize(limit));
+        if (page.nextCursor() == null) return ResponseEntity.ok(page.content());
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, nextLink(page.nextCursor()))
+                .body(page.content());
+    }
+
+    /**
+     * Get every ticket for an event
+     *
+     * <p>Retrieves every ticket for an event, whatever its status, as a single JSON array.<br>
+     * The array is written while the tickets are read, so the response starts at once and the server does not hold the
+     * tickets of large events in memory. While the event has an open waiting room, an admitted token is required.
+     *
+     * @param eventId The id of the event
+     * @return The list of all tickets
+     */
+    @GetMapping(value = "/{eventId}/tickets/all", produces = MediaType.APPLICATION_JSON_VALUE)
+    @AdmissionRequired
+    public ResponseEntity<StreamingResponseBody> getAllTicketsForEvent(@PathVariable @Positive long eventId) {
+        if (!eventService.exists(eventId))
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Event with id " + eventId + " does not exist.");
+
+        val writer = jsonMapper.writerFor(TicketDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        val primaryPinned = ReadYourWrites.isPrimaryPinned();
+        StreamingResponseBody body = output -> {
+            // Not closed, the output stream belongs to the response
+            val generator = jsonMapper.createGenerator(output);
+            generator.writeStartArray();
+            ReadYourWrites.run(
+                    primaryPinned,
+                    () -> ticketService.forEachForEvent(eventId, ticket -> writer.writeValue(generator, ticket)));
+            generator.writeEndArray();
+            generator.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Get seat map for event
+     *
+     * <p>Retrieves the status of every ticket for an event as a compact binary seat map.<br>
+     * Selected with an Accept header of application/vnd.entrypoint.seat-map, seats are resolved with the seat index.
+     *
+     * @param eventId The id of the event
+     * @return The encoded seat map
+     */
+    @GetMapping(value = "/{eventId}/tickets", produces = SeatMap.MEDIA_TYPE)
+    @AdmissionRequired
+    public ResponseEntity<byte[]> getSeatMapForEvent(@PathVariable @Positive long eventId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(SeatMap.MEDIA_TYPE))
+                .body(ticketService.getSeatMap(eventId));
+    }
+
+    /**
+     * Get seat index for event
+     *
+     * <p>Retrieves the ticket id and seat number at every index of the binary seat map.<br>
+     * The index only changes when tickets are added or removed, clients may keep it while its version matches.
+     *
+     * @param eventId The id of the event
+     * @return The seat index of the event
+     */
+    @GetMapping("/{eventId}/tickets/index")
+    public ResponseEntity<SeatIndexDto> getSeatIndexForEvent(@PathVariable @Positive long eventId) {
+        return ResponseEntity.ok(ticketService.getSeatIndex(eventId));
     }
 
     /**
@@ -138,6 +314,31 @@ public class EventController {
         return ResponseEntity.ok(TicketDto.from(ticket));
     }
 
+    /**
+     * Create tickets in bulk for event
+     *
+     * <p>Generate available tickets for a seating plan of seat number ranges and section, row and seat layouts.<br>
+     * Seat numbers which already exist for the event are skipped and reported in the summary.
+     *
+     * @param eventId The id of the event to add tickets
+     * @param bulkRequest The seat ranges and layouts to generate tickets for
+     * @return The number of requested, created and skipped tickets
+     */
+    @PostMapping("/{eventId}/tickets/bulk")
+    public ResponseEntity<TicketBulkCreateDto> createTicketsForEvent(
+            @PathVariable @Positive long eventId, @Valid @RequestBody TicketBulkCreateRequestDto bulkRequest) {
+        val seatCount = bulkRequest.seatCount();
+        if (seatCount == 0) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No seats were requested.");
+        if (seatCount > bookingProperties.getBulkCreateLimit()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + bookingProperties.getBulkCreateLimit() + " seats can be created at once.");
+        }
+
+        val seatNumbers = bulkRequest.seatNumbers().toList();
+        return ResponseEntity.ok(ticketService.createTickets(eventId, seatNumbers));
+    }
+
     /**
      * Delete ticket for event
      *
@@ -153,4 +354,143 @@ public class EventController {
         ticketService.deleteTicket(eventId, ticketId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Reserve ticket for event
+     *
+     * <p>Hold an available ticket for the user until it is booked or released.<br>
+     * Responds with a 409 conflict if the ticket is already reserved or booked.
+     *
+     * @param eventId The id of the event
+     * @param ticketId The id of the ticket to reserve
+     * @param bookingRequest The user reserving the ticket
+     * @return A response indicating the reservation status
+     */
+    @PostMapping("/{eventId}/tickets/{ticketId}/reserve")
+    @AdmissionRequired
+    public ResponseEntity<Void> reserveTicketForEvent(
+            @PathVariable @Positive long eventId,
+            @PathVariable @Positive long ticketId,
+            @Valid @RequestBody TicketBookingRequestDto bookingRequest) {
+        if (!ticketService.reserveTicket(eventId, ticketId, bookingRequest.userId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ticket is not available for reservation.");
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Book ticket for event
+     *
+     * <p>Book a ticket which was previously reserved by the same user.<br>
+     * Responds with a 409 conflict if the user does not hold a reservation for the ticket.
+     *
+     * @param eventId The id of the event
+     * @param ticketId The id of the ticket to book
+     * @param bookingRequest The user booking the ticket
+     * @return A response indicating the booking status
+     */
+    @PostMapping("/{eventId}/tickets/{ticketId}/book")
+    @AdmissionRequired
+    public ResponseEntity<Void> bookTicketForEvent(
+            @PathVariable @Positive long eventId,
+            @PathVariable @Positive long ticketId,
+            @Valid @RequestBody TicketBookingRequestDto bookingRequest) {
+        if (!ticketService.bookTicket(eventId, ticketId, bookingRequest.userId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ticket is not reserved by the user.");
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Release ticket for event
+     *
+     * <p>Release a ticket reserved by the user and make it available again.<br>
+     * Responds with a 409 conflict if the user does not hold a reservation for the ticket.
+     *
+     * @param eventId The id of the event
+     * @param ticketId The id of the ticket to release
+     * @param bookingRequest The user releasing the ticket
+     * @return A response indicating the release status
+     */
+    @PostMapping("/{eventId}/tickets/{ticketId}/release")
+    @AdmissionRequired
+    public ResponseEntity<Void> releaseTicketForEvent(
+            @PathVariable @Positive long eventId,
+            @PathVariable @Positive long ticketId,
+            @Valid @RequestBody TicketBookingRequestDto bookingRequest) {
+        if (!ticketService.releaseTicket(eventId, ticketId, bookingRequest.userId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ticket is not reserved by the user.");
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Reserve tickets together for event
+     *
+     * <p>Hold several available tickets for the user at once, either all of them or none.<br>
+     * Responds with a 409 conflict if any of the tickets is already reserved or booked.
+     *
+     * @param eventId The id of the event
+     * @param bookingRequest The user and the tickets to reserve
+     * @return A response indicating the reservation status
+     */
+    @PostMapping("/{eventId}/tickets/reserve")
+    @AdmissionRequired
+    public ResponseEntity<Void> reserveTicketsForEvent(
+            @PathVariable @Positive long eventId, @Valid @RequestBody TicketGroupBookingRequestDto bookingRequest) {
+        this.checkGroupSize(bookingRequest);
+        if (!ticketService.reserveTickets(eventId, bookingRequest.ticketIds(), bookingRequest.userId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Tickets are not available for reservation.");
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Book tickets together for event
+     *
+     * <p>Book several tickets previously reserved by the same user at once, either all of them or none.<br>
+     * Responds with a 409 conflict if the user does not hold a reservation for any of the tickets.
+     *
+     * @param eventId The id of the event
+     * @param bookingRequest The user and the tickets to book
+     * @return A response indicating the booking status
+     */
+    @PostMapping("/{eventId}/tickets/book")
+    @AdmissionRequired
+    public ResponseEntity<Void> bookTicketsForEvent(
+            @PathVariable @Positive long eventId, @Valid @RequestBody TicketGroupBookingRequestDto bookingRequest) {
+        this.checkGroupSize(bookingRequest);
+        if (!ticketService.bookTickets(eventId, bookingRequest.ticketIds(), bookingRequest.userId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Tickets are not reserved by the user.");
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private void checkGroupSize(TicketGroupBookingRequestDto bookingRequest) {
+        if (bookingRequest.ticketIds().size() > bookingProperties.getMaxGroupSize()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + bookingProperties.getMaxGroupSize() + " tickets can be booked together.");
+        }
+    }
+
+    private static <T> T parseCursor(String cursor, Function<String, T> parser) {
+        try {
+            return parser.apply(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+
+    private static String nextLink(String cursor) {
+        val url = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", cursor)
+                .toUriString();
+        return "<" + url + ">; rel=\"next\"";
+    }
 }
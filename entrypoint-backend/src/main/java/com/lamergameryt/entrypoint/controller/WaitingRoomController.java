@@ -0,0 +1,123 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.controller;
+
+import com.lamergameryt.entrypoint.admission.WaitingRoomInterceptor;
+import com.lamergameryt.entrypoint.dto.WaitingRoomDto;
+import com.lamergameryt.entrypoint.dto.WaitingRoomPositionDto;
+import com.lamergameryt.entrypoint.dto.request.WaitingRoomOpenRequestDto;
+import com.lamergameryt.entrypoint.service.WaitingRoomService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.Nullable;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.val;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/events/{eventId}/waiting-room")
+@Tag(name = "waiting-room", description = "API routes to queue for the tickets of popular events")
+public class WaitingRoomController {
+    private final WaitingRoomService waitingRoomService;
+
+    public WaitingRoomController(WaitingRoomService waitingRoomService) {
+        this.waitingRoomService = waitingRoomService;
+    }
+
+    /**
+     * Open waiting room for event
+     *
+     * <p>Meter access to the tickets of the event, admitting queued clients at the given rate.<br>
+     * Opening a room which is already open only changes its rate, queued clients keep their place.
+     *
+     * @param eventId The id of the event
+     * @param openRequest The number of clients admitted per second and at once
+     * @return The state of the waiting room
+     */
+    @PostMapping()
+    public ResponseEntity<WaitingRoomDto> openWaitingRoom(
+            @PathVariable @Positive long eventId,
+            @Valid @RequestBody(required = false) @Nullable WaitingRoomOpenRequestDto openRequest) {
+        val room = openRequest == null
+                ? waitingRoomService.open(eventId, null, null)
+                : waitingRoomService.open(eventId, openRequest.admitRate(), openRequest.burst());
+        return ResponseEntity.ok(WaitingRoomDto.from(room));
+    }
+
+    /**
+     * Close waiting room for event
+     *
+     * <p>Stop metering access to the tickets of the event.<br>
+     * Every token handed out by the waiting room becomes invalid.
+     *
+     * @param eventId The id of the event
+     * @return A response indicating the closing status
+     */
+    @DeleteMapping()
+    public ResponseEntity<Void> closeWaitingRoom(@PathVariable @Positive long eventId) {
+        if (!waitingRoomService.close(eventId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Event has no open waiting room.");
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Join waiting room for event
+     *
+     * <p>Queue for the tickets of the event and receive a token holding the place in the queue.<br>
+     * Once admitted, the token is sent in the X-Waiting-Room-Token header to view and book tickets.
+     *
+     * @param eventId The id of the event
+     * @return The token and place in the queue
+     */
+    @PostMapping("/join")
+    public ResponseEntity<WaitingRoomPositionDto> joinWaitingRoom(@PathVariable @Positive long eventId) {
+        val position = waitingRoomService.join(eventId);
+        if (position.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Event has no open waiting room.");
+        }
+
+        return ResponseEntity.ok(position.get());
+    }
+
+    /**
+     * Get place in waiting room
+     *
+     * <p>Retrieves the place in the queue and the estimated wait for a token.<br>
+     * Served from memory, clients may poll this route while they wait.
+     *
+     * @param eventId The id of the event
+     * @param token The token received when joining the waiting room
+     * @return The place in the queue
+     */
+    @GetMapping("/position")
+    public ResponseEntity<WaitingRoomPositionDto> getWaitingRoomPosition(
+            @PathVariable @Positive long eventId, @RequestHeader(WaitingRoomInterceptor.TOKEN_HEADER) String token) {
+        val position = waitingRoomService.getPosition(eventId, token);
+        if (position.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Token is not queued in an open waiting room.");
+        }
+
+        return ResponseEntity.ok(position.get());
+    }
+}
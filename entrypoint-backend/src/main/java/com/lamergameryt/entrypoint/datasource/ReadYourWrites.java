@@ -0,0 +1,62 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.datasource;
+
+/**
+ * Pins the reads of the current thread to the primary, so a client reading right after its own write sees it even
+ * while the replicas catch up. See {@link ReadYourWritesFilter}.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    public static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * Run an action with the reads of the current thread pinned to the primary if requested. The pin is not inherited
+     * by other threads, so work a request hands to another thread passes it along with this.
+     *
+     * @param primaryPinned Whether the request handing over the action was pinned to the primary
+     * @param action The action
+     */
+    public static void run(boolean primaryPinned, Runnable action) {
+        if (!primaryPinned || isPrimaryPinned()) {
+            action.run();
+            return;
+        }
+
+        pinPrimary();
+        try {
+            action.run();
+        } finally {
+            unpin();
+        }
+    }
+}
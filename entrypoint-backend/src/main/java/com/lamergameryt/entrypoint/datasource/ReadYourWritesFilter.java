@@ -0,0 +1,95 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.datasource;
+
+import com.lamergameryt.entrypoint.config.ReplicaProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import lombok.val;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Pins the reads of a client to the primary for a while after it modified anything, such as booking a ticket, so it
+ * reads its own writes even while the replicas catch up.
+ *
+ * <p>Every modifying request sets the {@value #COOKIE} cookie to the epoch millisecond until which the client is
+ * pinned, and every request carrying the cookie before that time reads from the primary. Modifying requests read from
+ * the primary themselves.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE = "entrypoint-primary-until";
+
+    private static final Set<String> MODIFYING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ReplicaPool replicaPool;
+    private final ReplicaProperties properties;
+
+    public ReadYourWritesFilter(ReplicaPool replicaPool, ReplicaProperties properties) {
+        this.replicaPool = replicaPool;
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return replicaPool.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        val now = System.currentTimeMillis();
+        if (MODIFYING_METHODS.contains(request.getMethod())) {
+            val sticky = properties.getStickyPrimary();
+            val cookie = new Cookie(COOKIE, Long.toString(now + sticky.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, sticky.toSeconds()));
+            response.addCookie(cookie);
+        } else if (pinnedUntil(request) <= now) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWrites.pinPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.unpin();
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        val cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) return 0;
+
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
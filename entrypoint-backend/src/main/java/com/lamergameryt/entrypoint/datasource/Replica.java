@@ -0,0 +1,64 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.datasource;
+
+import javax.sql.DataSource;
+import lombok.val;
+
+/**
+ * A read replica and its last measured replication lag, see {@link ReplicaLagMonitor}.
+ */
+public final class Replica {
+    public static final long UNKNOWN_LAG = -1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Get the last measured replication lag.
+     *
+     * @return The lag in milliseconds, {@value #UNKNOWN_LAG} if it was not measured yet or the replica is unreachable
+     */
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    public void setLagMillis(long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    public boolean isWithin(long maxLagMillis) {
+        val lag = lagMillis;
+        return lag != UNKNOWN_LAG && lag <= maxLagMillis;
+    }
+}
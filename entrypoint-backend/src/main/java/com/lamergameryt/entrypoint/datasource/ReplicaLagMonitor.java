@@ -0,0 +1,157 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.datasource;
+
+import com.lamergameryt.entrypoint.config.ReplicaProperties;
+import com.lamergameryt.entrypoint.model.ReplicationHeartbeatModel;
+import com.lamergameryt.entrypoint.repository.ReplicationHeartbeatRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures the replication lag of every read replica with a heartbeat.
+ *
+ * <p>Every check first reads the heartbeat from the primary and the heartbeat every replica has applied, then writes a
+ * new one to the primary. A replica which applied the heartbeat of the primary has no lag, otherwise its lag is the
+ * time between the heartbeat it applied and the one of the primary. Every heartbeat is stamped by the primary with its
+ * own clock, so the heartbeats written by every instance share one row and one clock, and the clocks of the instances
+ * and the replicas do not matter.
+ *
+ * <p>A replica which cannot be reached, or has no heartbeat yet, has an unknown lag and serves no reads. The same goes
+ * for every replica while this instance failed to write a heartbeat for longer than the maximum lag and the check
+ * interval together, as an old heartbeat on the primary would let a replica which stopped replicating look current.
+ *
+ * <p>The heartbeat is a {@link ReplicationHeartbeatModel}, written through its repository so its table is managed with
+ * the rest of the schema. It is read from every replica directly, as the repository only reads from a replica chosen
+ * by the routing data source.
+ *
+ * <p>The lag of every replica is reported in milliseconds, tagged with its name, as
+ * {@code entrypoint.datasource.replica.lag}.
+ */
+@Component
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String READ_BEAT =
+            "SELECT beat FROM replication_heartbeat WHERE id = " + ReplicationHeartbeatModel.ID;
+
+    private final ReplicaPool replicaPool;
+    private final ReplicaProperties properties;
+    private final ReplicationHeartbeatRepository repository;
+
+    private long lastWritten;
+
+    public ReplicaLagMonitor(
+            ReplicaPool replicaPool,
+            ReplicaProperties properties,
+            ReplicationHeartbeatRepository repository,
+            MeterRegistry registry) {
+        this.replicaPool = replicaPool;
+        this.properties = properties;
+        this.repository = repository;
+
+        for (val replica : replicaPool.replicas()) {
+            Gauge.builder("entrypoint.datasource.replica.lag", replica, ReplicaLagMonitor::lagOf)
+                    .description("Replication lag of a read replica in milliseconds, unknown while unreachable")
+                    .tag("replica", replica.name())
+                    .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${entrypoint.datasource.lag-check-interval-ms:1000}")
+    public synchronized void checkLag() {
+        if (replicaPool.isEmpty()) return;
+
+        val maxLagMillis = properties.getMaxLag().toMillis();
+        val primaryBeat = this.readPrimaryBeat(maxLagMillis);
+        for (val replica : replicaPool.replicas()) {
+            val lag = this.measure(replica, primaryBeat);
+            if (replica.isWithin(maxLagMillis) && lag > maxLagMillis)
+                log.warn("Replica {} lags {} ms behind the primary, reading from the others", replica.name(), lag);
+
+            replica.setLagMillis(lag);
+        }
+
+        try {
+            // The repository writes in a read-write transaction, which always runs on the primary
+            if (repository.beat(ReplicationHeartbeatModel.ID) == 0) {
+                repository.save(new ReplicationHeartbeatModel(ReplicationHeartbeatModel.ID, null));
+                repository.beat(ReplicationHeartbeatModel.ID);
+            }
+
+            lastWritten = System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            log.warn("Failed to write the replication heartbeat to the primary", e);
+        }
+    }
+
+    /**
+     * Read the last heartbeat from the primary, unless this instance has not written one recently.
+     *
+     * @return The heartbeat, {@code null} if it is unknown or too old to measure the lag against
+     */
+    @Nullable private LocalDateTime readPrimaryBeat(long maxLagMillis) {
+        if (System.currentTimeMillis() - lastWritten > maxLagMillis + properties.getLagCheckIntervalMs()) return null;
+
+        try {
+            // Repository methods called on their own always read from the primary
+            return repository
+                    .findById(ReplicationHeartbeatModel.ID)
+                    .map(ReplicationHeartbeatModel::getBeat)
+                    .orElse(null);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read the replication heartbeat from the primary", e);
+            return null;
+        }
+    }
+
+    private long measure(Replica replica, @Nullable LocalDateTime primaryBeat) {
+        if (primaryBeat == null) {
+            if (replica.lagMillis() != Replica.UNKNOWN_LAG)
+                log.warn(
+                        "Lag of replica {} is unknown without a recent heartbeat, reading from the others",
+                        replica.name());
+            return Replica.UNKNOWN_LAG;
+        }
+
+        try {
+            val beats = new JdbcTemplate(replica.dataSource()).queryForList(READ_BEAT, LocalDateTime.class);
+            if (beats.isEmpty() || beats.get(0) == null) return Replica.UNKNOWN_LAG;
+
+            return Math.max(0, Duration.between(beats.get(0), primaryBeat).toMillis());
+        } catch (DataAccessException e) {
+            if (replica.lagMillis() != Replica.UNKNOWN_LAG)
+                log.warn("Replica {} is unreachable, reading from the others", replica.name(), e);
+            return Replica.UNKNOWN_LAG;
+        }
+    }
+
+    private static double lagOf(Replica replica) {
+        val lag = replica.lagMillis();
+        return lag == Replica.UNKNOWN_LAG ? Double.NaN : lag;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.datasource;
+
+import com.lamergameryt.entrypoint.config.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The connection pools of the configured read replicas, and the choice of the replica serving a read.
+ *
+ * <p>A read is served by a replica only inside a read-only transaction declared on a service, that is a method of the
+ * {@code service} package annotated with {@code @Transactional(readOnly = true)}. The read-only transactions which
+ * Spring Data opens for repository methods called on their own stay on the primary, so the seat inventory, the ledger
+ * and the idempotency keys are never read from a lagging copy.
+ */
+@Component
+public class ReplicaPool {
+    private static final String SERVICE_PACKAGE = "com.lamergameryt.entrypoint.service.";
+
+    private final ReplicaProperties properties;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(ReplicaProperties properties) {
+        this.properties = properties;
+        this.replicas = properties.getReplicas().stream()
+                .map(replica -> new Replica(replica.getName(), createPool(replica)))
+                .toList();
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    public boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    /**
+     * Whether the current transaction reads from a replica if one is within the lag limit.
+     */
+    public boolean isReplicaRead() {
+        if (replicas.isEmpty() || ReadYourWrites.isPrimaryPinned()) return false;
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return false;
+
+        val name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name != null && name.startsWith(SERVICE_PACKAGE);
+    }
+
+    /**
+     * Choose the replica serving the current transaction, in turns among the replicas within the lag limit.
+     *
+     * @return The replica, {@code null} if the transaction reads from the primary
+     */
+    @Nullable public Replica choose() {
+        if (!this.isReplicaRead()) return null;
+
+        val maxLagMillis = properties.getMaxLag().toMillis();
+        val start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            val replica = replicas.get((start + i) % replicas.size());
+            if (replica.isWithin(maxLagMillis)) return replica;
+        }
+
+        return null;
+    }
+
+    @PreDestroy
+    public void close() {
+        for (val replica : replicas) ((HikariDataSource) replica.dataSource()).close();
+    }
+
+    private static HikariDataSource createPool(ReplicaProperties.Replica replica) {
+        val pool = new HikariDataSource();
+        pool.setPoolName("replica-" + replica.getName());
+        pool.setJdbcUrl(replica.getUrl());
+        pool.setUsername(replica.getUsername());
+        pool.setPassword(replica.getPassword());
+        pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+        pool.setReadOnly(true);
+        return pool;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.datasource;
+
+import java.util.HashMap;
+import javax.sql.DataSource;
+import lombok.val;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Sends the connections of read-only service transactions to a read replica within the lag limit, and every other
+ * connection to the primary, see {@link ReplicaPool#choose()}.
+ *
+ * <p>The transaction manager opens the connection of a transaction before it marks the transaction as read-only, so
+ * this data source must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which only opens the connection once the first statement runs.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+
+    private final ReplicaPool pool;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool pool) {
+        this.pool = pool;
+
+        val targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        for (val replica : pool.replicas()) targets.put(replica.name(), replica.dataSource());
+
+        this.setTargetDataSources(targets);
+        this.setDefaultTargetDataSource(primary);
+        this.setLenientFallback(false);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        val replica = pool.choose();
+        return replica == null ? PRIMARY : replica.name();
+    }
+}
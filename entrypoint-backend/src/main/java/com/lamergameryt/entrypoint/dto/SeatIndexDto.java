@@ -0,0 +1,31 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.dto;
+
+import java.util.List;
+
+/**
+ * The seats of an event in the order of the binary seat map, see
+ * {@link com.lamergameryt.entrypoint.inventory.SeatMap}.
+ *
+ * @param version The version of the seat index, matching the version in the header of the seat map
+ * @param ticketIds The id of the ticket at every seat index
+ * @param seatNumbers The seat number of the ticket at every seat index
+ */
+public record SeatIndexDto(long version, List<Long> ticketIds, List<String> seatNumbers) {}
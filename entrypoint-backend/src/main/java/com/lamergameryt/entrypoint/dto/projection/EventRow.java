@@ -0,0 +1,39 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.dto.projection;
+
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.dto.PerformerDto;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The columns of an event read straight from the {@code events} table without hydrating an
+ * {@link com.lamergameryt.entrypoint.model.EventModel}.
+ *
+ * @param id The id of the event
+ * @param name The name of the event
+ * @param description The description of the event
+ * @param startDate The time at which the event starts
+ */
+public record EventRow(long id, String name, String description, LocalDateTime startDate) {
+    public EventDto toDto(List<PerformerDto> performers) {
+        return new EventDto(id, name, description, startDate, performers);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public record TicketBulkCreateRequestDto(List<@Valid SeatRange> ranges, List<@Valid SeatLayout> layouts) {
+
+    /**
+     * A run of numbered seats sharing a prefix, for example {@code A1} to {@code A30}.
+     *
+     * @param prefix The text in front of every seat number
+     * @param from The first seat number, inclusive
+     * @param to The last seat number, inclusive
+     */
+    public record SeatRange(@NotNull @Size(max = 64) String prefix, @PositiveOrZero int from, @PositiveOrZero int to) {
+        public long seatCount() {
+            return Math.max(0, (long) to - from + 1);
+        }
+
+        public Stream<String> seatNumbers() {
+            return IntStream.rangeClosed(from, to).mapToObj(seat -> prefix + seat);
+        }
+    }
+
+    /**
+     * A block of seats spanning every combination of section, row and seat, for example {@code B-R12-7}.
+     *
+     * @param sections The names of the sections
+     * @param rows The names of the rows in every section
+     * @param seatsPerRow The number of seats in every row, numbered from 1
+     * @param separator The text placed between section, row and seat, defaults to {@code -}
+     */
+    public record SeatLayout(
+            @NotEmpty List<@NotBlank @Size(max = 64) String> sections,
+            @NotEmpty List<@NotBlank @Size(max = 64) String> rows,
+            @JsonProperty("seats_per_row") @Positive int seatsPerRow,
+            @Size(max = 8) String separator) {
+        public long seatCount() {
+            return (long) sections.size() * rows.size() * seatsPerRow;
+        }
+
+        public Stream<String> seatNumbers() {
+            final var joiner = separator == null ? "-" : separator;
+            return sections.stream().flatMap(section -> rows.stream()
+                    .flatMap(row -> IntStream.rangeClosed(1, seatsPerRow)
+                            .mapToObj(seat -> section + joiner + row + joiner + seat)));
+        }
+    }
+
+    public long seatCount() {
+        return Stream.concat(
+                        ranges == null ? Stream.empty() : ranges.stream().map(SeatRange::seatCount),
+                        layouts == null ? Stream.empty() : layouts.stream().map(SeatLayout::seatCount))
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public Stream<String> seatNumbers() {
+        return Stream.concat(
+                ranges == null ? Stream.empty() : ranges.stream().flatMap(SeatRange::seatNumbers),
+                layouts == null ? Stream.empty() : layouts.stream().flatMap(SeatLayout::seatNumbers));
+    }
+}
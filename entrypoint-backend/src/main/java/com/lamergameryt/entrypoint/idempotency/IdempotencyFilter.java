@@ -0,0 +1,199 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.idempotency;
+
+import com.lamergameryt.entrypoint.config.IdempotencyProperties;
+import com.lamergameryt.entrypoint.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import lombok.val;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Deduplicates modifying requests which carry an {@value #KEY_HEADER} header.
+ *
+ * <p>The first request with a key is handled normally and its response is stored. Repeating the request with the same
+ * key replays the stored response, marked with {@value #REPLAYED_HEADER}, without reaching the controller. Keys are
+ * scoped to the method and path of their request, so the same key sent to different endpoints is unrelated. Reusing a
+ * key for a different query or body is rejected with {@code 422}, and repeating a request while the original is still
+ * being handled, on any node, is rejected with {@code 409}. The body of a request is read into memory to fingerprint
+ * it, so a body larger than the configured limit is rejected with {@code 413}, by its declared length if it has one.
+ *
+ * <p>Server errors, redirects to the owner of an event and {@code 429} responses are not stored, so a request which
+ * was not handled can be retried with the same key.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MODIFYING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties properties;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, IdempotencyProperties properties) {
+        this.idempotencyService = idempotencyService;
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || request.getHeader(KEY_HEADER) == null
+                || !MODIFYING_METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        val key = request.getHeader(KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "The idempotency key must be 1 to 255 characters long");
+            return;
+        }
+
+        val maxRequestBodyBytes = properties.getMaxRequestBodyBytes();
+        if (request.getContentLengthLong() > maxRequestBodyBytes) {
+            rejectTooLarge(response, maxRequestBodyBytes);
+            return;
+        }
+
+        // Reading one byte past the limit tells a body of unknown length which is too large
+        val body = request.getInputStream().readNBytes(maxRequestBodyBytes + 1);
+        if (body.length > maxRequestBodyBytes) {
+            rejectTooLarge(response, maxRequestBodyBytes);
+            return;
+        }
+
+        val fingerprint = fingerprint(request, body);
+        val scopedKey = scope(request, key);
+
+        val stored = idempotencyService.find(scopedKey);
+        if (stored.isPresent()) {
+            replay(stored.get(), fingerprint, response);
+            return;
+        }
+
+        if (!idempotencyService.claim(scopedKey, fingerprint)) {
+            // The original request may have completed since the key was looked up
+            val completed = idempotencyService.find(scopedKey);
+            if (completed.isPresent()) {
+                replay(completed.get(), fingerprint, response);
+            } else {
+                response.sendError(HttpStatus.CONFLICT.value(), "A request with this idempotency key is in progress");
+            }
+
+            return;
+        }
+
+        val cachingResponse = new ContentCachingResponseWrapper(response);
+        var recorded = false;
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), cachingResponse);
+
+            val responseBody = cachingResponse.getContentAsByteArray();
+            val status = cachingResponse.getStatus();
+            if (isReplayable(status) && idempotencyService.isStorable(responseBody.length)) {
+                val contentType = cachingResponse.getContentType();
+                idempotencyService.complete(
+                        scopedKey, new StoredResponse(fingerprint, status, contentType, responseBody));
+                recorded = true;
+            }
+        } finally {
+            if (!recorded) idempotencyService.release(scopedKey);
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(StoredResponse stored, byte[] fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!MessageDigest.isEqual(stored.fingerprint(), fingerprint)) {
+            response.sendError(
+                    HttpStatus.UNPROCESSABLE_CONTENT.value(),
+                    "The idempotency key was already used for a different request");
+            return;
+        }
+
+        response.setStatus(stored.statusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) response.setContentType(stored.contentType());
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static void rejectTooLarge(HttpServletResponse response, int maxRequestBodyBytes) throws IOException {
+        response.sendError(
+                HttpStatus.CONTENT_TOO_LARGE.value(),
+                "Requests with an idempotency key must not exceed " + maxRequestBodyBytes + " bytes");
+    }
+
+    private static boolean isReplayable(int status) {
+        return (status >= 200 && status < 300)
+                || (status >= 400 && status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    /**
+     * Scope an idempotency key to the method and path of its request, as the hex encoded SHA-256 hash of all three.
+     */
+    private static String scope(HttpServletRequest request, String key) {
+        val digest = sha256();
+        digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ' ');
+        digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        val digest = sha256();
+        digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ' ');
+        digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+        if (request.getQueryString() != null) {
+            digest.update((byte) '?');
+            digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        digest.update((byte) '\n');
+        digest.update(body);
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.idempotency;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A response recorded for an idempotency key, replayed to every repetition of the request.
+ *
+ * @param fingerprint The SHA-256 hash of the method, path and body of the original request
+ * @param statusCode The HTTP status code of the response
+ * @param contentType The content type of the response, {@code null} if it has no body
+ * @param body The body of the response
+ */
+public record StoredResponse(byte[] fingerprint, int statusCode, @Nullable String contentType, byte[] body) {}
@@ -0,0 +1,101 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.val;
+
+/**
+ * Incrementally maintained ticket counts of a single event.
+ *
+ * <p>Every count is a {@link LongAdder}, so concurrent transitions on the same event update striped cells instead of
+ * contending on a single counter, and reading the counts never takes a lock. The counts are only as exact as the
+ * transitions reported to them, and are periodically {@linkplain #correct(TicketCounts, TicketCounts) corrected}
+ * against the actual ticket states.
+ */
+public final class AvailabilityCounters {
+    private final LongAdder available = new LongAdder();
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder booked = new LongAdder();
+    private volatile boolean accessed = true;
+
+    public AvailabilityCounters(TicketCounts counts) {
+        this.correct(TicketCounts.EMPTY, counts);
+    }
+
+    public void transition(TicketStatus from, TicketStatus to) {
+        this.transition(from, to, 1);
+    }
+
+    public void transition(TicketStatus from, TicketStatus to, long count) {
+        this.counterOf(to).add(count);
+        this.counterOf(from).add(-count);
+    }
+
+    public TicketCounts counts() {
+        accessed = true;
+        return this.snapshot();
+    }
+
+    /**
+     * Read the counts without marking them as accessed.
+     *
+     * @return The current counts
+     */
+    public TicketCounts snapshot() {
+        return new TicketCounts(available.sum(), reserved.sum(), booked.sum());
+    }
+
+    public boolean isSoldOut() {
+        return this.counts().isSoldOut();
+    }
+
+    /**
+     * Move the counts from the expected to the actual values. Transitions reported concurrently are kept, as only the
+     * difference is applied.
+     *
+     * @param expected The counts the correction is based on
+     * @param actual The actual ticket counts
+     */
+    public void correct(TicketCounts expected, TicketCounts actual) {
+        available.add(actual.available() - expected.available());
+        reserved.add(actual.reserved() - expected.reserved());
+        booked.add(actual.booked() - expected.booked());
+    }
+
+    /**
+     * Check whether the counts were read since the last call, and reset the flag.
+     *
+     * @return {@code true} if the counts were read since the last call
+     */
+    public boolean clearAccessed() {
+        val wasAccessed = accessed;
+        accessed = false;
+        return wasAccessed;
+    }
+
+    private LongAdder counterOf(TicketStatus status) {
+        return switch (status) {
+            case NOT_BOOKED -> available;
+            case RESERVED -> reserved;
+            case BOOKED -> booked;
+        };
+    }
+}
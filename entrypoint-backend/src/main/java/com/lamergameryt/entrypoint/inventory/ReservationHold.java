@@ -0,0 +1,32 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.inventory;
+
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+
+/**
+ * A pending reservation whose expiry has to be scheduled.
+ *
+ * @param ticketId The id of the reserved ticket
+ * @param eventId The id of the event of the ticket
+ * @param userId The id of the user holding the reservation
+ * @param reservedUntil The time at which the reservation expires, {@code null} for reservations without a hold
+ */
+public record ReservationHold(long ticketId, long eventId, long userId, @Nullable LocalDateTime reservedUntil) {}
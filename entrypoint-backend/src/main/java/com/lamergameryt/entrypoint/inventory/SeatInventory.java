@@ -0,0 +1,413 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * In-memory seat state of a single event.
+ *
+ * <p>Tickets are addressed by their ordinal in ascending ticket id order. The status, holder and hold expiry of every
+ * seat are packed into one {@code long}, so a transition including the holder check is one compare-and-set and never
+ * takes a lock or allocates. The hold is part of the packed value, so a compare-and-set against a seat read earlier
+ * fails if the seat changed back to the same status and holder with a later hold. Holds are kept in whole seconds,
+ * rounded up, and holders are limited to {@link #MAX_HOLDER}.
+ *
+ * <p>The layout is fixed once built. Adding or removing tickets {@linkplain #rebuild(Collection, Collection) rebuilds}
+ * the inventory: the old instance is frozen first, so a compare-and-set racing with the rebuild fails with
+ * {@link Result#RETIRED} and is retried against the new instance instead of being lost.
+ *
+ * <p>Transitions of several seats at once through {@link #transitionAll} share a read lock which freezing the inventory
+ * acquires exclusively, so a group is never split by a rebuild. A group first claims its seats, which keeps every other
+ * transition off them, and only then applies them.
+ */
+public final class SeatInventory {
+    private static final TicketStatus[] STATUSES = {
+        TicketStatus.NOT_BOOKED, TicketStatus.RESERVED, TicketStatus.BOOKED
+    };
+
+    // Bits 0-1 hold the status, bit 2 the claim, bits 3-34 the epoch second the hold ends at and bits 35-62 the holder
+    private static final long STATUS_MASK = 0b11;
+    private static final long CLAIMED = 0b100;
+    private static final int HOLD_SHIFT = 3;
+    private static final long HOLD_MASK = 0xFFFF_FFFFL;
+    private static final int HOLDER_SHIFT = 35;
+
+    /**
+     * The highest user id a seat can be held by.
+     */
+    public static final long MAX_HOLDER = (1L << 28) - 1;
+
+    // Everything but the hold, so a seat matches an expected status and holder regardless of its hold
+    private static final long MATCH_MASK = ~(HOLD_MASK << HOLD_SHIFT);
+
+    @Getter
+    private final long eventId;
+
+    @Getter
+    private final LocalDateTime startDate;
+
+    @Getter
+    private final long indexVersion;
+
+    private final long[] ticketIds;
+    private final String[] seatNumbers;
+    private final AtomicLongArray seats;
+    private final AvailabilityCounters counters;
+    private final ReadWriteLock groupLock = new ReentrantReadWriteLock();
+    private volatile boolean retired;
+
+    public enum Result {
+        APPLIED,
+        CONFLICT,
+        NOT_FOUND,
+        RETIRED
+    }
+
+    private SeatInventory(
+            long eventId,
+            LocalDateTime startDate,
+            long[] ticketIds,
+            String[] seatNumbers,
+            AtomicLongArray seats) {
+        this.eventId = eventId;
+        this.startDate = startDate;
+        this.indexVersion = SeatMap.indexVersion(ticketIds);
+        this.ticketIds = ticketIds;
+        this.seatNumbers = seatNumbers;
+        this.seats = seats;
+
+        long available = 0;
+        long reserved = 0;
+        long booked = 0;
+        for (int i = 0; i < ticketIds.length; i++) {
+            switch (this.statusAt(i)) {
+                case NOT_BOOKED -> available++;
+                case RESERVED -> reserved++;
+                case BOOKED -> booked++;
+            }
+        }
+
+        this.counters = new AvailabilityCounters(new TicketCounts(available, reserved, booked));
+    }
+
+    public static SeatInventory of(long eventId, LocalDateTime startDate, Collection<TicketState> tickets) {
+        val sorted = new ArrayList<>(tickets);
+        sorted.sort(Comparator.comparingLong(TicketState::id));
+
+        val ticketIds = new long[sorted.size()];
+        val seatNumbers = new String[sorted.size()];
+        val seats = new AtomicLongArray(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            val ticket = sorted.get(i);
+            ticketIds[i] = ticket.id();
+            seatNumbers[i] = ticket.seatNumber();
+            seats.set(
+                    i,
+                    pack(
+                            ticket.status(),
+                            ticket.userId() == null ? 0 : ticket.userId(),
+                            ticket.reservedUntil() == null ? 0 : toEpochMilli(ticket.reservedUntil())));
+        }
+
+        return new SeatInventory(eventId, startDate, ticketIds, seatNumbers, seats);
+    }
+
+    public int size() {
+        return ticketIds.length;
+    }
+
+    public boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Move a ticket from one state to another with a single compare-and-set.
+     *
+     * @param ticketId The id of the ticket
+     * @param from The expected status of the ticket
+     * @param fromHolder The expected holder of the ticket, 0 if it is expected to be available
+     * @param to The new status of the ticket
+     * @param toHolder The new holder of the ticket, 0 to clear the holder
+     * @param holdUntil The epoch millisecond at which a new reservation expires, 0 if the ticket is not reserved
+     * @return The outcome of the transition
+     * @throws IllegalArgumentException If a holder is above {@link #MAX_HOLDER}
+     */
+    public Result transition(
+            long ticketId, TicketStatus from, long fromHolder, TicketStatus to, long toHolder, long holdUntil) {
+        val index = Arrays.binarySearch(ticketIds, ticketId);
+        if (index < 0) return retired ? Result.RETIRED : Result.NOT_FOUND;
+
+        val expected = pack(from, fromHolder, 0);
+        val updated = pack(to, toHolder, holdUntil);
+        while (true) {
+            val current = seats.get(index);
+            if ((current & MATCH_MASK) != expected) return this.failure(current);
+            if (!seats.compareAndSet(index, current, updated)) continue;
+
+            counters.transition(from, to);
+            return Result.APPLIED;
+        }
+    }
+
+    /**
+     * Release a reservation if it is still held by the user and its hold has run out. A reservation which was made
+     * again after the expiry was scheduled carries a later hold and is left untouched, since the hold is checked on the
+     * same packed value the compare-and-set expects. A reservation made again with the very same hold has run out just
+     * as well.
+     *
+     * @param ticketId The id of the ticket
+     * @param holder The user the expiring reservation belongs to
+     * @param now The current epoch millisecond
+     * @return The outcome of the expiry
+     */
+    public Result expire(long ticketId, long holder, long now) {
+        val index = Arrays.binarySearch(ticketIds, ticketId);
+        if (index < 0) return retired ? Result.RETIRED : Result.NOT_FOUND;
+
+        val expected = pack(TicketStatus.RESERVED, holder, 0);
+        val available = pack(TicketStatus.NOT_BOOKED, 0, 0);
+        while (true) {
+            val current = seats.get(index);
+            if ((current & MATCH_MASK) != expected) return this.failure(current);
+            if (holdUntilOf(current) > now) return Result.CONFLICT;
+            if (!seats.compareAndSet(index, current, available)) continue;
+
+            counters.transition(TicketStatus.RESERVED, TicketStatus.NOT_BOOKED);
+            return Result.APPLIED;
+        }
+    }
+
+    /**
+     * Move several tickets from one state to another, all or nothing. Seats are claimed with one compare-and-set each
+     * in the given order, and the seats already claimed are handed back if any seat does not match. Claimed seats keep
+     * their previous state for readers and fail every other transition, so handing them back always succeeds and the
+     * group only becomes visible once all of its seats are applied.
+     *
+     * @param ticketIds The distinct ids of the tickets, in ascending order
+     * @param from The expected status of every ticket
+     * @param fromHolder The expected holder of every ticket, 0 if they are expected to be available
+     * @param to The new status of every ticket
+     * @param toHolder The new holder of every ticket, 0 to clear the holder
+     * @param holdUntil The epoch millisecond at which new reservations expire, 0 if the tickets are not reserved
+     * @return The outcome of the transition, {@link Result#NOT_FOUND} if any ticket is not part of this inventory
+     * @throws IllegalArgumentException If a holder is above {@link #MAX_HOLDER}
+     */
+    public Result transitionAll(
+            long[] ticketIds, TicketStatus from, long fromHolder, TicketStatus to, long toHolder, long holdUntil) {
+        groupLock.readLock().lock();
+        try {
+            if (retired) return Result.RETIRED;
+
+            val indexes = new int[ticketIds.length];
+            for (int i = 0; i < ticketIds.length; i++) {
+                indexes[i] = Arrays.binarySearch(this.ticketIds, ticketIds[i]);
+                if (indexes[i] < 0) return Result.NOT_FOUND;
+            }
+
+            val expected = pack(from, fromHolder, 0);
+            val updated = pack(to, toHolder, holdUntil);
+            val previous = new long[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                previous[i] = this.claim(indexes[i], expected);
+                if ((previous[i] & CLAIMED) == 0) continue;
+
+                // Only this group writes to claimed seats, and retiring waits for the group lock
+                for (int j = 0; j < i; j++) seats.set(indexes[j], previous[j]);
+                return Result.CONFLICT;
+            }
+
+            for (val index : indexes) seats.set(index, updated);
+            counters.transition(from, to, indexes.length);
+            return Result.APPLIED;
+        } finally {
+            groupLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Claim a seat for a group transition if it matches the expected state.
+     *
+     * @return The state of the seat before it was claimed, {@link #CLAIMED} if it does not match
+     */
+    private long claim(int index, long expected) {
+        while (true) {
+            val current = seats.get(index);
+            if ((current & MATCH_MASK) != expected) return CLAIMED;
+            if (seats.compareAndSet(index, current, current | CLAIMED)) return current;
+        }
+    }
+
+    /**
+     * Tell why a seat did not match. Retiring claims every seat after marking the inventory retired, so a claimed seat
+     * of a retired inventory is frozen rather than held by a group.
+     */
+    private Result failure(long seat) {
+        return (seat & CLAIMED) != 0 && retired ? Result.RETIRED : Result.CONFLICT;
+    }
+
+    private static long pack(TicketStatus status, long holder, long holdUntil) {
+        if (holder < 0 || holder > MAX_HOLDER)
+            throw new IllegalArgumentException("Holder " + holder + " is above the highest supported user id");
+
+        long code =
+                switch (status) {
+                    case NOT_BOOKED -> 0;
+                    case RESERVED -> 1;
+                    case BOOKED -> 2;
+                };
+
+        val holdSecond = holdUntil <= 0 ? 0 : Math.min(HOLD_MASK, (holdUntil + 999) / 1000);
+        return code | holdSecond << HOLD_SHIFT | holder << HOLDER_SHIFT;
+    }
+
+    private static long holdUntilOf(long seat) {
+        return (seat >>> HOLD_SHIFT & HOLD_MASK) * 1000;
+    }
+
+    /**
+     * Get the current state of a ticket.
+     *
+     * @param ticketId The id of the ticket
+     * @return The state of the ticket, {@code null} if the ticket is not part of this inventory
+     */
+    @Nullable public TicketState stateOf(long ticketId) {
+        val index = Arrays.binarySearch(ticketIds, ticketId);
+        return index < 0 ? null : this.stateAt(index);
+    }
+
+    public TicketState stateAt(int index) {
+        val seat = seats.get(index);
+        val holder = seat >>> HOLDER_SHIFT;
+        val holdUntil = holdUntilOf(seat);
+        return new TicketState(
+                ticketIds[index],
+                seatNumbers[index],
+                STATUSES[(int) (seat & STATUS_MASK)],
+                holder == 0 ? null : holder,
+                holdUntil == 0 ? null : toLocalDateTime(holdUntil));
+    }
+
+    public TicketStatus statusAt(int index) {
+        return STATUSES[(int) (seats.get(index) & STATUS_MASK)];
+    }
+
+    /**
+     * Get the states of all tickets, optionally filtered by status, in ascending ticket id order.
+     *
+     * @param status The status to filter by, {@code null} to return every ticket
+     * @return The matching ticket states
+     */
+    public List<TicketState> states(@Nullable TicketStatus status) {
+        val states = new ArrayList<TicketState>();
+        for (int i = 0; i < ticketIds.length; i++) {
+            if (status == null || this.statusAt(i) == status) states.add(this.stateAt(i));
+        }
+
+        return states;
+    }
+
+    /**
+     * Get the states of the tickets following a ticket id, optionally filtered by status, in ascending ticket id order.
+     * The first ticket is found by binary search, so every page costs the same regardless of its position.
+     *
+     * @param status The status to filter by, {@code null} to return every ticket
+     * @param afterId The id after which to start, exclusive, 0 to start at the first ticket
+     * @param limit The maximum number of states to return
+     * @return The matching ticket states
+     */
+    public List<TicketState> states(@Nullable TicketStatus status, long afterId, int limit) {
+        val found = Arrays.binarySearch(ticketIds, afterId);
+        val states = new ArrayList<TicketState>(Math.min(limit, ticketIds.length));
+        for (int i = found < 0 ? -found - 1 : found + 1; i < ticketIds.length && states.size() < limit; i++) {
+            if (status == null || this.statusAt(i) == status) states.add(this.stateAt(i));
+        }
+
+        return states;
+    }
+
+    /**
+     * Get the number of tickets in every status. The counts are updated by every applied transition right after its
+     * compare-and-set, so each transition is counted exactly once, and reading them never scans the seats.
+     *
+     * @return The current ticket counts
+     */
+    public TicketCounts counts() {
+        return counters.snapshot();
+    }
+
+    /**
+     * Freeze every seat so no further transition can be applied to this instance. Must be called before the state of
+     * this inventory is copied anywhere else.
+     */
+    public void retire() {
+        groupLock.writeLock().lock();
+        try {
+            retired = true;
+            for (int i = 0; i < ticketIds.length; i++) seats.getAndUpdate(i, seat -> seat | CLAIMED);
+        } finally {
+            groupLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retire this inventory and build its successor with tickets added and removed. The state of every retained seat,
+     * including changes which have not been persisted yet, is carried over to the new instance.
+     *
+     * @param added The tickets to add, tickets already present are ignored
+     * @param removed The ids of the tickets to remove
+     * @return The inventory replacing this instance
+     */
+    public SeatInventory rebuild(Collection<TicketState> added, Collection<Long> removed) {
+        this.retire();
+
+        val tickets = new ArrayList<TicketState>(ticketIds.length + added.size());
+        for (int i = 0; i < ticketIds.length; i++) {
+            if (!removed.contains(ticketIds[i])) tickets.add(this.stateAt(i));
+        }
+
+        for (val ticket : added) {
+            if (Arrays.binarySearch(ticketIds, ticket.id()) < 0 && !removed.contains(ticket.id())) tickets.add(ticket);
+        }
+
+        return of(eventId, startDate, tickets);
+    }
+
+    public static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
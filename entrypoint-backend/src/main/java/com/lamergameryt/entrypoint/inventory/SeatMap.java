@@ -0,0 +1,177 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import lombok.val;
+
+/**
+ * Compact binary representation of the seat statuses of an event.
+ *
+ * <p>Seats are addressed by their index in ascending ticket id order, the same order as the seat index served as
+ * JSON. The map starts with a 16 byte header:
+ *
+ * <ul>
+ *   <li>2 bytes magic {@code SM}
+ *   <li>1 byte format version, currently {@value #FORMAT_VERSION}
+ *   <li>1 byte encoding, {@value #ENCODING_PACKED} for packed or {@value #ENCODING_RLE} for run-length encoded
+ *   <li>4 bytes number of seats
+ *   <li>8 bytes version of the seat index, which changes whenever tickets are added or removed
+ * </ul>
+ *
+ * <p>The packed encoding stores two bits per seat, four seats per byte starting at the least significant bits. The
+ * run-length encoding stores runs of seats with the same status as a status byte followed by the length of the run as
+ * an unsigned LEB128 varint. The smaller of the two is sent. Status codes are {@code 0} available, {@code 1} reserved
+ * and {@code 2} booked.
+ *
+ * <p>All multi-byte header fields are big-endian.
+ */
+public final class SeatMap {
+    public static final String MEDIA_TYPE = "application/vnd.entrypoint.seat-map";
+    public static final byte FORMAT_VERSION = 1;
+    public static final byte ENCODING_PACKED = 0;
+    public static final byte ENCODING_RLE = 1;
+
+    private static final int HEADER_LENGTH = 16;
+    private static final TicketStatus[] STATUSES = {
+        TicketStatus.NOT_BOOKED, TicketStatus.RESERVED, TicketStatus.BOOKED
+    };
+
+    private SeatMap() {}
+
+    /**
+     * Encode the statuses of all seats of an event, picking whichever encoding is smaller.
+     *
+     * @param indexVersion The version of the seat index the statuses are addressed by
+     * @param seatCount The number of seats
+     * @param statusAt The status of the seat at an index
+     * @return The encoded seat map
+     */
+    public static byte[] encode(long indexVersion, int seatCount, IntFunction<TicketStatus> statusAt) {
+        val packed = new byte[(seatCount + 3) / 4];
+        val runs = new ByteArrayOutputStream();
+        int runCode = -1;
+        int runLength = 0;
+        for (int i = 0; i < seatCount; i++) {
+            val code = codeOf(statusAt.apply(i));
+            packed[i >> 2] |= (byte) (code << ((i & 3) << 1));
+
+            if (code != runCode) {
+                if (runLength > 0) writeRun(runs, runCode, runLength);
+                runCode = code;
+                runLength = 0;
+            }
+
+            runLength++;
+        }
+
+        if (runLength > 0) writeRun(runs, runCode, runLength);
+
+        val rle = runs.size() < packed.length;
+        val payload = rle ? runs.toByteArray() : packed;
+        return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+                .put((byte) 'S')
+                .put((byte) 'M')
+                .put(FORMAT_VERSION)
+                .put(rle ? ENCODING_RLE : ENCODING_PACKED)
+                .putInt(seatCount)
+                .putLong(indexVersion)
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * Decode a seat map produced by {@link #encode(long, int, IntFunction)}.
+     *
+     * @param seatMap The encoded seat map
+     * @return The status of every seat by its index
+     */
+    public static TicketStatus[] decode(byte[] seatMap) {
+        val buffer = ByteBuffer.wrap(seatMap);
+        if (buffer.get() != 'S' || buffer.get() != 'M' || buffer.get() != FORMAT_VERSION)
+            throw new IllegalArgumentException("Not a seat map of format version " + FORMAT_VERSION);
+
+        val encoding = buffer.get();
+        val statuses = new TicketStatus[buffer.getInt()];
+        buffer.getLong();
+
+        if (encoding == ENCODING_PACKED) {
+            for (int i = 0; i < statuses.length; i++) {
+                statuses[i] = STATUSES[(seatMap[HEADER_LENGTH + (i >> 2)] >> ((i & 3) << 1)) & 0b11];
+            }
+
+            return statuses;
+        }
+
+        int index = 0;
+        while (index < statuses.length) {
+            val status = STATUSES[buffer.get()];
+            long length = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = buffer.get();
+                length |= (long) (next & 0x7F) << shift;
+                shift += 7;
+            } while (next < 0);
+
+            for (long i = 0; i < length; i++) statuses[index++] = status;
+        }
+
+        return statuses;
+    }
+
+    /**
+     * Get the version of a seat index. Two indexes holding the same tickets in the same order share a version.
+     *
+     * @param ticketIds The ids of the tickets in index order
+     * @return The version of the seat index
+     */
+    public static long indexVersion(long[] ticketIds) {
+        long hash = 0xcbf29ce484222325L;
+        for (val ticketId : ticketIds) {
+            hash ^= ticketId;
+            hash *= 0x100000001b3L;
+            hash ^= hash >>> 29;
+        }
+
+        return hash ^ ticketIds.length;
+    }
+
+    private static int codeOf(TicketStatus status) {
+        return switch (status) {
+            case NOT_BOOKED -> 0;
+            case RESERVED -> 1;
+            case BOOKED -> 2;
+        };
+    }
+
+    private static void writeRun(ByteArrayOutputStream runs, int code, int length) {
+        runs.write(code);
+        while ((length & ~0x7F) != 0) {
+            runs.write((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+
+        runs.write(length);
+    }
+}
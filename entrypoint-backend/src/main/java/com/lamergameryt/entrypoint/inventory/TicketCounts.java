@@ -0,0 +1,59 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+
+/**
+ * The number of tickets of an event in every status.
+ *
+ * @param available The number of tickets which can be reserved
+ * @param reserved The number of tickets held by a reservation
+ * @param booked The number of booked tickets
+ */
+public record TicketCounts(long available, long reserved, long booked) {
+    public static final TicketCounts EMPTY = new TicketCounts(0, 0, 0);
+
+    public TicketCounts plus(TicketStatus status, long count) {
+        return switch (status) {
+            case NOT_BOOKED -> new TicketCounts(available + count, reserved, booked);
+            case RESERVED -> new TicketCounts(available, reserved + count, booked);
+            case BOOKED -> new TicketCounts(available, reserved, booked + count);
+        };
+    }
+
+    /**
+     * Check whether enough tickets are left to reserve. Events without any tickets are given the benefit of the doubt,
+     * so requests for tickets which do not exist are not mistaken for conflicts.
+     *
+     * @param count The number of tickets to reserve
+     * @return {@code true} if at least {@code count} tickets are available or the event has no tickets
+     */
+    public boolean hasAvailable(long count) {
+        return available >= count || available + reserved + booked == 0;
+    }
+
+    /**
+     * An event is sold out once it has tickets but none of them can be reserved. Events without any tickets are not
+     * considered sold out.
+     */
+    public boolean isSoldOut() {
+        return !this.hasAvailable(1);
+    }
+}
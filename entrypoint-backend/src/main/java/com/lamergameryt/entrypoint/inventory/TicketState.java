@@ -0,0 +1,40 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+
+/**
+ * The bookable state of a single ticket, read straight from the {@code tickets} table without hydrating a
+ * {@link com.lamergameryt.entrypoint.model.TicketModel}.
+ *
+ * @param id The id of the ticket
+ * @param seatNumber The seat number of the ticket
+ * @param status The current status of the ticket
+ * @param userId The id of the user holding or owning the ticket, {@code null} if it is available
+ * @param reservedUntil The time at which the reservation of the ticket expires, {@code null} if it is not reserved
+ */
+public record TicketState(
+        long id,
+        String seatNumber,
+        TicketStatus status,
+        @Nullable Long userId,
+        @Nullable LocalDateTime reservedUntil) {}
@@ -0,0 +1,171 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.ledger;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.SeatInventory;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.val;
+
+/**
+ * Compact binary snapshot of the ticket states of an event, and the replay of ledger entries on top of it.
+ *
+ * <p>A snapshot is a gzip compressed stream starting with a 1 byte format version, currently
+ * {@value #FORMAT_VERSION}, and the 4 byte number of tickets. Every ticket follows in ascending id order as the 8 byte
+ * difference to the previous ticket id, its seat number in modified UTF-8, a 1 byte status code, the 8 byte id of the
+ * holder and the 8 byte epoch millisecond at which its reservation expires. Holder and expiry are {@code 0} if absent.
+ * Status codes are {@code 0} available, {@code 1} reserved and {@code 2} booked. All numbers are big-endian.
+ */
+public final class LedgerSnapshot {
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final TicketStatus[] STATUSES = {
+        TicketStatus.NOT_BOOKED, TicketStatus.RESERVED, TicketStatus.BOOKED
+    };
+
+    private LedgerSnapshot() {}
+
+    public static byte[] encode(Collection<TicketState> states) {
+        val sorted = new ArrayList<>(states);
+        sorted.sort(Comparator.comparingLong(TicketState::id));
+
+        val bytes = new ByteArrayOutputStream();
+        try (val output = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            output.writeByte(FORMAT_VERSION);
+            output.writeInt(sorted.size());
+
+            long previousId = 0;
+            for (val state : sorted) {
+                output.writeLong(state.id() - previousId);
+                output.writeUTF(state.seatNumber());
+                output.writeByte(codeOf(state.status()));
+                output.writeLong(state.userId() == null ? 0 : state.userId());
+                output.writeLong(state.reservedUntil() == null ? 0 : SeatInventory.toEpochMilli(state.reservedUntil()));
+                previousId = state.id();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    public static List<TicketState> decode(byte[] snapshot) {
+        try (val input = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(snapshot)))) {
+            val version = input.readByte();
+            if (version != FORMAT_VERSION)
+                throw new IllegalArgumentException("Unsupported snapshot format version " + version);
+
+            val count = input.readInt();
+            val states = new ArrayList<TicketState>(count);
+            long id = 0;
+            for (int i = 0; i < count; i++) {
+                id += input.readLong();
+                val seatNumber = input.readUTF();
+                val status = STATUSES[input.readByte()];
+                val userId = input.readLong();
+                val reservedUntil = input.readLong();
+                states.add(new TicketState(
+                        id,
+                        seatNumber,
+                        status,
+                        userId == 0 ? null : userId,
+                        reservedUntil == 0 ? null : SeatInventory.toLocalDateTime(reservedUntil)));
+            }
+
+            return states;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed snapshot", e);
+        }
+    }
+
+    /**
+     * Apply ledger entries to the ticket states of a snapshot. Every entry is applied only if the ticket is in the
+     * state it expects to start from. Entries which do not apply yet are retried after every later change of the same
+     * ticket, and dropped if they never apply because the snapshot already includes them.
+     *
+     * @param snapshot The ticket states of the snapshot
+     * @param tail The ledger entries after the position of the snapshot, in ledger order
+     * @return The resulting ticket states, in ascending id order
+     */
+    public static List<TicketState> replay(Collection<TicketState> snapshot, List<TicketTransition> tail) {
+        val states = new HashMap<Long, TicketState>();
+        for (val state : snapshot) states.put(state.id(), state);
+
+        val parked = new HashMap<Long, List<TicketTransition>>();
+        for (val transition : tail) {
+            if (!apply(states, transition)) {
+                parked.computeIfAbsent(transition.ticketId(), id -> new ArrayList<>()).add(transition);
+                continue;
+            }
+
+            // An entry recorded out of order may apply now
+            val waiting = parked.get(transition.ticketId());
+            if (waiting != null) applyParked(states, waiting);
+        }
+
+        val result = new ArrayList<>(states.values());
+        result.sort(Comparator.comparingLong(TicketState::id));
+        return result;
+    }
+
+    /**
+     * Apply parked entries in ledger order, starting over after every applied entry as it may unblock an earlier one.
+     */
+    private static void applyParked(Map<Long, TicketState> states, List<TicketTransition> waiting) {
+        for (int i = 0; i < waiting.size(); i++) {
+            if (!apply(states, waiting.get(i))) continue;
+
+            waiting.remove(i);
+            i = -1;
+        }
+    }
+
+    private static boolean apply(Map<Long, TicketState> states, TicketTransition transition) {
+        val current = states.get(transition.ticketId());
+        if (!transition.appliesTo(current)) return false;
+
+        val next = transition.applyTo(current);
+        if (next == null) states.remove(transition.ticketId());
+        else states.put(transition.ticketId(), next);
+        return true;
+    }
+
+    private static int codeOf(TicketStatus status) {
+        return switch (status) {
+            case NOT_BOOKED -> 0;
+            case RESERVED -> 1;
+            case BOOKED -> 2;
+        };
+    }
+}
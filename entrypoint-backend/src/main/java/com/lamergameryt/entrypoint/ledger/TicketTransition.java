@@ -0,0 +1,134 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.ledger;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.enums.TransitionType;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.val;
+
+/**
+ * A change of a single ticket, recorded with both its expected previous state and its resulting state.
+ *
+ * <p>Carrying the previous state lets a replay apply every entry like the compare-and-set it was recorded from, so
+ * entries which are already part of a snapshot or were recorded slightly out of order never overwrite a newer state.
+ *
+ * @param eventId The id of the event
+ * @param ticketId The id of the ticket
+ * @param type The kind of change
+ * @param seatNumber The seat number of a created ticket, {@code null} for every other change
+ * @param fromStatus The status before the change, {@code null} for created tickets
+ * @param fromUserId The holder before the change, {@code null} if the ticket was available
+ * @param status The status after the change, {@code null} for deleted tickets
+ * @param userId The holder after the change, {@code null} if the ticket is available
+ * @param reservedUntil The expiry of the reservation after the change, {@code null} if the ticket is not reserved
+ * @param createdAt The time of the change
+ */
+public record TicketTransition(
+        long eventId,
+        long ticketId,
+        TransitionType type,
+        @Nullable String seatNumber,
+        @Nullable TicketStatus fromStatus,
+        @Nullable Long fromUserId,
+        @Nullable TicketStatus status,
+        @Nullable Long userId,
+        @Nullable LocalDateTime reservedUntil,
+        LocalDateTime createdAt) {
+    public static TicketTransition created(long eventId, long ticketId, String seatNumber) {
+        return new TicketTransition(
+                eventId,
+                ticketId,
+                TransitionType.CREATED,
+                seatNumber,
+                null,
+                null,
+                TicketStatus.NOT_BOOKED,
+                null,
+                null,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Record a reservation, booking or release, the kind of change following from the new status.
+     *
+     * @param fromHolder The holder before the change, 0 if the ticket was available
+     * @param toHolder The holder after the change, 0 if the ticket is available
+     */
+    public static TicketTransition transitioned(
+            long eventId,
+            long ticketId,
+            TicketStatus from,
+            long fromHolder,
+            TicketStatus to,
+            long toHolder,
+            @Nullable LocalDateTime reservedUntil) {
+        val type =
+                switch (to) {
+                    case RESERVED -> TransitionType.RESERVED;
+                    case BOOKED -> TransitionType.BOOKED;
+                    case NOT_BOOKED -> TransitionType.RELEASED;
+                };
+        return new TicketTransition(
+                eventId,
+                ticketId,
+                type,
+                null,
+                from,
+                fromHolder == 0 ? null : fromHolder,
+                to,
+                toHolder == 0 ? null : toHolder,
+                reservedUntil,
+                LocalDateTime.now());
+    }
+
+    public static TicketTransition deleted(long eventId, long ticketId) {
+        return new TicketTransition(
+                eventId, ticketId, TransitionType.DELETED, null, null, null, null, null, null, LocalDateTime.now());
+    }
+
+    /**
+     * Check whether a ticket is in the state this change expects to start from.
+     *
+     * @param state The current state of the ticket, {@code null} if it does not exist
+     */
+    public boolean appliesTo(@Nullable TicketState state) {
+        return switch (type) {
+            case CREATED -> state == null;
+            case DELETED -> state != null;
+            default -> state != null && state.status() == fromStatus && Objects.equals(state.userId(), fromUserId);
+        };
+    }
+
+    /**
+     * Apply this change to the state of a ticket, which must satisfy {@link #appliesTo(TicketState)}.
+     *
+     * @param state The current state of the ticket, {@code null} if it does not exist
+     * @return The new state of the ticket, {@code null} if it was deleted
+     */
+    @Nullable public TicketState applyTo(@Nullable TicketState state) {
+        if (type == TransitionType.DELETED) return null;
+        if (type == TransitionType.CREATED) return new TicketState(ticketId, seatNumber, status, null, null);
+
+        return new TicketState(ticketId, state.seatNumber(), status, userId, reservedUntil);
+    }
+}
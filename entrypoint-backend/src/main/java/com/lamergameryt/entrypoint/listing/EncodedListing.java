@@ -0,0 +1,153 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.listing;
+
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import lombok.val;
+
+/**
+ * The encoded JSON body of a listing response, optionally compressed with gzip, and its strong entity tag.
+ *
+ * <p>The entity tag is derived from the uncompressed body, the compressed representation carries the same tag with a
+ * {@code -gzip} suffix. A conditional request matches either of them, as both describe the same content.
+ */
+public final class EncodedListing {
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final int ETAG_BYTES = 16;
+
+    private final byte[] json;
+
+    @Nullable private final byte[] gzip;
+
+    private final String etag;
+
+    private EncodedListing(byte[] json, @Nullable byte[] gzip, String etag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+    }
+
+    /**
+     * Wrap an encoded body.
+     *
+     * @param json The UTF-8 encoded JSON body
+     * @param compress Whether to also keep a gzip compressed copy of the body
+     * @return The encoded listing
+     */
+    public static EncodedListing of(byte[] json, boolean compress) {
+        return new EncodedListing(json, compress ? gzip(json) : null, etagOf(json));
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    @Nullable public byte[] gzip() {
+        return gzip;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public String gzipEtag() {
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * Check whether an {@code If-None-Match} header matches this listing, using the weak comparison required for it.
+     *
+     * @param ifNoneMatch The value of the header, {@code null} if absent
+     * @return {@code true} if the client already holds this listing
+     */
+    public boolean matches(@Nullable String ifNoneMatch) {
+        if (ifNoneMatch == null) return false;
+
+        for (val candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag) || tag.equals(this.gzipEtag())) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Check whether an {@code Accept-Encoding} header allows a gzip compressed body.
+     *
+     * @param acceptEncoding The value of the header, {@code null} if absent
+     * @return {@code true} if gzip is listed and not refused with a quality of 0
+     */
+    public static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        for (val coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            val parts = coding.split(";");
+            if (!parts[0].trim().equals("gzip")) continue;
+
+            for (int i = 1; i < parts.length; i++) {
+                val parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) return !isZero(parameter.substring(2));
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            val digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_BYTES))
+                    + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        val bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (val output = new GZIPOutputStream(bytes)) {
+            output.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+}
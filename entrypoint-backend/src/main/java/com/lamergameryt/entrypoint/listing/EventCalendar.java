@@ -0,0 +1,187 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.listing;
+
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.val;
+
+/**
+ * An in-memory calendar of upcoming events, sorted by start date and id.
+ *
+ * <p>Events are kept in a concurrent skip list, so any window of start dates is found in O(log n) and read in O(k)
+ * while events are added concurrently. Reads never block, and see every event added before they started. Events are
+ * also indexed by id, to resolve events found by other means without a query.
+ *
+ * <p>The {@linkplain #version() version} changes with every change of the calendar, so copies taken from it can tell
+ * whether they are outdated.
+ */
+public final class EventCalendar {
+    private static final Comparator<PageCursor.EventKey> ORDER =
+            Comparator.comparing(PageCursor.EventKey::startDate).thenComparingLong(PageCursor.EventKey::id);
+
+    private volatile ConcurrentSkipListMap<PageCursor.EventKey, EventDto> events = new ConcurrentSkipListMap<>(ORDER);
+    private volatile Map<Long, EventDto> eventsById = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong maxId = new AtomicLong();
+
+    /**
+     * Add an event, or replace it with a changed copy.
+     *
+     * @param event The event
+     * @return {@code true} if the calendar changed
+     */
+    public boolean put(EventDto event) {
+        val previous = events.put(keyOf(event), event);
+        eventsById.put(event.id(), event);
+        maxId.accumulateAndGet(event.id(), Math::max);
+        if (event.equals(previous)) return false;
+
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Add events, or replace them with changed copies.
+     *
+     * @param events The events
+     * @return The number of added or changed events
+     */
+    public int putAll(Collection<EventDto> events) {
+        int changed = 0;
+        for (val event : events) if (this.put(event)) changed++;
+
+        return changed;
+    }
+
+    /**
+     * Replace the whole calendar at once. Reads see either the previous or the new events, never a mix.
+     *
+     * @param events Every upcoming event
+     */
+    public void replaceAll(Collection<EventDto> events) {
+        val sorted = new ConcurrentSkipListMap<PageCursor.EventKey, EventDto>(ORDER);
+        val byId = new ConcurrentHashMap<Long, EventDto>();
+        for (val event : events) {
+            sorted.put(keyOf(event), event);
+            byId.put(event.id(), event);
+        }
+
+        this.events = sorted;
+        this.eventsById = byId;
+        for (val id : byId.keySet()) maxId.accumulateAndGet(id, Math::max);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Remove the events starting before a time.
+     *
+     * @param now The current time
+     * @return The number of removed events
+     */
+    public int prune(LocalDateTime now) {
+        val passed = events.headMap(new PageCursor.EventKey(now, Long.MIN_VALUE));
+        int removed = 0;
+        for (val event : passed.values()) {
+            eventsById.remove(event.id(), event);
+            removed++;
+        }
+
+        passed.clear();
+        if (removed > 0) version.incrementAndGet();
+        return removed;
+    }
+
+    /**
+     * Get the events starting within a range.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, inclusive
+     * @return A copy of the matching events in start date and id order
+     */
+    public List<EventDto> between(LocalDateTime from, LocalDateTime to) {
+        if (to.isBefore(from)) return List.of();
+
+        val start = new PageCursor.EventKey(from, Long.MIN_VALUE);
+        val end = new PageCursor.EventKey(to, Long.MAX_VALUE);
+        return List.copyOf(events.subMap(start, true, end, true).values());
+    }
+
+    /**
+     * Get a page of the events starting within a range.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, inclusive
+     * @param after The sort key of the last event of the previous page, {@code null} for the first page
+     * @param limit The maximum number of events
+     * @return The matching events in start date and id order
+     */
+    public List<EventDto> page(
+            LocalDateTime from, LocalDateTime to, @Nullable PageCursor.EventKey after, int limit) {
+        val start = new PageCursor.EventKey(from, Long.MIN_VALUE);
+        val end = new PageCursor.EventKey(to, Long.MAX_VALUE);
+        val continued = after != null && ORDER.compare(after, start) >= 0;
+        val lower = continued ? after : start;
+        if (ORDER.compare(lower, end) > 0) return List.of();
+
+        val window = events.subMap(lower, !continued, end, true);
+        val page = new ArrayList<EventDto>(Math.min(limit, 64));
+        for (val event : window.values()) {
+            if (page.size() >= limit) break;
+            page.add(event);
+        }
+
+        return page;
+    }
+
+    @Nullable public EventDto get(long id) {
+        return eventsById.get(id);
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Get the highest id of any event added to the calendar, including events which have since passed.
+     *
+     * @return The highest id, {@code 0} if no event was added
+     */
+    public long maxId() {
+        return maxId.get();
+    }
+
+    private static PageCursor.EventKey keyOf(EventDto event) {
+        return new PageCursor.EventKey(event.startDate(), event.id());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.listing;
+
+import java.util.List;
+
+/**
+ * An in-memory index of events, loaded and kept up to date by the {@link EventIndexLoader}.
+ *
+ * <p>The index is loaded in full on a background thread, and afterward catches up with the events created by other
+ * instances by reading the events following its highest id.
+ *
+ * @param <T> The type of the events read while catching up
+ */
+public interface EventIndex<T> {
+    /**
+     * The name of the index, as it appears in log messages.
+     */
+    String name();
+
+    boolean isEnabled();
+
+    /**
+     * The number of events read per query.
+     */
+    int batchSize();
+
+    /**
+     * Read every event and make the index answer from them. Runs on the loader thread.
+     */
+    void load();
+
+    /**
+     * Read the events following an id.
+     *
+     * @param afterId The id after which to start, exclusive
+     * @param limit The maximum number of events to read
+     * @return The events in id order
+     */
+    List<T> readAfter(long afterId, int limit);
+
+    long idOf(T event);
+
+    /**
+     * Add events read by {@link #readAfter(long, int)}. Events already in the index are read again on every catch-up,
+     * and must be skipped or replaced.
+     */
+    void addAll(List<T> events);
+
+    /**
+     * The highest id of the events in the index, {@code 0} if it is empty.
+     */
+    long maxId();
+
+    int size();
+
+    /**
+     * Called on the loader thread after every successful {@link #load()}, once the index is ready.
+     */
+    default void loaded() {}
+}
@@ -0,0 +1,172 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.listing;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads every registered {@link EventIndex} on a single background thread after startup, and keeps them up to date.
+ *
+ * <p>Until its first load succeeds, an index is not {@linkplain Registration#isReady() ready} and its owner answers
+ * from the database instead. Afterward each catch-up reads the events following the highest id of the index, in
+ * batches. Every catch-up reads a few ids below it again, so an event whose insert committed after a higher id was
+ * loaded is not missed. A catch-up of an index whose load failed loads it again instead.
+ *
+ * <p>Indexes are loaded in the order they registered, so an index may build on the contents of an index it depends on.
+ */
+@Component
+@Slf4j
+public class EventIndexLoader {
+    /**
+     * How many ids below the highest id of an index a catch-up starts reading.
+     */
+    public static final long CATCH_UP_OVERLAP = 1000;
+
+    private final List<Registration<?>> registrations = new CopyOnWriteArrayList<>();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        val thread = new Thread(runnable, "event-index-load");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Register an index to be loaded after startup.
+     *
+     * @param index The index
+     * @return The handle through which the owner of the index reads its state and requests loads
+     */
+    public <T> Registration<T> register(EventIndex<T> index) {
+        val registration = new Registration<>(index);
+        registrations.add(registration);
+        return registration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        registrations.forEach(Registration::reload);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    public final class Registration<T> {
+        private final EventIndex<T> index;
+        private final AtomicBoolean loading = new AtomicBoolean();
+        private final AtomicLong reloads = new AtomicLong();
+        private volatile boolean ready;
+
+        private Registration(EventIndex<T> index) {
+            this.index = index;
+        }
+
+        /**
+         * Whether the index is enabled and was loaded, so reads are answered from it.
+         */
+        public boolean isReady() {
+            return index.isEnabled() && ready;
+        }
+
+        /**
+         * Load the index again in the background. A reload requested while a load is running starts another load
+         * after it, as the running load may have read the events before the change.
+         */
+        public void reload() {
+            if (!index.isEnabled()) return;
+
+            reloads.incrementAndGet();
+            this.loadAsync();
+        }
+
+        /**
+         * Add the events created since the last catch-up to the index, or load the index again if its load failed.
+         */
+        public void catchUp() {
+            if (!index.isEnabled()) return;
+            if (!ready) {
+                this.loadAsync();
+                return;
+            }
+
+            val afterId = Math.max(0, index.maxId() - CATCH_UP_OVERLAP);
+            try {
+                this.addAfter(afterId);
+            } catch (DataAccessException e) {
+                log.warn("Failed to add events after id {} to the {}", afterId, index.name(), e);
+            }
+        }
+
+        /**
+         * Add every event following an id to the index, in batches.
+         *
+         * @param afterId The id after which to start, exclusive
+         */
+        public void addAfter(long afterId) {
+            val batchSize = index.batchSize();
+            while (true) {
+                val batch = index.readAfter(afterId, batchSize);
+                index.addAll(batch);
+                if (batch.size() < batchSize) return;
+
+                afterId = index.idOf(batch.get(batch.size() - 1));
+            }
+        }
+
+        private void loadAsync() {
+            if (!loading.compareAndSet(false, true)) return;
+
+            loader.execute(() -> {
+                val loadedReloads = reloads.get();
+                try {
+                    val start = System.currentTimeMillis();
+                    index.load();
+                    if (!ready)
+                        log.info(
+                                "Loaded {} events into the {} in {} ms",
+                                index.size(),
+                                index.name(),
+                                System.currentTimeMillis() - start);
+                    ready = true;
+                    index.loaded();
+                } catch (DataAccessException e) {
+                    log.warn("Failed to load the {}", index.name(), e);
+                    return;
+                } finally {
+                    loading.set(false);
+                }
+
+                // A reload which was requested while loading was not included
+                if (loadedReloads != reloads.get()) this.loadAsync();
+            });
+        }
+    }
+}
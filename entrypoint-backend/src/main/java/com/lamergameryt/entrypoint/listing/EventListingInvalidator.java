@@ -0,0 +1,85 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.listing;
+
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.service.EventCalendarService;
+import com.lamergameryt.entrypoint.service.EventListingService;
+import com.lamergameryt.entrypoint.service.EventSearchService;
+import com.lamergameryt.entrypoint.service.EventSuggestionService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Invalidates the listing of upcoming events whenever an event or a performer is written. A change of the performers
+ * of an event increments the version of the event, so it is caught as an update of the event. Updates and removals also
+ * reload the calendar of upcoming events, which adds created events by itself, and clear the cached search results. An
+ * updated or removed event is replaced in or removed from the search index and the trie of event suggestions as well.
+ *
+ * <p>Created by Hibernate through the Spring bean container when the entity manager factory starts, so the listing
+ * services are only looked up once an entity changes.
+ */
+public class EventListingInvalidator {
+    private final ObjectProvider<EventListingService> listingService;
+    private final ObjectProvider<EventCalendarService> calendarService;
+    private final ObjectProvider<EventSearchService> searchService;
+    private final ObjectProvider<EventSuggestionService> suggestionService;
+
+    public EventListingInvalidator(
+            ObjectProvider<EventListingService> listingService,
+            ObjectProvider<EventCalendarService> calendarService,
+            ObjectProvider<EventSearchService> searchService,
+            ObjectProvider<EventSuggestionService> suggestionService) {
+        this.listingService = listingService;
+        this.calendarService = calendarService;
+        this.searchService = searchService;
+        this.suggestionService = suggestionService;
+    }
+
+    @PostPersist
+    public void created(Object entity) {
+        listingService.ifAvailable(EventListingService::invalidate);
+    }
+
+    @PostUpdate
+    public void updated(Object entity) {
+        this.changed();
+        if (!(entity instanceof EventModel event)) return;
+
+        searchService.ifAvailable(service -> service.update(event));
+        suggestionService.ifAvailable(service -> service.update(event));
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        this.changed();
+        if (!(entity instanceof EventModel event)) return;
+
+        searchService.ifAvailable(service -> service.remove(event));
+        suggestionService.ifAvailable(service -> service.remove(event));
+    }
+
+    private void changed() {
+        listingService.ifAvailable(EventListingService::invalidate);
+        calendarService.ifAvailable(EventCalendarService::invalidate);
+        searchService.ifAvailable(EventSearchService::invalidate);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.listing;
+
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.pagination.CursorPage;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * An immutable copy of every event starting within a fixed range of time, sorted by start date and id.
+ *
+ * <p>A snapshot is loaded for a range which is wider than the listing window and starts at a quantized time, so the
+ * events between any current time and the end of its window are a sub list of the snapshot for as long as the snapshot
+ * {@linkplain #covers(LocalDateTime, LocalDateTime) covers} the window. Both ends of a range are inclusive.
+ *
+ * <p>Pages of a window continue after the start date and id of the last event of the previous page, found by binary
+ * search, so every page costs the same. The encoded responses of the most recently requested pages are kept with the
+ * snapshot. They stay valid until an event starts and drops out of the window, so most requests are answered without
+ * serializing anything.
+ */
+public final class ListingSnapshot {
+    private static final Comparator<EventDto> ORDER =
+            Comparator.comparing(EventDto::startDate).thenComparingLong(EventDto::id);
+    private static final int MAX_ENCODED_PAGES = 64;
+
+    @Getter
+    private final long generation;
+
+    @Getter
+    private final LocalDateTime from;
+
+    @Getter
+    private final LocalDateTime to;
+
+    private final List<EventDto> events;
+
+    private final Map<Long, CursorPage<EncodedListing>> encoded = new ConcurrentHashMap<>();
+
+    private ListingSnapshot(long generation, LocalDateTime from, LocalDateTime to, List<EventDto> events) {
+        this.generation = generation;
+        this.from = from;
+        this.to = to;
+        this.events = events;
+    }
+
+    /**
+     * Create a snapshot.
+     *
+     * @param generation The invalidation generation the events were loaded in
+     * @param from The start of the loaded range
+     * @param to The end of the loaded range
+     * @param events Every event starting within the range, in any order
+     * @return The snapshot
+     */
+    public static ListingSnapshot of(
+            long generation, LocalDateTime from, LocalDateTime to, Collection<EventDto> events) {
+        val sorted = new ArrayList<>(events);
+        sorted.sort(ORDER);
+        return new ListingSnapshot(generation, from, to, List.copyOf(sorted));
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    public boolean covers(LocalDateTime from, LocalDateTime to) {
+        return !from.isBefore(this.from) && !to.isAfter(this.to);
+    }
+
+    /**
+     * Get the events starting within a range, found by binary search. The range must be
+     * {@linkplain #covers(LocalDateTime, LocalDateTime) covered} by the snapshot.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, inclusive
+     * @return A view of the matching events in start date order
+     */
+    public List<EventDto> between(LocalDateTime from, LocalDateTime to) {
+        return this.slice(this.firstStartingAfter(from, true), this.firstStartingAfter(to, false));
+    }
+
+    /**
+     * Get the encoded response for a page of the events starting within a range. The encoding is reused for as long as
+     * the same events are requested, and replaced once the page includes any other event.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, inclusive
+     * @param after The sort key of the last event of the previous page, {@code null} for the first page
+     * @param limit The maximum number of events on the page
+     * @param encoder Encodes the events of the page in start date and id order
+     * @return The encoded page and the cursor of the next page
+     */
+    public CursorPage<EncodedListing> encode(
+            LocalDateTime from,
+            LocalDateTime to,
+            @Nullable PageCursor.EventKey after,
+            int limit,
+            Function<List<EventDto>, EncodedListing> encoder) {
+        val windowStart = this.firstStartingAfter(from, true);
+        val first = after == null ? windowStart : Math.max(windowStart, this.firstAfter(after));
+        val end = this.firstStartingAfter(to, false);
+        val last = (int) Math.min(end, (long) first + limit);
+
+        val key = ((long) first << 32) | last;
+        val cached = encoded.get(key);
+        if (cached != null) return cached;
+
+        val next = last < end && last > first ? events.get(last - 1) : null;
+        val page = new CursorPage<>(
+                encoder.apply(this.slice(first, last)),
+                next == null ? null : PageCursor.ofEvent(next.startDate(), next.id()));
+        if (encoded.size() >= MAX_ENCODED_PAGES) encoded.clear();
+        encoded.put(key, page);
+        return page;
+    }
+
+    private List<EventDto> slice(int first, int last) {
+        return first >= last ? List.of() : events.subList(first, last);
+    }
+
+    /**
+     * Find the index of the first event sorting after a key.
+     */
+    private int firstAfter(PageCursor.EventKey key) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            val middle = (low + high) >>> 1;
+            val event = events.get(middle);
+            val order = event.startDate().compareTo(key.startDate());
+            if (order < 0 || (order == 0 && event.id() <= key.id())) low = middle + 1;
+            else high = middle;
+        }
+
+        return low;
+    }
+
+    /**
+     * Find the index of the first event starting after a time, or at it unless {@code inclusive} is {@code false}.
+     */
+    private int firstStartingAfter(LocalDateTime time, boolean inclusive) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            val middle = (low + high) >>> 1;
+            val startDate = events.get(middle).startDate();
+            if (inclusive ? startDate.isBefore(time) : !startDate.isAfter(time)) low = middle + 1;
+            else high = middle;
+        }
+
+        return low;
+    }
+
+    /**
+     * Round a time down to a multiple of a quantum, counted from the epoch.
+     *
+     * @param time The time to round
+     * @param quantum The quantum, at least one second
+     * @return The start of the quantum the time falls into
+     */
+    public static LocalDateTime quantize(LocalDateTime time, Duration quantum) {
+        val seconds = quantum.toSeconds();
+        if (seconds <= 0) throw new IllegalArgumentException("quantum must be at least one second");
+
+        val epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochSecond, seconds) * seconds, 0, ZoneOffset.UTC);
+    }
+}
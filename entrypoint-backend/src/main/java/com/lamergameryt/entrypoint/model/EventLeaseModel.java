@@ -0,0 +1,55 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.model;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "event_leases", indexes = @Index(columnList = "owner"))
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventLeaseModel {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @NotNull private String owner;
+
+    @Column(name = "owner_url")
+    @Nullable private String ownerUrl;
+
+    @Column(name = "expires_at")
+    @NotNull private LocalDateTime expiresAt;
+
+    /**
+     * Random value drawn whenever the lease passes to another node, and kept while the same node renews or takes it
+     * over again. A node whose token still matches held the event without interruption.
+     */
+    @Column(name = "fencing_token")
+    private long fencingToken;
+}
@@ -18,6 +18,8 @@
 
 package com.lamergameryt.entrypoint.model;
 
+import com.lamergameryt.entrypoint.config.CacheRegions;
+import com.lamergameryt.entrypoint.listing.EventListingInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -27,9 +29,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "events", indexes = @Index(columnList = "startDate"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EVENTS)
+@EntityListeners(EventListingInvalidator.class)
+@Table(name = "events", indexes = @Index(columnList = "start_date, id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -50,6 +57,7 @@ public class EventModel {
     private List<TicketModel> ticket;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EVENT_PERFORMERS)
     @JoinTable(
             name = "event_performers",
             joinColumns = @JoinColumn(name = "event_id"),
@@ -57,6 +65,9 @@ public class EventModel {
     @Builder.Default
     private Set<PerformerModel> performers = Set.of();
 
+    @Version
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
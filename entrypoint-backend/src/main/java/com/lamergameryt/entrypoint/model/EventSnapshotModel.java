@@ -0,0 +1,63 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The compact state of every ticket of an event as of a position in the ticket transition ledger.
+ */
+@Entity
+@Table(name = "event_snapshots")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSnapshotModel {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    /** The id of the last ledger entry the snapshot is known to include. */
+    @NotNull private Long position;
+
+    @Column(name = "ticket_count")
+    private int ticketCount;
+
+    /**
+     * The ledger ids up to the position which held no committed entry when the snapshot was taken, encoded as 8 byte
+     * big-endian numbers in ascending order. {@code null} if there were none.
+     */
+    @Lob
+    @Column(name = "missed_ids")
+    private byte[] missedIds;
+
+    /** The ticket states, encoded by {@link com.lamergameryt.entrypoint.ledger.LedgerSnapshot}. */
+    @Lob
+    @NotNull private byte[] data;
+
+    @Column(name = "created_at")
+    @NotNull private LocalDateTime createdAt;
+}
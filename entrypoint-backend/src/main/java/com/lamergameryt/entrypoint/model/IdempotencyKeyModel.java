@@ -0,0 +1,94 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.model;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(columnList = "created_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyModel implements Persistable<String> {
+    /**
+     * The status code of a key which is claimed by a request still being handled.
+     */
+    public static final int PENDING = 0;
+
+    /**
+     * The idempotency key, scoped to the method and path of its request.
+     */
+    @Id
+    @Column(name = "idempotency_key")
+    private String key;
+
+    @Column(length = 32)
+    @NotNull private byte[] fingerprint;
+
+    /**
+     * The status code of the stored response, {@link #PENDING} while the request is being handled.
+     */
+    @Column(name = "status_code")
+    private int statusCode;
+
+    @Column(name = "content_type")
+    @Nullable private String contentType;
+
+    @Lob
+    @NotNull private byte[] body;
+
+    @Column(name = "created_at")
+    @NotNull private LocalDateTime createdAt;
+
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    public boolean isCompleted() {
+        return statusCode != PENDING;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    /**
+     * Keys are only ever inserted, so a new model is persisted without first selecting it by its assigned id.
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -18,6 +18,9 @@
 
 package com.lamergameryt.entrypoint.model;
 
+import com.lamergameryt.entrypoint.config.CacheRegions;
+import com.lamergameryt.entrypoint.listing.EventListingInvalidator;
+import com.lamergameryt.entrypoint.performer.PerformerCacheInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
@@ -26,8 +29,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PERFORMERS)
+@EntityListeners({EventListingInvalidator.class, PerformerCacheInvalidator.class})
 @Table(name = "performers")
 @Data
 @Builder
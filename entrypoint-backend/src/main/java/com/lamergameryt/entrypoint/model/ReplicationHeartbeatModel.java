@@ -0,0 +1,48 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single heartbeat row written to the primary and read back from every replica to measure its replication lag.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplicationHeartbeatModel {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    /**
+     * The time at which the heartbeat was last written, taken from the clock of the primary, so beats written by
+     * different instances are comparable. {@code null} until the first beat is written.
+     */
+    private LocalDateTime beat;
+}
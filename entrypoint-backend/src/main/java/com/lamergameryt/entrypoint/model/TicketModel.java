@@ -22,6 +22,7 @@ import com.lamergameryt.entrypoint.enums.TicketStatus;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,7 +32,12 @@ import org.hibernate.proxy.HibernateProxy;
 @Entity
 @Table(
         name = "tickets",
-        indexes = {@Index(columnList = "event_id"), @Index(columnList = "event_id, seat_number", unique = true)})
+        indexes = {
+            @Index(columnList = "event_id, id"),
+            @Index(columnList = "event_id, status, id"),
+            @Index(columnList = "event_id, seat_number", unique = true),
+            @Index(columnList = "status, reserved_until")
+        })
 @Data
 @Builder
 @NoArgsConstructor
@@ -45,6 +51,7 @@ public class TicketModel {
     private String seatNumber;
 
     @Builder.Default
+    @Enumerated(EnumType.ORDINAL)
     @NotNull private TicketStatus status = TicketStatus.NOT_BOOKED;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,12 +62,22 @@ public class TicketModel {
     @JoinColumn(name = "purchased_by_user_id")
     @Nullable private UserModel purchasedByUser;
 
+    @Column(name = "reserved_until")
+    @Nullable private LocalDateTime reservedUntil;
+
+    /**
+     * Incremented with every change of the ticket. The conditional updates of the repositories bump it explicitly, so
+     * a ticket loaded before any of them can not be written back over it.
+     */
+    @Version
+    private long version;
+
+    /**
+     * Get the id of the event without initializing a lazy event proxy, which already holds it.
+     */
     public Long getEventId() {
-        if (event instanceof HibernateProxy) {
-            return ((EventModel) ((HibernateProxy) event)
-                            .getHibernateLazyInitializer()
-                            .getImplementation())
-                    .getId();
+        if (event instanceof HibernateProxy proxy) {
+            return (Long) proxy.getHibernateLazyInitializer().getIdentifier();
         } else {
             return event.getId();
         }
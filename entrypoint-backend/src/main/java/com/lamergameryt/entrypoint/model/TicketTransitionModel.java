@@ -0,0 +1,79 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.model;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.enums.TransitionType;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An entry of the append-only ticket transition ledger. Rows are only ever inserted in batches by
+ * {@link com.lamergameryt.entrypoint.repository.TicketLedgerRepository}, the entity defines the table.
+ *
+ * <p>The event and ticket are plain ids rather than associations, so the history of deleted tickets is kept.
+ */
+@Entity
+@Table(name = "ticket_transitions", indexes = @Index(columnList = "event_id, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTransitionModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id")
+    @NotNull private Long eventId;
+
+    @Column(name = "ticket_id")
+    @NotNull private Long ticketId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @NotNull private TransitionType type;
+
+    @Column(name = "seat_number")
+    @Nullable private String seatNumber;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "from_status")
+    @Nullable private TicketStatus fromStatus;
+
+    @Column(name = "from_user_id")
+    @Nullable private Long fromUserId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Nullable private TicketStatus status;
+
+    @Column(name = "user_id")
+    @Nullable private Long userId;
+
+    @Column(name = "reserved_until")
+    @Nullable private LocalDateTime reservedUntil;
+
+    @Column(name = "created_at")
+    @NotNull private LocalDateTime createdAt;
+}
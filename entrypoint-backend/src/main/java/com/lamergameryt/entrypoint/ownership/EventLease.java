@@ -0,0 +1,35 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.ownership;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * The lease of an event as last seen by this node.
+ *
+ * @param eventId The id of the event
+ * @param owner The id of the node holding the lease
+ * @param ownerUrl The base URL requests for the event are redirected to, {@code null} if the owner has none
+ * @param validUntilMillis The epoch millisecond until which this view of the lease is used without checking it again
+ */
+public record EventLease(long eventId, String owner, @Nullable String ownerUrl, long validUntilMillis) {
+    public boolean isValid(long nowMillis) {
+        return nowMillis < validUntilMillis;
+    }
+}
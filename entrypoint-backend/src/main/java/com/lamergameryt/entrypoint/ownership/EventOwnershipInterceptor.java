@@ -0,0 +1,76 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.ownership;
+
+import com.lamergameryt.entrypoint.service.EventOwnershipService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import lombok.val;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Redirects requests for an event to the node owning it. The redirect keeps the method and body of the request, so
+ * clients following it repeat the request against the owner unchanged.
+ */
+@Component
+public class EventOwnershipInterceptor implements HandlerInterceptor {
+    public static final String OWNER_HEADER = "X-Event-Owner";
+
+    private final EventOwnershipService ownershipService;
+
+    public EventOwnershipInterceptor(EventOwnershipService ownershipService) {
+        this.ownershipService = ownershipService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!ownershipService.isEnabled()) return true;
+
+        val variables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !(variables.get("eventId") instanceof String eventId)) return true;
+
+        final long id;
+        try {
+            id = Long.parseLong(eventId);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+
+        val lease = ownershipService.leaseOf(id);
+        if (ownershipService.isLocal(lease)) return true;
+        if (lease.ownerUrl() == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "The event is being handed over to another node, try again.");
+        }
+
+        val query = request.getQueryString();
+        val baseUrl = lease.ownerUrl().replaceAll("/+$", "");
+        val location = baseUrl + request.getRequestURI() + (query == null ? "" : "?" + query);
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, location);
+        response.setHeader(OWNER_HEADER, lease.owner());
+        return false;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.ownership;
+
+import com.lamergameryt.entrypoint.config.OwnershipProperties;
+import jakarta.annotation.Nullable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.val;
+import org.springframework.stereotype.Component;
+
+/**
+ * The events whose lease this node holds, kept up to date by the
+ * {@link com.lamergameryt.entrypoint.service.EventOwnershipService}.
+ *
+ * <p>Background work on seat state, such as flushing, evicting and expiring reservations, runs on every node. It
+ * consults these leases so a node never writes the tickets of an event owned by another node. Unless event ownership is
+ * enabled, every event is owned by the single node.
+ *
+ * <p>A lease which could not be renewed in time is suspended rather than forgotten. The node stops serving the event,
+ * but keeps the fencing token of the lease, so the seat transitions it already accepted can still be written as long as
+ * no other node took the event over.
+ */
+@Component
+public class LeasedEvents {
+    private final OwnershipProperties properties;
+    private final Map<Long, Held> held = new ConcurrentHashMap<>();
+
+    /**
+     * The id of this node in the lease table.
+     */
+    @Getter
+    private final String nodeId;
+
+    private record Held(long fencingToken, long validUntilMillis) {}
+
+    public LeasedEvents(OwnershipProperties properties) {
+        this.properties = properties;
+        this.nodeId = properties.getNodeId().isBlank() ? UUID.randomUUID().toString() : properties.getNodeId();
+    }
+
+    /**
+     * Whether this node may accept new transitions of the seats of an event. A lease counts until the node should stop
+     * serving the event on its own, not until it expires in the database.
+     *
+     * @param eventId The id of the event
+     * @return {@code true} if event ownership is disabled or this node holds a valid lease of the event
+     */
+    public boolean isOwned(long eventId) {
+        if (!properties.isEnabled()) return true;
+
+        val lease = held.get(eventId);
+        return lease != null && System.currentTimeMillis() < lease.validUntilMillis();
+    }
+
+    /**
+     * Get the fencing token of the last lease this node held of an event, including a suspended one.
+     *
+     * @param eventId The id of the event
+     * @return The token, {@code null} if the node holds no lease of the event
+     */
+    @Nullable public Long fencingTokenOf(long eventId) {
+        val lease = held.get(eventId);
+        return lease == null ? null : lease.fencingToken();
+    }
+
+    public void hold(long eventId, long fencingToken, long validUntilMillis) {
+        held.put(eventId, new Held(fencingToken, validUntilMillis));
+    }
+
+    public void renew(long eventId, long validUntilMillis) {
+        held.computeIfPresent(eventId, (id, lease) -> new Held(lease.fencingToken(), validUntilMillis));
+    }
+
+    /**
+     * Stop serving an event whose lease could not be renewed, keeping its fencing token.
+     */
+    public void suspend(long eventId) {
+        this.renew(eventId, 0);
+    }
+
+    public void release(long eventId) {
+        held.remove(eventId);
+    }
+
+    public void releaseAll() {
+        held.clear();
+    }
+}
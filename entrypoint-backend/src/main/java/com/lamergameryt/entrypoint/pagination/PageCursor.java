@@ -0,0 +1,105 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.pagination;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import lombok.val;
+
+/**
+ * Opaque cursor tokens for keyset pagination.
+ *
+ * <p>A token is the URL-safe Base64 encoding of a 1 byte kind followed by the sort key of the last row of the previous
+ * page. Events are sorted by start date and id, the start date being stored as its epoch second and nanosecond in UTC.
+ * Tickets are sorted by id. The kind keeps a token of one listing from being accepted by another.
+ */
+public final class PageCursor {
+    private static final byte EVENT = 'E';
+    private static final byte TICKET = 'T';
+    private static final int EVENT_BYTES = 1 + Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int TICKET_BYTES = 1 + Long.BYTES;
+
+    /**
+     * The sort key of an event.
+     *
+     * @param startDate The time at which the event starts
+     * @param id The id of the event
+     */
+    public record EventKey(LocalDateTime startDate, long id) {}
+
+    private PageCursor() {}
+
+    public static String ofEvent(LocalDateTime startDate, long id) {
+        val buffer = ByteBuffer.allocate(EVENT_BYTES);
+        buffer.put(EVENT);
+        buffer.putLong(startDate.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(startDate.getNano());
+        buffer.putLong(id);
+        return encode(buffer);
+    }
+
+    /**
+     * Read the sort key from an event cursor.
+     *
+     * @param token The cursor
+     * @return The sort key of the last event of the previous page
+     * @throws IllegalArgumentException If the token is not an event cursor
+     */
+    public static EventKey parseEvent(String token) {
+        val buffer = decode(token, EVENT, EVENT_BYTES);
+        try {
+            val startDate = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new EventKey(startDate, buffer.getLong());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    public static String ofTicket(long id) {
+        val buffer = ByteBuffer.allocate(TICKET_BYTES);
+        buffer.put(TICKET);
+        buffer.putLong(id);
+        return encode(buffer);
+    }
+
+    /**
+     * Read the ticket id from a ticket cursor.
+     *
+     * @param token The cursor
+     * @return The id of the last ticket of the previous page
+     * @throws IllegalArgumentException If the token is not a ticket cursor
+     */
+    public static long parseTicket(String token) {
+        return decode(token, TICKET, TICKET_BYTES).getLong();
+    }
+
+    private static String encode(ByteBuffer buffer) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private static ByteBuffer decode(String token, byte kind, int length) {
+        val bytes = Base64.getUrlDecoder().decode(token);
+        if (bytes.length != length || bytes[0] != kind) throw new IllegalArgumentException("Malformed cursor");
+
+        return ByteBuffer.wrap(bytes, 1, length - 1);
+    }
+}
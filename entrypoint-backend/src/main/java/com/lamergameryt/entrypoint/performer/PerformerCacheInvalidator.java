@@ -0,0 +1,46 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.performer;
+
+import com.lamergameryt.entrypoint.model.PerformerModel;
+import com.lamergameryt.entrypoint.service.PerformerService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Evicts a performer from the shared performer cache whenever it is updated or removed. New performers are not cached
+ * yet, so they need no eviction.
+ *
+ * <p>Created by Hibernate through the Spring bean container, like
+ * {@link com.lamergameryt.entrypoint.listing.EventListingInvalidator}.
+ */
+public class PerformerCacheInvalidator {
+    private final ObjectProvider<PerformerService> performerService;
+
+    public PerformerCacheInvalidator(ObjectProvider<PerformerService> performerService) {
+        this.performerService = performerService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void changed(PerformerModel performer) {
+        performerService.ifAvailable(service -> service.evict(performer.getId()));
+    }
+}
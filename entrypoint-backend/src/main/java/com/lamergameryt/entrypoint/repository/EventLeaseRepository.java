@@ -0,0 +1,111 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.repository;
+
+import com.lamergameryt.entrypoint.model.EventLeaseModel;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface EventLeaseRepository extends JpaRepository<EventLeaseModel, Long> {
+    /**
+     * Take the lease of an event if it is already held by the node or has expired. <br>
+     * <br>
+     * Important: This is a single conditional update, so of several nodes racing for an expired lease only one
+     * succeeds.
+     *
+     * @param fencingToken The token of the lease if it passes from another node, the current token is kept otherwise
+     * @return The number of updated leases, 0 if the event has no lease or it is held by another node
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventLeaseModel l SET l.fencingToken = CASE WHEN l.owner = :owner THEN l.fencingToken "
+            + "ELSE :fencingToken END, l.owner = :owner, l.ownerUrl = :ownerUrl, l.expiresAt = :expiresAt "
+            + "WHERE l.eventId = :eventId AND (l.owner = :owner OR l.expiresAt < :now)")
+    int takeOver(
+            long eventId,
+            String owner,
+            @Nullable String ownerUrl,
+            LocalDateTime expiresAt,
+            LocalDateTime now,
+            long fencingToken);
+
+    /**
+     * Create the lease of an event which has none. Fails with a
+     * {@link org.springframework.dao.DataIntegrityViolationException} if another node created it first.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO event_leases (event_id, owner, owner_url, expires_at, fencing_token) "
+                    + "VALUES (:eventId, :owner, :ownerUrl, :expiresAt, :fencingToken)",
+            nativeQuery = true)
+    int insertLease(long eventId, String owner, @Nullable String ownerUrl, LocalDateTime expiresAt, long fencingToken);
+
+    /**
+     * Lock the lease of an event for the rest of the current transaction. <br>
+     * <br>
+     * Important: a node taking the event over waits for the lock, so writes made in the same transaction as a check of
+     * the lease commit before the event can change hands.
+     *
+     * @param eventId The id of the event
+     * @return The lease, empty if the event has none
+     */
+    @Query(value = "SELECT * FROM event_leases WHERE event_id = :eventId FOR UPDATE", nativeQuery = true)
+    Optional<EventLeaseModel> lockById(long eventId);
+
+    /**
+     * Extend every lease the node still holds, as a single set-based update. Leases which have already expired are
+     * left alone, as another node may have taken them over.
+     *
+     * @return The number of renewed leases
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventLeaseModel l SET l.expiresAt = :expiresAt WHERE l.owner = :owner AND l.expiresAt >= :now")
+    int renew(String owner, LocalDateTime expiresAt, LocalDateTime now);
+
+    @Query("SELECT l.eventId FROM EventLeaseModel l WHERE l.owner = :owner AND l.expiresAt >= :now")
+    List<Long> findEventIdsHeldBy(String owner, LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM EventLeaseModel l WHERE l.owner = :owner")
+    int releaseAll(String owner);
+
+    /**
+     * Delete the expired leases of events which have started. Leases of upcoming events are kept once expired, so a
+     * node which lost a lease can still tell whether another node took the event over since.
+     *
+     * @param cutoff The time before which the lease must have expired and the event must have started
+     * @return The number of deleted leases
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM EventLeaseModel l WHERE l.expiresAt < :cutoff "
+            + "AND l.eventId IN (SELECT e.id FROM EventModel e WHERE e.startDate < :cutoff)")
+    int deleteExpiredOfStartedBefore(LocalDateTime cutoff);
+}
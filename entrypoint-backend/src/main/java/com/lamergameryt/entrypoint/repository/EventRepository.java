@@ -18,12 +18,23 @@
 
 package com.lamergameryt.entrypoint.repository;
 
+import com.lamergameryt.entrypoint.config.CacheRegions;
+import com.lamergameryt.entrypoint.dto.projection.EventPerformerLink;
+import com.lamergameryt.entrypoint.dto.projection.EventRow;
 import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.search.IndexedEvent;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -41,6 +52,127 @@ public interface EventRepository extends JpaRepository<EventModel, Long> {
     @EntityGraph(attributePaths = "performers")
     List<EventModel> findAllByStartDateBetween(LocalDateTime startDateAfter, LocalDateTime startDateBefore);
 
+    /**
+     * Read the start date of an event. The result is kept in the query cache until the events table is written, like
+     * the other finders keyed by ids. Finders bounded by the current time are not cached, as no two calls share a key.
+     *
+     * @param eventId The id of the event
+     * @return The start date, empty if the event does not exist
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.EVENT_QUERIES)
+    })
+    @Query("SELECT e.startDate FROM EventModel e WHERE e.id = :eventId")
+    Optional<LocalDateTime> findStartDateById(long eventId);
+
+    @Query("SELECT e.id FROM EventModel e WHERE e.startDate > :startDateAfter")
+    List<Long> findIdsByStartDateAfter(LocalDateTime startDateAfter);
+
+    /**
+     * Read the searchable fields of the events following an id, in ascending id order, to build the search index in
+     * batches.
+     *
+     * @param afterId The id after which to start, exclusive
+     * @param limit The maximum number of events to read
+     * @return The searchable fields of the events
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.search.IndexedEvent(e.id, e.name, e.startDate) FROM EventModel e "
+            + "WHERE e.id > :afterId ORDER BY e.id")
+    List<IndexedEvent> findIndexedEventsAfter(long afterId, Limit limit);
+
+    /**
+     * Find the ids of a page of the events starting within a range, in start date and id order, continuing after the
+     * last event of the previous page. <br>
+     * <br>
+     * Important: the (start_date, id) index serves the page as a range scan, so every page costs the same.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, inclusive
+     * @param afterDate The start date of the last event of the previous page
+     * @param afterId The id of the last event of the previous page, exclusive
+     * @param limit The maximum number of events
+     * @return The ids of the events
+     */
+    @Query("SELECT e.id FROM EventModel e WHERE e.startDate >= :from AND e.startDate <= :to "
+            + "AND (e.startDate > :afterDate OR (e.startDate = :afterDate AND e.id > :afterId)) "
+            + "ORDER BY e.startDate, e.id")
+    List<Long> findPageIds(
+            LocalDateTime from, LocalDateTime to, LocalDateTime afterDate, long afterId, Limit limit);
+
+    /**
+     * Read the columns of the events starting within a range, without their performers, see
+     * {@link com.lamergameryt.entrypoint.service.PerformerService#withPerformers(List)}.
+     *
+     * @param startDateAfter The start of the range, inclusive
+     * @param startDateBefore The end of the range, inclusive
+     * @return The events in no particular order
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.projection.EventRow(e.id, e.name, e.description, e.startDate) "
+            + "FROM EventModel e WHERE e.startDate BETWEEN :startDateAfter AND :startDateBefore")
+    List<EventRow> findRowsByStartDateBetween(LocalDateTime startDateAfter, LocalDateTime startDateBefore);
+
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.projection.EventRow(e.id, e.name, e.description, e.startDate) "
+            + "FROM EventModel e WHERE e.id IN :ids")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.EVENT_QUERIES)
+    })
+    List<EventRow> findRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * Find the soonest events whose name contains a string, ignoring case. Used while the search index is not built.
+     *
+     * @param name The string the names contain
+     * @param startDate The time after which the events start, exclusive
+     * @param limit The maximum number of events to return
+     * @return The matching events, ordered by start date
+     */
+    List<EventRow> findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate(
+            String name, LocalDateTime startDate, Limit limit);
+
+    /**
+     * Read the columns of the events sorting after a start date and id, in start date and id order, to load the
+     * calendar of upcoming events in batches.
+     *
+     * @param afterDate The start date after which to start
+     * @param afterId The id after which to start among events starting at {@code afterDate}, exclusive
+     * @param limit The maximum number of events
+     * @return The events
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.projection.EventRow(e.id, e.name, e.description, e.startDate) "
+            + "FROM EventModel e WHERE e.startDate > :afterDate OR (e.startDate = :afterDate AND e.id > :afterId) "
+            + "ORDER BY e.startDate, e.id")
+    List<EventRow> findRowsAfter(LocalDateTime afterDate, long afterId, Limit limit);
+
+    /**
+     * Read the columns of the events following an id which start after a time, in ascending id order, to pick up
+     * events created since a given one.
+     *
+     * @param afterId The id after which to start, exclusive
+     * @param startDateAfter The time after which the events start, exclusive
+     * @param limit The maximum number of events
+     * @return The events
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.projection.EventRow(e.id, e.name, e.description, e.startDate) "
+            + "FROM EventModel e WHERE e.id > :afterId AND e.startDate > :startDateAfter ORDER BY e.id")
+    List<EventRow> findRowsByIdAfter(long afterId, LocalDateTime startDateAfter, Limit limit);
+
+    /**
+     * Read which performers appear at a set of events, from the join table only. Every link is a single row, so unlike
+     * fetching the performers with the events, the result does not multiply the columns of an event per performer.
+     *
+     * @param eventIds The ids of the events
+     * @return The links ordered by performer id
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.projection.EventPerformerLink(e.id, p.id) "
+            + "FROM EventModel e JOIN e.performers p WHERE e.id IN :eventIds ORDER BY p.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.EVENT_QUERIES)
+    })
+    List<EventPerformerLink> findPerformerLinksByEventIdIn(Collection<Long> eventIds);
+
     default List<EventModel> filterEvents(@NotNull LocalDateTime startDateAfter) {
         return this.findAllByStartDateAfter(startDateAfter);
     }
@@ -0,0 +1,96 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.repository;
+
+import com.lamergameryt.entrypoint.model.IdempotencyKeyModel;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyModel, String> {
+    /**
+     * Claim an unused idempotency key by inserting it without a response. Fails with a
+     * {@link org.springframework.dao.DataIntegrityViolationException} if the key was already claimed.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO idempotency_keys (idempotency_key, fingerprint, status_code, body, created_at) "
+                    + "VALUES (:key, :fingerprint, 0, :body, :createdAt)",
+            nativeQuery = true)
+    int insertClaim(String key, byte[] fingerprint, byte[] body, LocalDateTime createdAt);
+
+    /**
+     * Claim an idempotency key again if its response expired, or if it was claimed before the cutoff and never
+     * completed. <br>
+     * <br>
+     * Important: This is a single conditional update, so of several requests racing for the key only one succeeds.
+     *
+     * @return The number of claimed keys, 0 if the key is in use
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE IdempotencyKeyModel k SET k.fingerprint = :fingerprint, k.statusCode = 0, k.contentType = NULL, "
+            + "k.body = :body, k.createdAt = :createdAt WHERE k.key = :key "
+            + "AND (k.createdAt < :expiredBefore OR (k.statusCode = 0 AND k.createdAt < :abandonedBefore))")
+    int takeOver(
+            String key,
+            byte[] fingerprint,
+            byte[] body,
+            LocalDateTime createdAt,
+            LocalDateTime expiredBefore,
+            LocalDateTime abandonedBefore);
+
+    /**
+     * Store the response to a claimed idempotency key.
+     *
+     * @return The number of updated keys, 0 if the key is no longer claimed
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE IdempotencyKeyModel k SET k.statusCode = :statusCode, k.contentType = :contentType, k.body = :body "
+            + "WHERE k.key = :key AND k.statusCode = 0")
+    int complete(String key, int statusCode, @Nullable String contentType, byte[] body);
+
+    /**
+     * Give up the claim on an idempotency key which has no response, so the key can be claimed again.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyKeyModel k WHERE k.key = :key AND k.statusCode = 0")
+    int release(String key);
+
+    /**
+     * Delete every stored response created before the cutoff, as a single set-based delete. <br>
+     * <br>
+     * Important: created_at is present as an index.
+     *
+     * @param cutoff The time before which stored responses are deleted
+     * @return The number of deleted responses
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyKeyModel k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,42 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.repository;
+
+import com.lamergameryt.entrypoint.config.CacheRegions;
+import com.lamergameryt.entrypoint.dto.PerformerDto;
+import com.lamergameryt.entrypoint.model.PerformerModel;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PerformerRepository extends JpaRepository<PerformerModel, Long> {
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.PerformerDto(p.id, p.name, p.description) FROM PerformerModel p "
+            + "WHERE p.id IN :ids")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PERFORMER_QUERIES)
+    })
+    List<PerformerDto> findDtosByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,40 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.repository;
+
+import com.lamergameryt.entrypoint.model.ReplicationHeartbeatModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ReplicationHeartbeatRepository extends JpaRepository<ReplicationHeartbeatModel, Integer> {
+    /**
+     * Write a new beat to an existing heartbeat, without reading it first. The beat is the current time of the
+     * database, never of the calling instance.
+     *
+     * @return The number of updated heartbeats, 0 if the heartbeat does not exist yet
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReplicationHeartbeatModel h SET h.beat = CURRENT_TIMESTAMP WHERE h.id = :id")
+    int beat(int id);
+}
@@ -0,0 +1,88 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.repository;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import lombok.val;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Set-based writes to the {@code tickets} table which bypass the persistence context and are sent as JDBC batches.
+ *
+ * <p>Statuses are written by ordinal, matching the {@link jakarta.persistence.EnumType#ORDINAL} mapping of
+ * {@link com.lamergameryt.entrypoint.model.TicketModel#getStatus()}.
+ */
+@Repository
+public class TicketBatchRepository {
+    private static final String INSERT_TICKET_SQL =
+            "INSERT INTO tickets (event_id, seat_number, status, version) VALUES (?, ?, ?, 0)";
+    private static final String UPDATE_STATE_SQL = "UPDATE tickets SET status = ?, purchased_by_user_id = ?, "
+            + "reserved_until = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert available tickets for an event in batches. With {@code rewriteBatchedStatements} enabled on the MySQL
+     * driver, every batch is sent as a single multi-row INSERT.
+     *
+     * @param eventId The id of the event
+     * @param seatNumbers The seat numbers of the tickets to insert
+     * @param batchSize The maximum number of rows per JDBC batch
+     * @return The number of inserted tickets
+     */
+    public int insertTickets(long eventId, Collection<String> seatNumbers, int batchSize) {
+        val counts = jdbcTemplate.batchUpdate(INSERT_TICKET_SQL, seatNumbers, batchSize, (statement, seatNumber) -> {
+            statement.setLong(1, eventId);
+            statement.setString(2, seatNumber);
+            statement.setInt(3, TicketStatus.NOT_BOOKED.ordinal());
+        });
+
+        // Rewritten batches report Statement.SUCCESS_NO_INFO instead of a row count
+        return (int) Arrays.stream(counts)
+                .flatMapToInt(Arrays::stream)
+                .filter(count -> count != 0)
+                .count();
+    }
+
+    /**
+     * Write the status, holder and reservation expiry of every ticket in batches.
+     *
+     * @param states The states to write
+     * @param batchSize The maximum number of statements per JDBC batch
+     */
+    public void updateStates(Collection<TicketState> states, int batchSize) {
+        jdbcTemplate.batchUpdate(UPDATE_STATE_SQL, states, batchSize, (statement, state) -> {
+            statement.setInt(1, state.status().ordinal());
+            if (state.userId() == null) statement.setNull(2, Types.BIGINT);
+            else statement.setLong(2, state.userId());
+            if (state.reservedUntil() == null) statement.setNull(3, Types.TIMESTAMP);
+            else statement.setObject(3, state.reservedUntil());
+            statement.setLong(4, state.id());
+        });
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.repository;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.enums.TransitionType;
+import com.lamergameryt.entrypoint.ledger.TicketTransition;
+import jakarta.annotation.Nullable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lombok.val;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Appends to and reads from the {@code ticket_transitions} ledger without going through the persistence context.
+ *
+ * <p>Statuses and kinds of change are written by ordinal, matching the mapping of
+ * {@link com.lamergameryt.entrypoint.model.TicketTransitionModel}.
+ */
+@Repository
+public class TicketLedgerRepository {
+    private static final String INSERT_TRANSITION_SQL = "INSERT INTO ticket_transitions (event_id, ticket_id, type, "
+            + "seat_number, from_status, from_user_id, status, user_id, reserved_until, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_TAIL_SQL = "SELECT id, event_id, ticket_id, type, seat_number, from_status, "
+            + "from_user_id, status, user_id, reserved_until, created_at FROM ticket_transitions "
+            + "WHERE event_id = ? AND id > ? ORDER BY id";
+    private static final String SELECT_POSITION_SQL = "SELECT COALESCE(MAX(id), 0) FROM ticket_transitions";
+    private static final String SELECT_IDS_SQL =
+            "SELECT id FROM ticket_transitions WHERE id > ? AND id <= ? ORDER BY id";
+
+    private static final TransitionType[] TYPES = TransitionType.values();
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketLedgerRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Append transitions to the ledger in batches, in the given order.
+     *
+     * @param transitions The transitions to append
+     * @param batchSize The maximum number of rows per JDBC batch
+     */
+    public void append(Collection<TicketTransition> transitions, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, transitions, batchSize, (statement, transition) -> {
+            statement.setLong(1, transition.eventId());
+            statement.setLong(2, transition.ticketId());
+            statement.setInt(3, transition.type().ordinal());
+            statement.setString(4, transition.seatNumber());
+            setStatus(statement, 5, transition.fromStatus());
+            setId(statement, 6, transition.fromUserId());
+            setStatus(statement, 7, transition.status());
+            setId(statement, 8, transition.userId());
+            if (transition.reservedUntil() == null) statement.setNull(9, Types.TIMESTAMP);
+            else statement.setObject(9, transition.reservedUntil());
+            statement.setObject(10, transition.createdAt());
+        });
+    }
+
+    /**
+     * Read every transition of an event after a position in the ledger. <br>
+     * <br>
+     * Important: event_id, id is present as an index.
+     *
+     * @param eventId The id of the event
+     * @param afterPosition The ledger position to read after, 0 to read the whole history of the event
+     * @return The transitions in ledger order
+     */
+    public List<TicketTransition> findTail(long eventId, long afterPosition) {
+        return jdbcTemplate.query(SELECT_TAIL_SQL, TicketLedgerRepository::mapTransition, eventId, afterPosition);
+    }
+
+    /**
+     * Read every transition of an event after a position in the ledger, along with the transitions at ids up to the
+     * position which held no committed entry when the position was taken.
+     *
+     * @param eventId The id of the event
+     * @param afterPosition The ledger position to read after
+     * @param missedIds The ids up to the position to read as well, in ascending order
+     * @return The transitions in ledger order
+     */
+    public List<TicketTransition> findTail(long eventId, long afterPosition, long[] missedIds) {
+        if (missedIds.length == 0) return this.findTail(eventId, afterPosition);
+
+        val transitions = new ArrayList<TicketTransition>();
+        RowCallbackHandler handler = row -> {
+            val id = row.getLong("id");
+            if (id > afterPosition || Arrays.binarySearch(missedIds, id) >= 0)
+                transitions.add(mapTransition(row, transitions.size()));
+        };
+
+        jdbcTemplate.query(SELECT_TAIL_SQL, handler, eventId, missedIds[0] - 1);
+        return transitions;
+    }
+
+    /**
+     * The position is the highest id assigned so far, which is not reached in commit order. Entries at lower ids may
+     * still commit afterward, see {@link #findMissingIds}.
+     *
+     * @return The position of the last entry appended to the ledger, 0 if it is empty
+     */
+    public long findPosition() {
+        val position = jdbcTemplate.queryForObject(SELECT_POSITION_SQL, Long.class);
+        return position == null ? 0 : position;
+    }
+
+    /**
+     * Find the ids in a range of the ledger which hold no committed entry, either because their entry is still being
+     * appended or because its append was rolled back. <br>
+     * <br>
+     * Important: id is the primary key, so only the range is read.
+     *
+     * @param afterPosition The position to start after, exclusive
+     * @param position The position to end at, inclusive
+     * @return The missing ids in ascending order
+     */
+    public long[] findMissingIds(long afterPosition, long position) {
+        val present = jdbcTemplate.queryForList(SELECT_IDS_SQL, Long.class, afterPosition, position);
+        val missing = new long[(int) (position - afterPosition) - present.size()];
+        int count = 0;
+        long expected = afterPosition + 1;
+        for (val id : present) {
+            while (expected < id) missing[count++] = expected++;
+            expected = id + 1;
+        }
+
+        while (expected <= position) missing[count++] = expected++;
+        return missing;
+    }
+
+    private static TicketTransition mapTransition(ResultSet row, int rowNumber) throws SQLException {
+        return new TicketTransition(
+                row.getLong("event_id"),
+                row.getLong("ticket_id"),
+                TYPES[row.getInt("type")],
+                row.getString("seat_number"),
+                getStatus(row, "from_status"),
+                row.getObject("from_user_id", Long.class),
+                getStatus(row, "status"),
+                row.getObject("user_id", Long.class),
+                row.getObject("reserved_until", LocalDateTime.class),
+                row.getObject("created_at", LocalDateTime.class));
+    }
+
+    private static void setStatus(PreparedStatement statement, int index, @Nullable TicketStatus status)
+            throws SQLException {
+        if (status == null) statement.setNull(index, Types.INTEGER);
+        else statement.setInt(index, status.ordinal());
+    }
+
+    private static void setId(PreparedStatement statement, int index, @Nullable Long id) throws SQLException {
+        if (id == null) statement.setNull(index, Types.BIGINT);
+        else statement.setLong(index, id);
+    }
+
+    @Nullable private static TicketStatus getStatus(ResultSet row, String column) throws SQLException {
+        val ordinal = row.getInt(column);
+        return row.wasNull() ? null : STATUSES[ordinal];
+    }
+}
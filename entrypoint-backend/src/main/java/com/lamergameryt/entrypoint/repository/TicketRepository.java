@@ -18,17 +18,33 @@
 
 package com.lamergameryt.entrypoint.repository;
 
+import com.lamergameryt.entrypoint.dto.TicketDto;
 import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.ReservationHold;
+import com.lamergameryt.entrypoint.inventory.StatusCount;
+import com.lamergameryt.entrypoint.inventory.TicketState;
 import com.lamergameryt.entrypoint.model.TicketModel;
+import com.lamergameryt.entrypoint.model.UserModel;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface TicketRepository extends JpaRepository<TicketModel, Long> {
+    String STREAM_FETCH_SIZE = "1000";
+
     /**
      * Find all tickets for the specified event_id and status. <br>
      * <br>
@@ -42,7 +58,263 @@ public interface TicketRepository extends JpaRepository<TicketModel, Long> {
 
     List<TicketModel> findAllByEvent_Id(long eventId);
 
+    /**
+     * Find the bookable state of all tickets for an event without hydrating the ticket entities.
+     *
+     * @param eventId The id of the event
+     * @return The ticket states ordered by ticket id
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.inventory.TicketState(t.id, t.seatNumber, t.status, "
+            + "t.purchasedByUser.id, t.reservedUntil) FROM TicketModel t WHERE t.event.id = :eventId ORDER BY t.id")
+    List<TicketState> findStatesByEventId(long eventId);
+
+    /**
+     * Find a page of tickets for an event, continuing after the last ticket of the previous page. Only the columns of
+     * the response are selected, straight into DTOs. <br>
+     * <br>
+     * Important: the (event_id, id) index serves the page as a range scan, so every page costs the same.
+     *
+     * @param eventId The id of the event
+     * @param afterId The id after which to start, exclusive
+     * @param limit The maximum number of tickets
+     * @return The tickets ordered by ticket id
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.TicketDto(t.id, t.event.id, t.seatNumber, t.status) "
+            + "FROM TicketModel t WHERE t.event.id = :eventId AND t.id > :afterId ORDER BY t.id")
+    List<TicketDto> findDtosByEventIdAfter(long eventId, long afterId, Limit limit);
+
+    /**
+     * Find a page of tickets for an event in a status, continuing after the last ticket of the previous page. Served
+     * by the (event_id, status, id) index.
+     *
+     * @see #findDtosByEventIdAfter(long, long, Limit)
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.TicketDto(t.id, t.event.id, t.seatNumber, t.status) "
+            + "FROM TicketModel t WHERE t.event.id = :eventId AND t.status = :status AND t.id > :afterId ORDER BY t.id")
+    List<TicketDto> findDtosByEventIdAndStatusAfter(long eventId, TicketStatus status, long afterId, Limit limit);
+
+    /**
+     * Stream every ticket for an event as DTOs through a forward-only cursor. Rows are fetched from the database
+     * {@value #STREAM_FETCH_SIZE} at a time, so only one fetch is held in memory however many tickets the event has.
+     * <br>
+     * <br>
+     * Important: the stream must be consumed and closed within a transaction. On MySQL the fetch size only applies
+     * with {@code useCursorFetch} enabled on the driver, otherwise the whole result is read at once.
+     *
+     * @param eventId The id of the event
+     * @return The tickets ordered by ticket id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.lamergameryt.entrypoint.dto.TicketDto(t.id, t.event.id, t.seatNumber, t.status) "
+            + "FROM TicketModel t WHERE t.event.id = :eventId ORDER BY t.id")
+    Stream<TicketDto> streamDtosByEventId(long eventId);
+
+    /**
+     * Count the tickets of every event in every status. <br>
+     * <br>
+     * Important: event_id is present as an index, only the tickets of the given events are grouped.
+     *
+     * @param eventIds The ids of the events
+     * @return The number of tickets per event and status, statuses without tickets are omitted
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.inventory.StatusCount(t.event.id, t.status, COUNT(t)) "
+            + "FROM TicketModel t WHERE t.event.id IN :eventIds GROUP BY t.event.id, t.status")
+    List<StatusCount> countByStatus(Collection<Long> eventIds);
+
+    /**
+     * Find which of the seat numbers already exist for an event. <br>
+     * <br>
+     * Important: (event_id, seat_number) is present as a unique index, the ticket rows are never read.
+     *
+     * @param eventId The id of the event
+     * @param seatNumbers The seat numbers to look up
+     * @return The seat numbers which already have a ticket
+     */
+    @Query("SELECT t.seatNumber FROM TicketModel t WHERE t.event.id = :eventId AND t.seatNumber IN :seatNumbers")
+    Set<String> findSeatNumbers(long eventId, Collection<String> seatNumbers);
+
+    /**
+     * Find every pending reservation so their expiry can be scheduled again after a restart. <br>
+     * <br>
+     * Important: (status, reserved_until) is present as an index, only reserved tickets are read.
+     *
+     * @param reserved The status of a reserved ticket
+     * @return The holds of all reserved tickets
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.inventory.ReservationHold(t.id, t.event.id, t.purchasedByUser.id, "
+            + "t.reservedUntil) FROM TicketModel t WHERE t.status = :reserved AND t.purchasedByUser IS NOT NULL")
+    List<ReservationHold> findHolds(TicketStatus reserved);
+
+    /**
+     * Find the pending reservations of an event so their expiry can be scheduled on the node taking it over. <br>
+     * <br>
+     * Important: (event_id, status, id) is present as an index, only reserved tickets of the event are read.
+     *
+     * @param eventId The id of the event
+     * @param reserved The status of a reserved ticket
+     * @return The holds of the reserved tickets of the event
+     */
+    @Query("SELECT new com.lamergameryt.entrypoint.inventory.ReservationHold(t.id, t.event.id, t.purchasedByUser.id, "
+            + "t.reservedUntil) FROM TicketModel t "
+            + "WHERE t.event.id = :eventId AND t.status = :reserved AND t.purchasedByUser IS NOT NULL")
+    List<ReservationHold> findHoldsByEventId(long eventId, TicketStatus reserved);
+
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("DELETE FROM TicketModel t WHERE t.id = :ticketId AND t.event.id = :eventId")
     int deleteByIdAndEventId(long ticketId, long eventId);
+
+    boolean existsByIdAndEvent_Id(long ticketId, long eventId);
+
+    /**
+     * Reserve a ticket for a user if it is still available. <br>
+     * <br>
+     * Important: the status check and the write are a single conditional UPDATE, the ticket is never loaded. Of any
+     * number of concurrent callers for the same ticket, exactly one sees an update count of 1.
+     *
+     * @param eventId The id of the event
+     * @param ticketId The id of the ticket
+     * @param user The user holding the reservation
+     * @param reservedUntil The time at which the reservation expires
+     * @param available The status of an available ticket
+     * @param reserved The status of a reserved ticket
+     * @return The number of updated tickets, 0 if the ticket was not available
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TicketModel t SET t.version = t.version + 1, t.status = :reserved, t.purchasedByUser = :user, "
+            + "t.reservedUntil = :reservedUntil "
+            + "WHERE t.id = :ticketId AND t.event.id = :eventId AND t.status = :available")
+    int reserveTicket(
+            long eventId,
+            long ticketId,
+            UserModel user,
+            LocalDateTime reservedUntil,
+            TicketStatus available,
+            TicketStatus reserved);
+
+    /**
+     * Book a ticket which is currently reserved by the same user.
+     *
+     * @return The number of updated tickets, 0 if the ticket was not reserved by the user
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TicketModel t SET t.version = t.version + 1, t.status = :booked, t.reservedUntil = NULL "
+            + "WHERE t.id = :ticketId AND t.event.id = :eventId AND t.status = :reserved "
+            + "AND t.purchasedByUser.id = :userId")
+    int bookTicket(long eventId, long ticketId, long userId, TicketStatus reserved, TicketStatus booked);
+
+    /**
+     * Release a ticket reserved by the user and make it available again.
+     *
+     * @return The number of updated tickets, 0 if the ticket was not reserved by the user
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TicketModel t SET t.version = t.version + 1, t.status = :available, t.purchasedByUser = NULL, "
+            + "t.reservedUntil = NULL "
+            + "WHERE t.id = :ticketId AND t.event.id = :eventId AND t.status = :reserved "
+            + "AND t.purchasedByUser.id = :userId")
+    int releaseTicket(long eventId, long ticketId, long userId, TicketStatus reserved, TicketStatus available);
+
+    /**
+     * Lock the rows of several tickets for the rest of the current transaction. <br>
+     * <br>
+     * Important: rows are locked in ascending id order, so transactions locking overlapping groups of tickets wait for
+     * each other instead of deadlocking.
+     *
+     * @param eventId The id of the event
+     * @param ticketIds The ids of the tickets
+     * @return The ids of the locked tickets which belong to the event
+     */
+    @Query(
+            value = "SELECT id FROM tickets WHERE event_id = :eventId AND id IN (:ticketIds) ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockAllById(long eventId, Collection<Long> ticketIds);
+
+    /**
+     * Reserve several tickets for a user if they are still available. Must run in the transaction which
+     * {@linkplain #lockAllById(long, Collection) locked} the tickets, and be rolled back unless every ticket was
+     * updated.
+     *
+     * @return The number of updated tickets
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TicketModel t SET t.version = t.version + 1, t.status = :reserved, t.purchasedByUser = :user, "
+            + "t.reservedUntil = :reservedUntil "
+            + "WHERE t.id IN :ticketIds AND t.event.id = :eventId AND t.status = :available")
+    int reserveTickets(
+            long eventId,
+            Collection<Long> ticketIds,
+            UserModel user,
+            LocalDateTime reservedUntil,
+            TicketStatus available,
+            TicketStatus reserved);
+
+    /**
+     * Book several tickets which are currently reserved by the same user. Must run in the transaction which
+     * {@linkplain #lockAllById(long, Collection) locked} the tickets, and be rolled back unless every ticket was
+     * updated.
+     *
+     * @return The number of updated tickets
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TicketModel t SET t.version = t.version + 1, t.status = :booked, t.reservedUntil = NULL "
+            + "WHERE t.id IN :ticketIds AND t.event.id = :eventId AND t.status = :reserved "
+            + "AND t.purchasedByUser.id = :userId")
+    int bookTickets(long eventId, Collection<Long> ticketIds, long userId, TicketStatus reserved, TicketStatus booked);
+
+    /**
+     * Release every reservation among the tickets whose hold has run out, as a single set-based update. Reservations
+     * which were renewed in the meantime carry a later expiry and are left untouched.
+     *
+     * @param ticketIds The ids of the tickets with expiring reservations
+     * @param now The current time
+     * @return The number of released tickets
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TicketModel t SET t.version = t.version + 1, t.status = :available, t.purchasedByUser = NULL, "
+            + "t.reservedUntil = NULL "
+            + "WHERE t.id IN :ticketIds AND t.status = :reserved "
+            + "AND (t.reservedUntil IS NULL OR t.reservedUntil <= :now)")
+    int releaseExpired(Collection<Long> ticketIds, LocalDateTime now, TicketStatus reserved, TicketStatus available);
+
+    default int reserveTicket(
+            long eventId, long ticketId, @NotNull UserModel user, @NotNull LocalDateTime reservedUntil) {
+        return this.reserveTicket(
+                eventId, ticketId, user, reservedUntil, TicketStatus.NOT_BOOKED, TicketStatus.RESERVED);
+    }
+
+    default int bookTicket(long eventId, long ticketId, long userId) {
+        return this.bookTicket(eventId, ticketId, userId, TicketStatus.RESERVED, TicketStatus.BOOKED);
+    }
+
+    default int releaseTicket(long eventId, long ticketId, long userId) {
+        return this.releaseTicket(eventId, ticketId, userId, TicketStatus.RESERVED, TicketStatus.NOT_BOOKED);
+    }
+
+    default int reserveTickets(
+            long eventId, Collection<Long> ticketIds, @NotNull UserModel user, @NotNull LocalDateTime reservedUntil) {
+        return this.reserveTickets(
+                eventId, ticketIds, user, reservedUntil, TicketStatus.NOT_BOOKED, TicketStatus.RESERVED);
+    }
+
+    default int bookTickets(long eventId, Collection<Long> ticketIds, long userId) {
+        return this.bookTickets(eventId, ticketIds, userId, TicketStatus.RESERVED, TicketStatus.BOOKED);
+    }
+
+    default int releaseExpired(Collection<Long> ticketIds, LocalDateTime now) {
+        return this.releaseExpired(ticketIds, now, TicketStatus.RESERVED, TicketStatus.NOT_BOOKED);
+    }
+
+    default List<ReservationHold> findHolds() {
+        return this.findHolds(TicketStatus.RESERVED);
+    }
+
+    default List<ReservationHold> findHoldsByEventId(long eventId) {
+        return this.findHoldsByEventId(eventId, TicketStatus.RESERVED);
+    }
 }
@@ -0,0 +1,340 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.val;
+
+/**
+ * A compressed trie (radix tree) answering prefix queries over the names of events and their performers.
+ *
+ * <p>Names are normalized like in the {@link TrigramIndex}, with runs of separators collapsed into single spaces and a
+ * space after the last word. Every name is inserted once from the start of each of its words, so a prefix matches any
+ * word of a name, and keys are cut off after {@value #MAX_KEY_LENGTH} characters. Edges carry whole runs of characters
+ * and are only split where keys diverge, so the trie holds roughly two nodes per key.
+ *
+ * <p>Every node keeps the best ranked events of its subtree, up to a fixed capacity, which are updated on the way down
+ * whenever an event is added. A query walks down the characters of the prefix and returns the list of the node it ends
+ * in, so it takes time in the length of the prefix, independent of the number of events.
+ *
+ * <p>The keys of every event are kept, so a changed event can be removed from the lists along them and added again.
+ * The events which a removed event displaced from a list are not restored, so a list may hold fewer events than its
+ * subtree until the trie is built again. All methods are thread-safe.
+ */
+public final class SuggestionTrie {
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final int capacity;
+    private final Node root = new Node("");
+    private final Map<Long, List<String>> keysById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * An event reachable through the trie.
+     *
+     * @param id The id of the event
+     * @param rank The rank of the event, higher ranks are suggested first
+     */
+    public record Entry(long id, double rank) {
+        private boolean isBefore(Entry other) {
+            return rank > other.rank || (rank == other.rank && id < other.id);
+        }
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] best = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                val middle = (low + high) >>> 1;
+                val c = children[middle].label.charAt(0);
+                if (c < first) low = middle + 1;
+                else if (c > first) high = middle - 1;
+                else return middle;
+            }
+
+            return -(low + 1);
+        }
+
+        private void addChild(Node child) {
+            val index = -this.indexOf(child.label.charAt(0)) - 1;
+            val grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        /**
+         * Insert an event into the list of the best events of this subtree, if it ranks high enough.
+         */
+        private void offer(Entry entry, int capacity) {
+            for (val present : best) if (present.id() == entry.id()) return;
+            if (best.length == capacity && !entry.isBefore(best[capacity - 1])) return;
+
+            int index = best.length;
+            while (index > 0 && entry.isBefore(best[index - 1])) index--;
+
+            val length = Math.min(best.length + 1, capacity);
+            val offered = new Entry[length];
+            System.arraycopy(best, 0, offered, 0, index);
+            offered[index] = entry;
+            System.arraycopy(best, index, offered, index + 1, length - index - 1);
+            best = offered;
+        }
+
+        private void remove(long id) {
+            for (int index = 0; index < best.length; index++) {
+                if (best[index].id() != id) continue;
+
+                val removed = new Entry[best.length - 1];
+                System.arraycopy(best, 0, removed, 0, index);
+                System.arraycopy(best, index + 1, removed, index, removed.length - index);
+                best = removed;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param capacity The maximum number of events kept per prefix
+     */
+    public SuggestionTrie(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("The capacity must be positive");
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Add an event under each of its names. Events which were already added are left untouched.
+     *
+     * @param entry The event and its rank
+     * @param names The names to find the event by, such as its own name and those of its performers
+     * @return {@code true} if the event was added
+     */
+    public boolean add(Entry entry, Collection<String> names) {
+        val keys = keysOf(names);
+        if (keys.isEmpty()) return false;
+
+        lock.writeLock().lock();
+        try {
+            if (keysById.containsKey(entry.id())) return false;
+
+            this.insert(entry, keys);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add an event under each of its names, replacing the names and rank it was added with before.
+     *
+     * @param entry The event and its rank
+     * @param names The names to find the event by, such as its own name and those of its performers
+     */
+    public void replace(Entry entry, Collection<String> names) {
+        val keys = keysOf(names);
+        lock.writeLock().lock();
+        try {
+            this.delete(entry.id());
+            if (!keys.isEmpty()) this.insert(entry, keys);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an event from the trie.
+     *
+     * @param id The id of the event
+     * @return {@code true} if the event was added before
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return this.delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of added events.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keysById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the best ranked events with a name containing a word which starts with a prefix.
+     *
+     * @param prefix The text typed so far, a trailing space only matches complete words
+     * @param limit The maximum number of events to return
+     * @return The matching events, best ranked first, empty if the prefix has no letters or digits
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        var key = collapse(TrigramIndex.normalize(prefix));
+        if (key.isBlank()) return List.of();
+        if (key.length() > MAX_KEY_LENGTH) key = key.substring(0, MAX_KEY_LENGTH);
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                val index = node.indexOf(key.charAt(position));
+                if (index < 0) return List.of();
+
+                val child = node.children[index];
+                val matched = Math.min(child.label.length(), key.length() - position);
+                if (!child.label.regionMatches(0, key, position, matched)) return List.of();
+
+                position += matched;
+                node = child;
+            }
+
+            return List.of(Arrays.copyOf(node.best, Math.min(limit, node.best.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Entry entry, List<String> keys) {
+        for (val key : keys) this.insert(key, entry);
+        keysById.put(entry.id(), keys);
+    }
+
+    private boolean delete(long id) {
+        val keys = keysById.remove(id);
+        if (keys == null) return false;
+
+        // Every key was inserted in full, so its path still exists, although edges may have been split since
+        for (val key : keys) {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                node = node.children[node.indexOf(key.charAt(position))];
+                node.remove(id);
+                position += node.label.length();
+            }
+        }
+
+        return true;
+    }
+
+    private void insert(String key, Entry entry) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            val index = node.indexOf(key.charAt(position));
+            if (index < 0) {
+                val leaf = new Node(key.substring(position));
+                leaf.offer(entry, capacity);
+                node.addChild(leaf);
+                return;
+            }
+
+            var child = node.children[index];
+            val label = child.label;
+            int common = 1;
+            while (common < label.length()
+                    && position + common < key.length()
+                    && label.charAt(common) == key.charAt(position + common)) common++;
+
+            // Split the edge where the key diverges, the upper half leads to the same events
+            if (common < label.length()) {
+                val split = new Node(label.substring(0, common));
+                split.best = child.best;
+                split.children = new Node[] {child};
+                child.label = label.substring(common);
+                node.children[index] = split;
+                child = split;
+            }
+
+            child.offer(entry, capacity);
+            position += common;
+            node = child;
+        }
+    }
+
+    private static List<String> keysOf(Collection<String> names) {
+        val keys = new LinkedHashSet<String>();
+        for (val name : names) keys.addAll(keys(name));
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Get the keys of a name, one starting at each of its words.
+     */
+    static List<String> keys(String name) {
+        val words = collapse(TrigramIndex.normalize(name)).strip();
+        if (words.isEmpty()) return List.of();
+
+        // A trailing space lets a prefix ending in a space match the last word as well
+        val normalized = words + " ";
+        val keys = new ArrayList<String>();
+        for (int start = 0; start < normalized.length(); start++) {
+            if (start > 0 && normalized.charAt(start - 1) != ' ') continue;
+
+            keys.add(normalized.substring(start, Math.min(normalized.length(), start + MAX_KEY_LENGTH)));
+        }
+
+        return keys;
+    }
+
+    /**
+     * Collapse every run of spaces into a single space and drop the leading ones.
+     */
+    private static String collapse(String text) {
+        val collapsed = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            val c = text.charAt(i);
+            if (c == ' ' && (collapsed.isEmpty() || collapsed.charAt(collapsed.length() - 1) == ' ')) continue;
+
+            collapsed.append(c);
+        }
+
+        return collapsed.toString();
+    }
+}
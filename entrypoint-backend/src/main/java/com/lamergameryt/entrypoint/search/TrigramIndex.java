@@ -0,0 +1,288 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.val;
+
+/**
+ * An inverted index from the trigrams of event names to the ids of the events containing them.
+ *
+ * <p>Names are lower-cased, stripped of accents and split into words on anything which is not a letter or digit. Every
+ * word is padded with two spaces in front and one behind before it is cut into trigrams, so short words and the start
+ * of words carry their own trigrams. A trigram is packed into a single {@code long} of three 16-bit characters.
+ *
+ * <p>A search matches every event sharing at least a minimum fraction of the trigrams of the query, which tolerates
+ * typos and reordered words. Since a match has to share that many trigrams, it must appear in at least one of the
+ * shortest posting lists beyond the required count. Only those lists are scanned for candidates, which are then looked
+ * up in the longer lists by binary search, so common trigrams never have their whole posting list scanned.
+ *
+ * <p>Matches are ranked by the fraction of the query they contain, then by the similarity of the whole name to the
+ * query, so shorter names containing the query rank first. Every event keeps its trigrams, so it can be removed from
+ * its posting lists again when it is changed. All methods are thread-safe.
+ */
+public final class TrigramIndex {
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long maxId;
+
+    /**
+     * An event matching a search.
+     *
+     * @param id The id of the event
+     * @param coverage The fraction of the trigrams of the query the name contains
+     * @param similarity The number of shared trigrams relative to the trigrams of the query and the name together
+     */
+    public record Match(long id, double coverage, double similarity) {}
+
+    private record Document(long startEpochSecond, long[] trigrams) {}
+
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+
+            // Ids are usually indexed in ascending order and appended
+            int index = size;
+            if (size > 0 && ids[size - 1] > id) index = -Arrays.binarySearch(ids, 0, size, id) - 1;
+
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private void remove(long id) {
+            val index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) return;
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+
+    /**
+     * Add an event to the index. Events which are already indexed are left untouched.
+     *
+     * @param event The event to add
+     * @return {@code true} if the event was added
+     */
+    public boolean add(IndexedEvent event) {
+        val trigrams = trigrams(event.name());
+        lock.writeLock().lock();
+        try {
+            if (documents.containsKey(event.id())) return false;
+
+            this.insert(event, trigrams);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add an event to the index, replacing the name and start date it was indexed with before.
+     *
+     * @param event The event to add
+     */
+    public void replace(IndexedEvent event) {
+        val trigrams = trigrams(event.name());
+        lock.writeLock().lock();
+        try {
+            this.delete(event.id());
+            this.insert(event, trigrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an event from the index. The highest indexed id is kept, so later catch-ups don't read it again.
+     *
+     * @param id The id of the event
+     * @return {@code true} if the event was indexed
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return this.delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the highest indexed event id, events with a higher id were created after they were last indexed.
+     *
+     * @return The highest indexed id, 0 if the index is empty
+     */
+    public long maxId() {
+        lock.readLock().lock();
+        try {
+            return maxId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the events whose name is similar to a query and which start after a given time.
+     *
+     * @param query The text to search for
+     * @param startsAfter The time after which matching events start, exclusive
+     * @param minCoverage The minimum fraction of the trigrams of the query a name must contain, between 0 and 1
+     * @param limit The maximum number of matches to return
+     * @return The best matches, best first, empty if the query has no letters or digits
+     */
+    public List<Match> search(String query, LocalDateTime startsAfter, double minCoverage, int limit) {
+        val trigrams = trigrams(query);
+        if (trigrams.length == 0) return List.of();
+
+        val after = epochSecond(startsAfter);
+        val required = Math.max(1, (int) Math.ceil(minCoverage * trigrams.length));
+        val matches = new ArrayList<Match>();
+        lock.readLock().lock();
+        try {
+            val lists = new Postings[trigrams.length];
+            for (int i = 0; i < trigrams.length; i++) lists[i] = postings.getOrDefault(trigrams[i], new Postings());
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            // A match shares at least `required` trigrams, so it is in at least one of the shortest lists
+            val scanned = trigrams.length - required + 1;
+            val counts = new HashMap<Long, Integer>();
+            for (int i = 0; i < scanned; i++) {
+                val list = lists[i];
+                for (int j = 0; j < list.size; j++) counts.merge(list.ids[j], 1, Integer::sum);
+            }
+
+            for (val entry : counts.entrySet()) {
+                val id = entry.getKey();
+                int shared = entry.getValue();
+                for (int i = scanned; i < lists.length && shared + lists.length - i >= required; i++) {
+                    if (lists[i].contains(id)) shared++;
+                }
+
+                val document = documents.get(id);
+                if (shared < required || document.startEpochSecond() <= after) continue;
+
+                matches.add(new Match(
+                        id,
+                        (double) shared / trigrams.length,
+                        (double) shared / (trigrams.length + document.trigrams().length - shared)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::coverage)
+                .thenComparingDouble(Match::similarity)
+                .reversed()
+                .thenComparingLong(Match::id));
+        return List.copyOf(matches.subList(0, Math.min(limit, matches.size())));
+    }
+
+    private void insert(IndexedEvent event, long[] trigrams) {
+        documents.put(event.id(), new Document(epochSecond(event.startDate()), trigrams));
+        for (val trigram : trigrams) postings.computeIfAbsent(trigram, key -> new Postings()).add(event.id());
+        maxId = Math.max(maxId, event.id());
+    }
+
+    private boolean delete(long id) {
+        val document = documents.remove(id);
+        if (document == null) return false;
+
+        for (val trigram : document.trigrams()) {
+            val list = postings.get(trigram);
+            list.remove(id);
+            if (list.size == 0) postings.remove(trigram);
+        }
+
+        return true;
+    }
+
+    /**
+     * Cut a text into the distinct trigrams of its words.
+     *
+     * @param text The text to cut
+     * @return The packed trigrams in ascending order
+     */
+    public static long[] trigrams(String text) {
+        val trigrams = new TreeSet<Long>();
+        for (val word : normalize(text).split(" ")) {
+            if (word.isEmpty()) continue;
+
+            val padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(pack(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2)));
+            }
+        }
+
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long pack(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    /**
+     * Lower-case a text, strip its accents and replace everything which is not a letter or digit with a space.
+     */
+    static String normalize(String text) {
+        val decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        val normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            val c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+
+            normalized.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+        }
+
+        return normalized.toString();
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.InventoryProperties;
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.AvailabilityCounters;
+import com.lamergameryt.entrypoint.inventory.SeatInventory;
+import com.lamergameryt.entrypoint.inventory.StatusCount;
+import com.lamergameryt.entrypoint.inventory.TicketCounts;
+import com.lamergameryt.entrypoint.repository.TicketRepository;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the number of available, reserved and booked tickets of every event in memory.
+ *
+ * <p>Events held in the seat inventory are counted by the {@link SeatInventory} itself, as part of every transition.
+ * For every other event, counters are loaded on first access with a single {@code GROUP BY}, and every transition
+ * applied in the database through {@link #transition} is counted once it committed, so reading the counts or checking
+ * whether an event is sold out never queries the database. No lock is held while the database is queried or updated.
+ * Instead, every event tracks its running transitions in an immutable entry which each of them replaces when it
+ * starts and finishes. Loaded counters are only kept if the entry of the event did not change while they were read and
+ * no transition was running, so a transition is either seen by the query or counted afterward, never both. Otherwise
+ * the loaded counts are returned without being kept. Changes whose effect on the counts is not known exactly, such as
+ * creating or deleting tickets, drop the counters so they are loaded again.
+ *
+ * <p>The counters are periodically reconciled against the {@code tickets} table to correct any drift, under the same
+ * condition, and dropped if they were not read since the previous reconciliation.
+ */
+@Service
+@Slf4j
+public class AvailabilityService {
+    private final InventoryProperties properties;
+    private final SeatInventoryService inventoryService;
+    private final TicketRepository ticketRepository;
+
+    private final Map<Long, EventAvailability> events = new ConcurrentHashMap<>();
+
+    /**
+     * The counters of an event and the number of its transitions running in the database. Every change installs a new
+     * instance, so instances are compared by identity to tell whether anything changed in between.
+     *
+     * @param counters The counters, {@code null} if they are not loaded
+     * @param running The number of running transitions
+     */
+    private record EventAvailability(@Nullable AvailabilityCounters counters, int running) {
+        @Nullable private EventAvailability withRunning(int delta) {
+            val updated = running + delta;
+            return counters == null && updated == 0 ? null : new EventAvailability(counters, updated);
+        }
+
+        @Nullable private EventAvailability withoutCounters() {
+            return running == 0 ? null : new EventAvailability(null, running);
+        }
+    }
+
+    public AvailabilityService(
+            InventoryProperties properties, SeatInventoryService inventoryService, TicketRepository ticketRepository) {
+        this.properties = properties;
+        this.inventoryService = inventoryService;
+        this.ticketRepository = ticketRepository;
+    }
+
+    public TicketCounts getCounts(long eventId) {
+        val inventory = inventoryService.get(eventId);
+        if (inventory.isPresent()) return inventory.get().counts();
+
+        return this.countsOf(eventId);
+    }
+
+    public boolean isSoldOut(long eventId) {
+        return this.getCounts(eventId).isSoldOut();
+    }
+
+    public boolean hasAvailable(long eventId, int count) {
+        return this.getCounts(eventId).hasAvailable(count);
+    }
+
+    /**
+     * Apply a transition of tickets in the database and count it once it committed. Events whose counters are not
+     * loaded are skipped, their counts are read from the current state once they are loaded. Transitions applied in the
+     * seat inventory are counted by the inventory and must not be reported here. The update, including any retry, runs
+     * without holding a lock.
+     *
+     * @param eventId The id of the event
+     * @param from The previous status of the tickets
+     * @param to The new status of the tickets
+     * @param count The number of tickets
+     * @param update The update, committed before it returns, {@code true} if it was applied
+     * @return The outcome of the update
+     */
+    public boolean transition(long eventId, TicketStatus from, TicketStatus to, int count, BooleanSupplier update) {
+        events.compute(eventId, (id, event) -> event == null ? new EventAvailability(null, 1) : event.withRunning(1));
+
+        boolean applied = false;
+        try {
+            applied = update.getAsBoolean();
+            return applied;
+        } finally {
+            // An update which threw is not counted, but a load running meanwhile is still discarded
+            val counted = applied;
+            events.computeIfPresent(eventId, (id, event) -> {
+                if (counted && event.counters() != null) event.counters().transition(from, to, count);
+                return event.withRunning(-1);
+            });
+        }
+    }
+
+    /**
+     * Drop the counters of an event once the current transaction commits, so they are loaded again on next access.
+     *
+     * @param eventId The id of the event
+     */
+    public void invalidate(long eventId) {
+        // Replacing the entry also discards a running load, which may have read the tickets before the change
+        TransactionCallbacks.afterCommit(
+                () -> events.computeIfPresent(eventId, (id, event) -> event.withoutCounters()));
+    }
+
+    /**
+     * Correct the counters of every event against the actual ticket states in the database. The counters of an event
+     * are only corrected if no transition of the event ran while its actual counts were read, otherwise the correction
+     * is left to the next reconciliation.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.inventory.reconcile-interval-ms:30000}")
+    public synchronized void reconcile() {
+        val fromDatabase = new HashMap<Long, EventAvailability>();
+        for (val entry : events.entrySet()) {
+            val eventId = entry.getKey();
+            val event = entry.getValue();
+            if (event.counters() == null) continue;
+            if (!event.counters().clearAccessed()) {
+                events.computeIfPresent(eventId, (id, current) -> current == event ? event.withoutCounters() : current);
+                continue;
+            }
+
+            fromDatabase.put(eventId, event);
+        }
+
+        val eventIds = new ArrayList<>(fromDatabase.keySet());
+        val batchSize = properties.getFlushBatchSize();
+        for (int i = 0; i < eventIds.size(); i += batchSize) {
+            val batch = eventIds.subList(i, Math.min(i + batchSize, eventIds.size()));
+            try {
+                val actual = this.aggregate(ticketRepository.countByStatus(batch));
+                for (val eventId : batch) {
+                    this.correct(eventId, fromDatabase.get(eventId), actual.getOrDefault(eventId, TicketCounts.EMPTY));
+                }
+            } catch (DataAccessException e) {
+                log.error("Failed to reconcile availability of {} events", batch.size(), e);
+            }
+        }
+    }
+
+    private void correct(long eventId, EventAvailability seen, TicketCounts actual) {
+        if (seen.running() != 0) return;
+
+        events.computeIfPresent(eventId, (id, event) -> {
+            if (event != seen) return event;
+
+            val expected = event.counters().snapshot();
+            if (!expected.equals(actual)) {
+                log.info("Correcting availability of event {} from {} to {}", eventId, expected, actual);
+                event.counters().correct(expected, actual);
+            }
+
+            return event;
+        });
+    }
+
+    /**
+     * Get the counts of an event from its counters, loading them first if needed. The load installs an entry of its
+     * own before counting the tickets, and only keeps the counters if that entry is still in place afterward and no
+     * transition was running when it started.
+     */
+    private TicketCounts countsOf(long eventId) {
+        val current = events.get(eventId);
+        if (current != null && current.counters() != null) return current.counters().counts();
+
+        val before = events.compute(eventId, (id, event) -> event == null ? new EventAvailability(null, 0) : event);
+        if (before.counters() != null) return before.counters().counts();
+
+        TicketCounts counts = null;
+        try {
+            counts = this.aggregate(ticketRepository.countByStatus(List.of(eventId)))
+                    .getOrDefault(eventId, TicketCounts.EMPTY);
+            return counts;
+        } finally {
+            val loaded = counts == null || before.running() != 0 ? null : new AvailabilityCounters(counts);
+            events.computeIfPresent(eventId, (id, event) -> {
+                if (event != before) return event;
+                return loaded == null ? event.withRunning(0) : new EventAvailability(loaded, 0);
+            });
+        }
+    }
+
+    private Map<Long, TicketCounts> aggregate(List<StatusCount> statusCounts) {
+        val counts = new HashMap<Long, TicketCounts>();
+        for (val statusCount : statusCounts) {
+            counts.merge(
+                    statusCount.eventId(),
+                    TicketCounts.EMPTY.plus(statusCount.status(), statusCount.count()),
+                    (current, added) -> current.plus(statusCount.status(), statusCount.count()));
+        }
+
+        return counts;
+    }
+}
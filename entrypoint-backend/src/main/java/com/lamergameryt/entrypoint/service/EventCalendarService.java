@@ -0,0 +1,231 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.CalendarProperties;
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.listing.EventCalendar;
+import com.lamergameryt.entrypoint.listing.EventIndex;
+import com.lamergameryt.entrypoint.listing.EventIndexLoader;
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.val;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers listings of upcoming events for any window of start dates from an in-memory {@link EventCalendar}.
+ *
+ * <p>The calendar is loaded in batches by the {@link EventIndexLoader} after startup, while listings fall back to
+ * keyset queries. Afterward events created on this instance are added once their transaction commits, and events
+ * created by other instances are picked up periodically by reading the ids following the highest known id. The same
+ * run removes the events which have started. Any other change of an event or a performer on this instance
+ * {@linkplain #invalidate() reloads} the calendar, and it is reloaded periodically to pick up such changes from other
+ * instances.
+ */
+@Service
+public class EventCalendarService implements EventIndex<EventDto> {
+    private static final Comparator<EventDto> ORDER =
+            Comparator.comparing(EventDto::startDate).thenComparingLong(EventDto::id);
+
+    private final CalendarProperties properties;
+    private final EventRepository eventRepository;
+    private final PerformerService performerService;
+    private final EventCalendar calendar = new EventCalendar();
+    private final EventIndexLoader.Registration<EventDto> loading;
+
+    public EventCalendarService(
+            CalendarProperties properties,
+            EventRepository eventRepository,
+            PerformerService performerService,
+            EventIndexLoader loader) {
+        this.properties = properties;
+        this.eventRepository = eventRepository;
+        this.performerService = performerService;
+        this.loading = loader.register(this);
+    }
+
+    /**
+     * Whether listings are answered from the calendar instead of the database.
+     */
+    public boolean isReady() {
+        return loading.isReady();
+    }
+
+    /**
+     * Get a number which changes with every change of the calendar, to tell whether a copy taken from it is outdated.
+     */
+    public long version() {
+        return calendar.version();
+    }
+
+    /**
+     * Get the events starting within a range.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, inclusive
+     * @return The matching events in start date and id order
+     */
+    public List<EventDto> between(LocalDateTime from, LocalDateTime to) {
+        if (this.isReady()) return calendar.between(from, to);
+
+        return performerService.withPerformers(eventRepository.findRowsByStartDateBetween(from, to)).stream()
+                .sorted(ORDER)
+                .toList();
+    }
+
+    /**
+     * Get a page of the events starting within a range, continuing after the last event of the previous page.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, inclusive
+     * @param after The sort key of the last event of the previous page, {@code null} for the first page
+     * @param limit The maximum number of events
+     * @return The matching events in start date and id order
+     */
+    public List<EventDto> page(LocalDateTime from, LocalDateTime to, @Nullable PageCursor.EventKey after, int limit) {
+        if (this.isReady()) return calendar.page(from, to, after, limit);
+
+        val ids = after == null
+                ? eventRepository.findPageIds(from, to, from, 0, Limit.of(limit))
+                : eventRepository.findPageIds(from, to, after.startDate(), after.id(), Limit.of(limit));
+        return performerService.withPerformers(eventRepository.findRowsByIdIn(ids)).stream()
+                .sorted(ORDER)
+                .toList();
+    }
+
+    /**
+     * Get an upcoming event by id, without a query.
+     *
+     * @param eventId The id of the event
+     * @return The event, {@code null} if it is not in the calendar or the calendar is not ready
+     */
+    @Nullable public EventDto get(long eventId) {
+        return this.isReady() ? calendar.get(eventId) : null;
+    }
+
+    /**
+     * Add a new event to the calendar once the current transaction commits.
+     *
+     * @param event The created event
+     */
+    public void add(EventModel event) {
+        if (!properties.isEnabled()) return;
+
+        val created = EventDto.from(event);
+        TransactionCallbacks.afterCommit(() -> calendar.put(created));
+    }
+
+    /**
+     * Reload the calendar in the background once the current transaction commits.
+     */
+    public void invalidate() {
+        if (!properties.isEnabled()) return;
+
+        TransactionCallbacks.afterCommit(loading::reload);
+    }
+
+    /**
+     * Remove the events which have started and add the events created since the last run, or load the calendar again
+     * if its load failed.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.calendar.catch-up-interval-ms:10000}")
+    public void catchUp() {
+        if (this.isReady()) calendar.prune(LocalDateTime.now());
+        loading.catchUp();
+    }
+
+    @Scheduled(fixedDelayString = "${entrypoint.calendar.reload-interval-ms:300000}")
+    public void reloadPeriodically() {
+        if (this.isReady()) loading.reload();
+    }
+
+    @Override
+    public String name() {
+        return "calendar of upcoming events";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public int batchSize() {
+        return properties.getLoadBatchSize();
+    }
+
+    /**
+     * Read every upcoming event in batches and replace the calendar with them.
+     */
+    @Override
+    public void load() {
+        val batchSize = properties.getLoadBatchSize();
+        val events = new ArrayList<EventDto>();
+
+        // Starting after the highest id at the current time reads the events starting after it
+        LocalDateTime afterDate = LocalDateTime.now();
+        long afterId = Long.MAX_VALUE;
+        while (true) {
+            val batch = eventRepository.findRowsAfter(afterDate, afterId, Limit.of(batchSize));
+            events.addAll(performerService.withPerformers(batch));
+            if (batch.size() < batchSize) break;
+
+            val last = batch.get(batch.size() - 1);
+            afterDate = last.startDate();
+            afterId = last.id();
+        }
+
+        calendar.replaceAll(events);
+    }
+
+    @Override
+    public List<EventDto> readAfter(long afterId, int limit) {
+        return performerService.withPerformers(
+                eventRepository.findRowsByIdAfter(afterId, LocalDateTime.now(), Limit.of(limit)));
+    }
+
+    @Override
+    public long idOf(EventDto event) {
+        return event.id();
+    }
+
+    @Override
+    public void addAll(List<EventDto> events) {
+        calendar.putAll(events);
+    }
+
+    @Override
+    public long maxId() {
+        return calendar.maxId();
+    }
+
+    @Override
+    public int size() {
+        return calendar.size();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.ListingProperties;
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.listing.EncodedListing;
+import com.lamergameryt.entrypoint.listing.ListingSnapshot;
+import com.lamergameryt.entrypoint.pagination.CursorPage;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serves the listing of upcoming events from an in-memory {@link ListingSnapshot}.
+ *
+ * <p>The snapshot is cut from the {@link EventCalendarService calendar of upcoming events} for a range starting at
+ * the current time rounded down to the configured quantum and reaching two quanta beyond the listing window. Every
+ * request cuts its exact window out of the snapshot, so the listing is as precise as a read with the current time while
+ * the snapshot is only cut once per quantum. Once the first quantum has passed, the snapshot is replaced in the
+ * background before the window outgrows it. Windows ending after the listing window are paged from the calendar
+ * directly.
+ *
+ * <p>Any change of an event or a performer {@linkplain #invalidate() invalidates} the snapshot once its transaction
+ * commits, and so does any change of the calendar, which starts a reload in the background. Requests keep being served
+ * from the previous snapshot until the reload finishes, and only read the calendar themselves if no snapshot covers
+ * their window at all, such as right after startup.
+ *
+ * <p>Responses are encoded once per snapshot and window content, see {@link ListingSnapshot#encode}, and a new snapshot
+ * starts without any encoding, so writes to events invalidate the encoded responses as well.
+ */
+@Service
+@Slf4j
+public class EventListingService {
+    private final ListingProperties properties;
+    private final EventCalendarService calendarService;
+    private final JsonMapper jsonMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        val thread = new Thread(runnable, "event-listing-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Nullable private volatile ListingSnapshot snapshot;
+
+    public EventListingService(
+            ListingProperties properties,
+            EventCalendarService calendarService,
+            JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.calendarService = calendarService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Get a page of the events starting between now and a time, in start date and id order, encoded as a JSON response
+     * body. The encoding is shared by every request asking for the same events within the listing window.
+     *
+     * @param to The latest start date, inclusive, {@code null} for the end of the listing window
+     * @param after The sort key of the last event of the previous page, {@code null} for the first page
+     * @param limit The maximum number of events on the page
+     * @return The encoded upcoming events and the cursor of the next page
+     */
+    public CursorPage<EncodedListing> getUpcoming(
+            @Nullable LocalDateTime to, @Nullable PageCursor.EventKey after, int limit) {
+        val now = LocalDateTime.now();
+        val windowEnd = now.plus(properties.getWindow());
+        val end = to == null ? windowEnd : to;
+        if (!properties.isEnabled() || end.isAfter(windowEnd) || end.isBefore(now))
+            return this.query(now, end, after, limit);
+
+        ListingSnapshot current = snapshot;
+        if (current == null || !current.covers(now, end)) current = this.load(now);
+        else if (this.isDue(current, now)) this.refreshAsync();
+
+        return current.encode(now, end, after, limit, this::encode);
+    }
+
+    /**
+     * Read a page from the calendar without a snapshot. One event more than requested is read to tell whether a next
+     * page exists.
+     */
+    private CursorPage<EncodedListing> query(
+            LocalDateTime from, LocalDateTime to, @Nullable PageCursor.EventKey after, int limit) {
+        val found = calendarService.page(from, to, after, limit + 1);
+        val events = found.size() > limit ? found.subList(0, limit) : found;
+
+        val last = events.isEmpty() || found.size() <= limit ? null : events.get(events.size() - 1);
+        return new CursorPage<>(
+                this.encode(events), last == null ? null : PageCursor.ofEvent(last.startDate(), last.id()));
+    }
+
+    private EncodedListing encode(List<EventDto> events) {
+        val json = jsonMapper.writeValueAsBytes(events);
+        return EncodedListing.of(json, properties.isGzip() && json.length >= properties.getGzipMinBytes());
+    }
+
+    /**
+     * Mark the snapshot as outdated once the current transaction commits, and reload it in the background.
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(() -> {
+            generation.incrementAndGet();
+            this.refreshAsync();
+        });
+    }
+
+    /**
+     * Replace the snapshot ahead of time, so requests never wait for it to be loaded.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.listing.refresh-interval-ms:1000}")
+    public void refreshIfDue() {
+        val current = snapshot;
+        if (current != null && this.isDue(current, LocalDateTime.now())) this.refreshAsync();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private boolean isDue(ListingSnapshot current, LocalDateTime now) {
+        return current.getGeneration() != this.generation()
+                || !now.isBefore(current.getFrom().plus(properties.getQuantum()));
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) return;
+
+        refresher.execute(() -> {
+            ListingSnapshot loaded;
+            try {
+                loaded = this.load(LocalDateTime.now());
+            } catch (DataAccessException e) {
+                log.warn("Failed to refresh the listing of upcoming events, serving the previous listing", e);
+                return;
+            } finally {
+                refreshing.set(false);
+            }
+
+            // An invalidation which arrived while loading was not included
+            if (loaded.getGeneration() != this.generation()) this.refreshAsync();
+        });
+    }
+
+    /**
+     * Get the generation of the current events, which changes with every invalidation and every change of the calendar.
+     */
+    private long generation() {
+        return generation.get() + calendarService.version();
+    }
+
+    /**
+     * Load a snapshot covering the window of the given time, unless a concurrent load already did.
+     */
+    private synchronized ListingSnapshot load(LocalDateTime now) {
+        val loadedGeneration = this.generation();
+        val window = properties.getWindow();
+        val current = snapshot;
+        if (current != null
+                && current.getGeneration() == loadedGeneration
+                && current.covers(now, now.plus(window))
+                && !this.isDue(current, now)) {
+            return current;
+        }
+
+        val quantum = properties.getQuantum();
+        val from = ListingSnapshot.quantize(now, quantum);
+        val to = from.plus(window).plus(quantum.multipliedBy(2));
+        val events = calendarService.between(from, to);
+
+        val loaded = ListingSnapshot.of(loadedGeneration, from, to, events);
+        snapshot = loaded;
+        return loaded;
+    }
+}
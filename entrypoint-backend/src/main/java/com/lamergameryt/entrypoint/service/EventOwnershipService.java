@@ -0,0 +1,236 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.OwnershipProperties;
+import com.lamergameryt.entrypoint.inventory.SeatInventory;
+import com.lamergameryt.entrypoint.model.EventLeaseModel;
+import com.lamergameryt.entrypoint.ownership.EventLease;
+import com.lamergameryt.entrypoint.ownership.LeasedEvents;
+import com.lamergameryt.entrypoint.repository.EventLeaseRepository;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Leases every event to exactly one node, so the in-memory seat state of an event is only ever written by one node.
+ *
+ * <p>Leases live in the {@code event_leases} table. The first node serving a request for an event without a valid
+ * lease takes it over with a single conditional update, and keeps it by renewing all of its leases with one statement
+ * per heartbeat. A node which stops renewing loses its events once their lease expires, and the next node serving one
+ * of them takes it over. A node stops serving an event on its own once half the lease ttl has passed without a
+ * renewal, well before any other node may take it over.
+ *
+ * <p>Every lease carries a fencing token, drawn whenever it passes to another node. A node which stopped serving an
+ * event because its lease lapsed keeps its copy of the seat state and goes on writing it, fenced by the token, until
+ * either the writes commit or another node took the event over. When a node takes an event over, its copy of the seat
+ * state is dropped and loaded again, as it was not kept up to date while another node owned the event, and the pending
+ * reservations of the event are scheduled to expire on it. Taking back a lapsed lease no other node took keeps the
+ * token, and with it the seat state. The held leases are published to {@link LeasedEvents}, so background work only
+ * writes the seats of owned events.
+ */
+@Service
+@Slf4j
+public class EventOwnershipService {
+    private final OwnershipProperties properties;
+    private final EventLeaseRepository repository;
+    private final SeatInventoryService inventoryService;
+    private final AvailabilityService availabilityService;
+    private final ReservationExpiryService expiryService;
+    private final LeasedEvents leasedEvents;
+
+    @Getter
+    private final String nodeId;
+
+    private final Map<Long, EventLease> leases = new ConcurrentHashMap<>();
+
+    public EventOwnershipService(
+            OwnershipProperties properties,
+            EventLeaseRepository repository,
+            SeatInventoryService inventoryService,
+            AvailabilityService availabilityService,
+            ReservationExpiryService expiryService,
+            LeasedEvents leasedEvents) {
+        this.properties = properties;
+        this.repository = repository;
+        this.inventoryService = inventoryService;
+        this.availabilityService = availabilityService;
+        this.expiryService = expiryService;
+        this.leasedEvents = leasedEvents;
+        this.nodeId = leasedEvents.getNodeId();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Get the lease of an event, taking it over if it has no valid lease. Leases are served from memory while they are
+     * valid, so only taking over an event or looking up its owner again queries the database.
+     *
+     * @param eventId The id of the event
+     * @return The lease of the event
+     */
+    public EventLease leaseOf(long eventId) {
+        val lease = leases.get(eventId);
+        if (lease != null && lease.isValid(System.currentTimeMillis())) return lease;
+
+        return this.acquire(eventId);
+    }
+
+    public boolean isLocal(EventLease lease) {
+        return lease.owner().equals(nodeId);
+    }
+
+    private synchronized EventLease acquire(long eventId) {
+        val now = System.currentTimeMillis();
+        val previous = leases.get(eventId);
+        if (previous != null && previous.isValid(now)) return previous;
+
+        val ttl = properties.getLeaseTtl().toMillis();
+        val url = this.advertisedUrl();
+        val expiresAt = SeatInventory.toLocalDateTime(now + ttl);
+        val nowTime = SeatInventory.toLocalDateTime(now);
+        val drawnToken = ThreadLocalRandom.current().nextLong();
+        val acquired = repository.takeOver(eventId, nodeId, url, expiresAt, nowTime, drawnToken) > 0
+                || this.insert(eventId, url, expiresAt, drawnToken);
+
+        if (acquired) {
+            // The event was owned without interruption only if the lease kept the token this node last held
+            val fencingToken = repository
+                    .findById(eventId)
+                    .map(EventLeaseModel::getFencingToken)
+                    .orElse(drawnToken);
+            val takenOver = !Objects.equals(leasedEvents.fencingTokenOf(eventId), fencingToken);
+
+            // The seat state is dropped before the new token is published, which the flusher relies on
+            if (takenOver) this.resetLocalState(eventId);
+
+            val lease = new EventLease(eventId, nodeId, url, now + ttl / 2);
+            leases.put(eventId, lease);
+            leasedEvents.hold(eventId, fencingToken, lease.validUntilMillis());
+            if (takenOver) this.scheduleHolds(eventId);
+            return lease;
+        }
+
+        // Another node holds a valid lease, so seat transitions this node has not written yet can never be written
+        if (leasedEvents.fencingTokenOf(eventId) != null) this.resetLocalState(eventId);
+        leasedEvents.release(eventId);
+
+        // The owner is looked up again every heartbeat, in case it hands the event over before its lease expires
+        val lookupUntil = now + properties.getHeartbeatIntervalMs();
+        val lease = repository
+                .findById(eventId)
+                .map(model -> new EventLease(
+                        eventId,
+                        model.getOwner(),
+                        model.getOwnerUrl(),
+                        Math.min(SeatInventory.toEpochMilli(model.getExpiresAt()), lookupUntil)))
+                .orElseGet(() -> new EventLease(eventId, "", null, now));
+        leases.put(eventId, lease);
+        return lease;
+    }
+
+    private boolean insert(long eventId, @Nullable String url, LocalDateTime expiresAt, long fencingToken) {
+        try {
+            return repository.insertLease(eventId, nodeId, url, expiresAt, fencingToken) > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Renew every lease this node holds, and stop serving the events whose lease could not be renewed in time. Their
+     * seat state is kept, so the transitions which were already accepted are still written as long as no other node
+     * took the events over.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.ownership.heartbeat-interval-ms:3000}")
+    public synchronized void heartbeat() {
+        if (!properties.isEnabled()) return;
+
+        val now = System.currentTimeMillis();
+        val ttl = properties.getLeaseTtl().toMillis();
+        try {
+            val nowTime = SeatInventory.toLocalDateTime(now);
+            repository.renew(nodeId, SeatInventory.toLocalDateTime(now + ttl), nowTime);
+            val held = new HashSet<>(repository.findEventIdsHeldBy(nodeId, nowTime));
+            repository.deleteExpiredOfStartedBefore(SeatInventory.toLocalDateTime(now - ttl));
+
+            var lost = 0;
+            for (val lease : leases.values()) {
+                if (!this.isLocal(lease)) {
+                    if (!lease.isValid(now)) leases.remove(lease.eventId(), lease);
+                } else if (held.contains(lease.eventId())) {
+                    val renewed = new EventLease(lease.eventId(), nodeId, lease.ownerUrl(), now + ttl / 2);
+                    if (leases.replace(lease.eventId(), lease, renewed))
+                        leasedEvents.renew(lease.eventId(), renewed.validUntilMillis());
+                } else if (leases.remove(lease.eventId(), lease)) {
+                    leasedEvents.suspend(lease.eventId());
+                    lost++;
+                }
+            }
+
+            if (lost > 0) log.warn("Stopped serving {} events whose lease could not be renewed in time", lost);
+        } catch (DataAccessException e) {
+            log.error("Failed to renew the event leases of node {}", nodeId, e);
+        }
+    }
+
+    /**
+     * Hand every event over to other nodes on shutdown, after writing all changes to their seats.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (!properties.isEnabled()) return;
+
+        inventoryService.flush();
+        leasedEvents.releaseAll();
+        leases.clear();
+        repository.releaseAll(nodeId);
+    }
+
+    private void scheduleHolds(long eventId) {
+        try {
+            expiryService.scheduleHolds(eventId);
+        } catch (DataAccessException e) {
+            log.error("Failed to schedule the pending reservations of event {} after taking it over", eventId, e);
+        }
+    }
+
+    private void resetLocalState(long eventId) {
+        inventoryService.discard(eventId);
+        availabilityService.invalidate(eventId);
+    }
+
+    @Nullable private String advertisedUrl() {
+        return properties.getAdvertisedUrl().isBlank() ? null : properties.getAdvertisedUrl();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lamergameryt.entrypoint.config.SearchProperties;
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.listing.EventIndex;
+import com.lamergameryt.entrypoint.listing.EventIndexLoader;
+import com.lamergameryt.entrypoint.listing.ListingSnapshot;
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.search.IndexedEvent;
+import com.lamergameryt.entrypoint.search.TrigramIndex;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import lombok.val;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Searches events by name through an in-memory {@link TrigramIndex}.
+ *
+ * <p>The index is built in batches by the {@link EventIndexLoader} after startup, while searches fall back to a
+ * substring match in the database, bounded to the soonest {@code max-results} events. Afterward events created on this
+ * instance are added once their transaction commits, and events created by other instances are picked up periodically
+ * by reading the ids following the highest indexed id. Events updated or removed on this instance are replaced in or
+ * removed from the index once their transaction commits.
+ *
+ * <p>A search takes the matching upcoming events from the {@link EventCalendarService calendar}, and only reads the
+ * columns of the others from the database, by primary key, taking their performers from the {@link PerformerService}.
+ *
+ * <p>Results are cached by the case-folded query with collapsed whitespace and the start date rounded down to the
+ * configured quantum, and narrowed down to the exact start date on every hit. Results cut off at {@code max-results}
+ * may miss events which would take the place of the events narrowed away, so a hit which narrows such results is
+ * searched again for its exact start date, without caching. Searches without any results are cached as well, so
+ * repeated searches for popular and for nonsense terms are both answered from memory. Concurrent searches for the same
+ * key are computed once. Adding an event to the index, or changing an event or a performer on this instance, clears
+ * the cache.
+ */
+@Service
+public class EventSearchService implements EventIndex<IndexedEvent> {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SearchProperties properties;
+    private final EventRepository eventRepository;
+    private final PerformerService performerService;
+    private final EventCalendarService calendarService;
+    private final TrigramIndex index = new TrigramIndex();
+    private final Cache<CacheKey, Found> results;
+    private final EventIndexLoader.Registration<IndexedEvent> loading;
+
+    private record CacheKey(String query, LocalDateTime startsAfter) {}
+
+    /**
+     * @param events The matching events
+     * @param truncated Whether the events were cut off at {@code max-results}, so more events may match
+     */
+    private record Found(List<EventDto> events, boolean truncated) {}
+
+    public EventSearchService(
+            SearchProperties properties,
+            EventRepository eventRepository,
+            PerformerService performerService,
+            EventCalendarService calendarService,
+            EventIndexLoader loader) {
+        this.properties = properties;
+        this.eventRepository = eventRepository;
+        this.performerService = performerService;
+        this.calendarService = calendarService;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .build();
+        this.loading = loader.register(this);
+    }
+
+    /**
+     * Find the events whose name is similar to a query, tolerating typos, best matches first.
+     *
+     * @param query The name to search for
+     * @param startsAfter The time after which matching events start, exclusive
+     * @return The matching events, empty if the query has no letters or digits
+     */
+    public List<EventDto> search(String query, LocalDateTime startsAfter) {
+        val key = new CacheKey(
+                WHITESPACE.matcher(query.strip()).replaceAll(" ").toLowerCase(Locale.ROOT),
+                ListingSnapshot.quantize(startsAfter, properties.getCacheQuantum()));
+        val found = results.get(key, cached -> this.find(cached.query(), cached.startsAfter()));
+        if (found.events().isEmpty() || key.startsAfter().equals(startsAfter)) return found.events();
+
+        val narrowed = found.events().stream()
+                .filter(event -> event.startDate().isAfter(startsAfter))
+                .toList();
+        if (!found.truncated() || narrowed.size() == found.events().size()) return narrowed;
+
+        return this.find(key.query(), startsAfter).events();
+    }
+
+    /**
+     * Clear the cached search results once the current transaction commits.
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(results::invalidateAll);
+    }
+
+    private Found find(String query, LocalDateTime startsAfter) {
+        val maxResults = properties.getMaxResults();
+        if (!loading.isReady()) {
+            val rows = eventRepository.findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate(
+                    query, startsAfter, Limit.of(maxResults));
+            return new Found(performerService.withPerformers(rows), rows.size() == maxResults);
+        }
+
+        val matches = index.search(query, startsAfter, properties.getMinCoverage(), maxResults);
+        if (matches.isEmpty()) return new Found(List.of(), false);
+
+        val events = new HashMap<Long, EventDto>();
+        val missing = new ArrayList<Long>();
+        for (val match : matches) {
+            val event = calendarService.get(match.id());
+            if (event != null) events.put(event.id(), event);
+            else missing.add(match.id());
+        }
+
+        if (!missing.isEmpty())
+            performerService
+                    .withPerformers(eventRepository.findRowsByIdIn(missing))
+                    .forEach(event -> events.put(event.id(), event));
+
+        val found = matches.stream()
+                .map(match -> events.get(match.id()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new Found(found, matches.size() == maxResults);
+    }
+
+    /**
+     * Add a new event to the index once the current transaction commits.
+     *
+     * @param event The created event
+     */
+    public void add(EventModel event) {
+        val indexed = new IndexedEvent(event.getId(), event.getName(), event.getStartDate());
+        TransactionCallbacks.afterCommit(() -> {
+            if (index.add(indexed)) results.invalidateAll();
+        });
+    }
+
+    /**
+     * Replace an updated event in the index once the current transaction commits.
+     *
+     * @param event The updated event
+     */
+    public void update(EventModel event) {
+        val indexed = new IndexedEvent(event.getId(), event.getName(), event.getStartDate());
+        TransactionCallbacks.afterCommit(() -> {
+            index.replace(indexed);
+            results.invalidateAll();
+        });
+    }
+
+    /**
+     * Remove an event from the index once the current transaction commits.
+     *
+     * @param event The removed event
+     */
+    public void remove(EventModel event) {
+        val eventId = event.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            if (index.remove(eventId)) results.invalidateAll();
+        });
+    }
+
+    /**
+     * Add the events created since the last run to the index, or build the index again if its build failed.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.search.catch-up-interval-ms:10000}")
+    public void catchUp() {
+        loading.catchUp();
+    }
+
+    @Override
+    public String name() {
+        return "search index";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public int batchSize() {
+        return properties.getLoadBatchSize();
+    }
+
+    /**
+     * Add every event to the index. Indexed events are left untouched, so a repeated build only adds the missing ones.
+     */
+    @Override
+    public void load() {
+        loading.addAfter(0);
+    }
+
+    @Override
+    public void loaded() {
+        results.invalidateAll();
+    }
+
+    @Override
+    public List<IndexedEvent> readAfter(long afterId, int limit) {
+        return eventRepository.findIndexedEventsAfter(afterId, Limit.of(limit));
+    }
+
+    @Override
+    public long idOf(IndexedEvent event) {
+        return event.id();
+    }
+
+    @Override
+    public void addAll(List<IndexedEvent> events) {
+        boolean added = false;
+        for (val event : events) added |= index.add(event);
+        if (added) results.invalidateAll();
+    }
+
+    @Override
+    public long maxId() {
+        return index.maxId();
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+}
@@ -18,6 +18,7 @@
 
 package com.lamergameryt.entrypoint.service;
 
+import com.lamergameryt.entrypoint.dto.EventDto;
 import com.lamergameryt.entrypoint.model.EventModel;
 import com.lamergameryt.entrypoint.repository.EventRepository;
 import java.time.LocalDateTime;
@@ -26,29 +27,48 @@ import java.util.Optional;
 import lombok.NonNull;
 import lombok.val;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class EventService {
     private final EventRepository eventRepository;
+    private final EventSearchService searchService;
+    private final EventCalendarService calendarService;
+    private final EventSuggestionService suggestionService;
 
-    public EventService(EventRepository eventRepository) {
+    public EventService(
+            EventRepository eventRepository,
+            EventSearchService searchService,
+            EventCalendarService calendarService,
+            EventSuggestionService suggestionService) {
         this.eventRepository = eventRepository;
+        this.searchService = searchService;
+        this.calendarService = calendarService;
+        this.suggestionService = suggestionService;
     }
 
+    @Transactional(readOnly = true)
     public Optional<EventModel> getById(long eventId) {
         return eventRepository.findById(eventId);
     }
 
-    public List<EventModel> getAvailableEvents() {
-        return this.getAllEvents(LocalDateTime.now().plusDays(10));
+    @Transactional(readOnly = true)
+    public boolean exists(long eventId) {
+        return eventRepository.existsById(eventId);
     }
 
-    public List<EventModel> getAllEvents(LocalDateTime to) {
-        return eventRepository.filterEvents(LocalDateTime.now(), to);
+    @Transactional(readOnly = true)
+    public List<EventDto> getAllEvents(LocalDateTime to) {
+        return calendarService.between(LocalDateTime.now(), to);
     }
 
-    public List<EventModel> searchEvents(String name, LocalDateTime startDate) {
-        return eventRepository.filterEvents(name, startDate);
+    @Transactional(readOnly = true)
+    public List<EventDto> searchEvents(String name, LocalDateTime startDate) {
+        return searchService.search(name, startDate);
+    }
+
+    public List<EventDto> suggestEvents(String prefix, int limit) {
+        return suggestionService.suggest(prefix, limit);
     }
 
     public EventModel createEvent(@NonNull String name, String description, @NonNull LocalDateTime startDate) {
@@ -59,6 +79,9 @@ public class EventService {
                 .build();
 
         eventRepository.save(event);
+        searchService.add(event);
+        calendarService.add(event);
+        suggestionService.add(event);
         return event;
     }
 }
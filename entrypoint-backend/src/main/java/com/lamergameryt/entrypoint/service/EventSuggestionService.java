@@ -0,0 +1,332 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.SuggestProperties;
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.listing.EventIndex;
+import com.lamergameryt.entrypoint.listing.EventIndexLoader;
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.TicketRepository;
+import com.lamergameryt.entrypoint.search.SuggestionTrie;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Suggests upcoming events for the prefix of a name through an in-memory {@link SuggestionTrie} over the names of the
+ * events and their performers.
+ *
+ * <p>The trie is built from the {@link EventCalendarService calendar} by the {@link EventIndexLoader} after the
+ * calendar is loaded, and built again periodically to pick up events changed on other instances and to update
+ * popularity. Events created on this instance are added once their transaction commits, and events created by other
+ * instances are picked up periodically by reading the ids following the highest known id. Events updated on this
+ * instance are read again, and replaced in or removed from the trie, once their transaction commits. Until the first
+ * build, suggestions are empty rather than read from the database.
+ *
+ * <p>Events are ranked by the number of their reserved and booked tickets, which counts half as much for every
+ * {@linkplain SuggestProperties#getPopularityHalfLife() half-life} their start lies in the future. The logarithm of
+ * that weight is stored, which orders events the same at any time, so ranks never go stale as time passes.
+ */
+@Service
+@Slf4j
+public class EventSuggestionService implements EventIndex<EventDto> {
+    private final SuggestProperties properties;
+    private final EventCalendarService calendarService;
+    private final EventRepository eventRepository;
+    private final PerformerService performerService;
+    private final TicketRepository ticketRepository;
+    private final EventIndexLoader.Registration<EventDto> loading;
+
+    @Nullable private volatile SuggestionTrie trie;
+
+    /**
+     * The highest id of the events in the trie. Guarded by {@code this}.
+     */
+    private long maxId;
+
+    /**
+     * The changes made while the trie is built, to apply them to the new trie as well. Guarded by {@code this}.
+     */
+    @Nullable private List<Consumer<SuggestionTrie>> pending;
+
+    public EventSuggestionService(
+            SuggestProperties properties,
+            EventCalendarService calendarService,
+            EventRepository eventRepository,
+            PerformerService performerService,
+            TicketRepository ticketRepository,
+            EventIndexLoader loader) {
+        this.properties = properties;
+        this.calendarService = calendarService;
+        this.eventRepository = eventRepository;
+        this.performerService = performerService;
+        this.ticketRepository = ticketRepository;
+        this.loading = loader.register(this);
+    }
+
+    /**
+     * Suggest the upcoming events with a name, or a performer, containing a word which starts with a prefix.
+     *
+     * @param prefix The text typed so far
+     * @param limit The maximum number of events, capped at the configured maximum
+     * @return The suggested events, best ranked first
+     */
+    public List<EventDto> suggest(String prefix, int limit) {
+        val current = trie;
+        if (!loading.isReady() || current == null) return List.of();
+
+        // Events which have started since the last build are skipped, so more entries than requested are read
+        val now = LocalDateTime.now();
+        val max = Math.min(limit, properties.getMaxResults());
+        val suggestions = new ArrayList<EventDto>(max);
+        for (val entry : current.suggest(prefix, this.capacity())) {
+            val event = calendarService.get(entry.id());
+            if (event == null || !event.startDate().isAfter(now)) continue;
+
+            suggestions.add(event);
+            if (suggestions.size() == max) break;
+        }
+
+        return suggestions;
+    }
+
+    /**
+     * Add a new event to the trie once the current transaction commits.
+     *
+     * @param event The created event
+     */
+    public void add(EventModel event) {
+        if (!properties.isEnabled()) return;
+
+        val created = EventDto.from(event);
+        TransactionCallbacks.afterCommit(() -> this.added(created));
+    }
+
+    /**
+     * Read an updated event again once the current transaction commits, and replace it in the trie, or remove it if it
+     * has started since.
+     *
+     * @param event The updated event
+     */
+    public void update(EventModel event) {
+        if (!properties.isEnabled()) return;
+
+        val eventId = event.getId();
+        TransactionCallbacks.afterCommit(() -> this.refresh(eventId));
+    }
+
+    /**
+     * Remove an event from the trie once the current transaction commits.
+     *
+     * @param event The removed event
+     */
+    public void remove(EventModel event) {
+        if (!properties.isEnabled()) return;
+
+        val eventId = event.getId();
+        TransactionCallbacks.afterCommit(() -> this.changed(target -> target.remove(eventId)));
+    }
+
+    /**
+     * Add the events created since the last run to the trie, or build the trie again if its build failed.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.suggest.catch-up-interval-ms:5000}")
+    public void catchUp() {
+        loading.catchUp();
+    }
+
+    @Scheduled(fixedDelayString = "${entrypoint.suggest.rebuild-interval-ms:60000}")
+    public void rebuildPeriodically() {
+        if (loading.isReady()) loading.reload();
+    }
+
+    @Override
+    public String name() {
+        return "trie of event suggestions";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public int batchSize() {
+        return properties.getLoadBatchSize();
+    }
+
+    /**
+     * Build a new trie over the upcoming events of the calendar, ranked by their taken tickets, and replace the trie
+     * with it.
+     */
+    @Override
+    public void load() {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+
+        try {
+            val events = calendarService.between(LocalDateTime.now(), LocalDateTime.MAX);
+            val taken = this.countTaken(events);
+            val built = new SuggestionTrie(this.capacity());
+            long builtMaxId = 0;
+            for (val event : events) {
+                this.insert(built, event, taken.getOrDefault(event.id(), 0L));
+                builtMaxId = Math.max(builtMaxId, event.id());
+            }
+
+            synchronized (this) {
+                for (val change : pending) change.accept(built);
+                trie = built;
+                maxId = Math.max(maxId, builtMaxId);
+            }
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    @Override
+    public List<EventDto> readAfter(long afterId, int limit) {
+        return performerService.withPerformers(
+                eventRepository.findRowsByIdAfter(afterId, LocalDateTime.now(), Limit.of(limit)));
+    }
+
+    @Override
+    public long idOf(EventDto event) {
+        return event.id();
+    }
+
+    @Override
+    public void addAll(List<EventDto> events) {
+        for (val event : events) this.added(event);
+    }
+
+    @Override
+    public synchronized long maxId() {
+        return maxId;
+    }
+
+    @Override
+    public int size() {
+        val current = trie;
+        return current == null ? 0 : current.size();
+    }
+
+    private synchronized void added(EventDto event) {
+        maxId = Math.max(maxId, event.id());
+        this.changed(target -> target.add(this.entry(event, 0), names(event)));
+    }
+
+    private void refresh(long eventId) {
+        try {
+            val events = performerService.withPerformers(eventRepository.findRowsByIdIn(List.of(eventId)));
+            if (events.isEmpty() || !events.get(0).startDate().isAfter(LocalDateTime.now())) {
+                this.changed(target -> target.remove(eventId));
+                return;
+            }
+
+            val event = events.get(0);
+            val entry = this.entry(event, this.countTaken(events).getOrDefault(eventId, 0L));
+            this.changed(target -> target.replace(entry, names(event)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read event {} again for the trie of event suggestions", eventId, e);
+        }
+    }
+
+    /**
+     * Apply a change to the trie, and to the trie being built if any.
+     */
+    private synchronized void changed(Consumer<SuggestionTrie> change) {
+        val current = trie;
+        if (current != null) change.accept(current);
+        if (pending != null) pending.add(change);
+    }
+
+    /**
+     * Count the reserved and booked tickets of events, in batches.
+     *
+     * @return The number of taken tickets by event id, events without any are omitted
+     */
+    private Map<Long, Long> countTaken(List<EventDto> events) {
+        val taken = new HashMap<Long, Long>();
+        val batchSize = properties.getLoadBatchSize();
+        for (int i = 0; i < events.size(); i += batchSize) {
+            val eventIds = events.subList(i, Math.min(i + batchSize, events.size())).stream()
+                    .map(EventDto::id)
+                    .toList();
+            for (val count : ticketRepository.countByStatus(eventIds)) {
+                if (count.status() != TicketStatus.NOT_BOOKED) taken.merge(count.eventId(), count.count(), Long::sum);
+            }
+        }
+
+        return taken;
+    }
+
+    private void insert(SuggestionTrie target, EventDto event, long taken) {
+        target.add(this.entry(event, taken), names(event));
+    }
+
+    private SuggestionTrie.Entry entry(EventDto event, long taken) {
+        return new SuggestionTrie.Entry(event.id(), this.rank(event, taken));
+    }
+
+    /**
+     * Get the names to find an event by, its own name and those of its performers.
+     */
+    private static List<String> names(EventDto event) {
+        val names = new ArrayList<String>(1 + event.performers().size());
+        names.add(event.name());
+        for (val performer : event.performers()) names.add(performer.name());
+        return names;
+    }
+
+    /**
+     * Rank an event by the binary logarithm of its taken tickets, minus the number of half-lives its start lies after
+     * the epoch.
+     */
+    private double rank(EventDto event, long taken) {
+        val halfLife = Math.max(1, properties.getPopularityHalfLife().toSeconds());
+        return Math.log1p(taken) / Math.log(2) - (double) event.startDate().toEpochSecond(ZoneOffset.UTC) / halfLife;
+    }
+
+    /**
+     * Keep twice as many events per prefix as are suggested, so events which started since the last build don't
+     * shorten the suggestions.
+     */
+    private int capacity() {
+        return properties.getMaxResults() * 2;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lamergameryt.entrypoint.config.IdempotencyProperties;
+import com.lamergameryt.entrypoint.idempotency.StoredResponse;
+import com.lamergameryt.entrypoint.repository.IdempotencyKeyRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores the response to every request carrying an idempotency key, so a repeated request is answered with the
+ * original response instead of being handled again.
+ *
+ * <p>Responses are kept in a cache bounded by their total size, backed by the {@code idempotency_keys} table so they
+ * survive eviction and restarts. Only the database is consulted when a key is not cached.
+ *
+ * <p>A key is claimed by inserting its row before the request is handled, so repetitions arriving at any node while
+ * the original request is being handled find the key in use instead of racing it. The row is completed with the
+ * response, or deleted if no response is stored. A claim left behind by a node which stopped is taken over once the
+ * configured claim timeout has passed.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyKeyRepository repository;
+
+    private final Cache<String, StoredResponse> responses;
+
+    public IdempotencyService(IdempotencyProperties properties, IdempotencyKeyRepository repository) {
+        this.properties = properties;
+        this.repository = repository;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxCacheBytes())
+                .weigher((String key, StoredResponse response) ->
+                        key.length() + response.body().length + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * Find the response stored for an idempotency key, reading it from the database if it is not cached.
+     *
+     * @param key The idempotency key
+     * @return The stored response, empty if the key was not used within the configured ttl or its request is still
+     *     being handled
+     */
+    public Optional<StoredResponse> find(String key) {
+        val cached = responses.getIfPresent(key);
+        if (cached != null) return Optional.of(cached);
+
+        val cutoff = LocalDateTime.now().minus(properties.getTtl());
+        val stored = repository
+                .findById(key)
+                .filter(model -> model.isCompleted() && model.getCreatedAt().isAfter(cutoff))
+                .map(model -> new StoredResponse(
+                        model.getFingerprint(), model.getStatusCode(), model.getContentType(), model.getBody()));
+        stored.ifPresent(response -> responses.put(key, response));
+        return stored;
+    }
+
+    /**
+     * Claim an idempotency key for the request about to be handled, by inserting its row. The claim is given up by
+     * either {@link #complete(String, StoredResponse)} or {@link #release(String)}.
+     *
+     * @param key The idempotency key
+     * @param fingerprint The fingerprint of the request
+     * @return Whether the key was claimed, {@code false} if the key already has a response or another request with the
+     *     same key is being handled
+     */
+    public boolean claim(String key, byte[] fingerprint) {
+        val now = LocalDateTime.now();
+        try {
+            return repository.insertClaim(key, fingerprint, NO_BODY, now) > 0;
+        } catch (DataIntegrityViolationException e) {
+            val expiredBefore = now.minus(properties.getTtl());
+            val abandonedBefore = now.minus(properties.getClaimTimeout());
+            return repository.takeOver(key, fingerprint, NO_BODY, now, expiredBefore, abandonedBefore) > 0;
+        }
+    }
+
+    /**
+     * Store the response to a claimed idempotency key, which gives up the claim. The response is cached first, so
+     * repetitions on this node are replayed even if it cannot be written to the database.
+     *
+     * @param key The idempotency key
+     * @param response The response to replay for the key
+     */
+    public void complete(String key, StoredResponse response) {
+        responses.put(key, response);
+
+        try {
+            repository.complete(key, response.statusCode(), response.contentType(), response.body());
+        } catch (DataAccessException e) {
+            log.warn("Failed to persist the response to idempotency key {}, it is only kept in memory", key, e);
+        }
+    }
+
+    /**
+     * Give up the claim on an idempotency key without storing a response, so the request can be repeated. A claim
+     * which cannot be deleted is taken over once the claim timeout has passed.
+     *
+     * @param key The idempotency key
+     */
+    public void release(String key) {
+        try {
+            repository.release(key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release idempotency key {}, it is held until the claim times out", key, e);
+        }
+    }
+
+    public boolean isStorable(int bodyLength) {
+        return bodyLength <= properties.getMaxBodyBytes();
+    }
+
+    @Scheduled(fixedDelayString = "${entrypoint.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        val deleted = repository.deleteCreatedBefore(LocalDateTime.now().minus(properties.getTtl()));
+        if (deleted > 0) log.info("Purged {} expired idempotency keys", deleted);
+    }
+}
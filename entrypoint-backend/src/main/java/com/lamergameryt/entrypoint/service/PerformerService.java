@@ -0,0 +1,120 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lamergameryt.entrypoint.config.PerformerProperties;
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.dto.PerformerDto;
+import com.lamergameryt.entrypoint.dto.projection.EventPerformerLink;
+import com.lamergameryt.entrypoint.dto.projection.EventRow;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.PerformerRepository;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.val;
+import org.springframework.stereotype.Service;
+
+/**
+ * Attaches performers to events which were read without them.
+ *
+ * <p>Fetching the performers together with their events joins the {@code event_performers} table into the query, which
+ * repeats every event once per performer and keeps the database from limiting the events. Instead the events are read
+ * first, the links to their performers are read from the join table by event id, and the performers themselves are
+ * taken from a shared cache. Only performers missing from the cache are read, by id. Performers rarely change, and a
+ * write on this instance evicts the performer once its transaction commits.
+ */
+@Service
+public class PerformerService {
+    private final PerformerProperties properties;
+    private final PerformerRepository performerRepository;
+    private final EventRepository eventRepository;
+
+    private final Cache<Long, PerformerDto> performers;
+
+    public PerformerService(
+            PerformerProperties properties, PerformerRepository performerRepository, EventRepository eventRepository) {
+        this.properties = properties;
+        this.performerRepository = performerRepository;
+        this.eventRepository = eventRepository;
+        this.performers = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .build();
+    }
+
+    /**
+     * Attach the performers of every event, in performer id order.
+     *
+     * @param events The events to complete
+     * @return The events with their performers, in the order they were given
+     */
+    public List<EventDto> withPerformers(List<EventRow> events) {
+        if (events.isEmpty()) return List.of();
+
+        val links = new ArrayList<EventPerformerLink>();
+        for (val eventIds : this.batches(events.stream().map(EventRow::id).toList()))
+            links.addAll(eventRepository.findPerformerLinksByEventIdIn(eventIds));
+
+        val found = performers.getAll(
+                links.stream().map(EventPerformerLink::performerId).collect(Collectors.toSet()), this::load);
+        val performersByEvent = new HashMap<Long, List<PerformerDto>>();
+        for (val link : links) {
+            val performer = found.get(link.performerId());
+            if (performer != null)
+                performersByEvent.computeIfAbsent(link.eventId(), id -> new ArrayList<>()).add(performer);
+        }
+
+        return events.stream()
+                .map(event -> event.toDto(performersByEvent.getOrDefault(event.id(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Drop a performer from the cache once the current transaction commits.
+     *
+     * @param performerId The id of the changed performer
+     */
+    public void evict(long performerId) {
+        TransactionCallbacks.afterCommit(() -> performers.invalidate(performerId));
+    }
+
+    private Map<Long, PerformerDto> load(Set<? extends Long> performerIds) {
+        val loaded = new HashMap<Long, PerformerDto>();
+        for (val batch : this.batches(List.copyOf(performerIds))) {
+            for (val performer : performerRepository.findDtosByIdIn(batch)) loaded.put(performer.id(), performer);
+        }
+
+        return loaded;
+    }
+
+    private List<List<Long>> batches(List<Long> ids) {
+        val size = properties.getBatchSize();
+        val batches = new ArrayList<List<Long>>();
+        for (int start = 0; start < ids.size(); start += size)
+            batches.add(ids.subList(start, Math.min(ids.size(), start + size)));
+        return batches;
+    }
+}
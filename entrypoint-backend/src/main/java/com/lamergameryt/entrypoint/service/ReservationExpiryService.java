@@ -0,0 +1,163 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.BookingProperties;
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.ReservationHold;
+import com.lamergameryt.entrypoint.inventory.SeatInventory;
+import com.lamergameryt.entrypoint.ledger.TicketTransition;
+import com.lamergameryt.entrypoint.ownership.LeasedEvents;
+import com.lamergameryt.entrypoint.repository.TicketRepository;
+import com.lamergameryt.entrypoint.util.HashedTimingWheel;
+import java.util.ArrayList;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Releases reservations whose hold has run out.
+ *
+ * <p>Every reservation is scheduled on a {@link HashedTimingWheel}, so pending holds are never looked up by scanning
+ * the {@code tickets} table. Expired holds of events held in memory are released through the seat inventory, all
+ * others with one set-based update per batch. Releases are conditional on the reservation still being held by the same
+ * user with an expired hold, so bookings, manual releases and renewed reservations are never undone.
+ *
+ * <p>After a restart the pending holds are read once from the reserved tickets and scheduled again. With event
+ * ownership enabled, only holds of events this node {@linkplain LeasedEvents#isOwned(long) owns} are expired. The
+ * holds of an event are scheduled again on the node taking it over.
+ */
+@Service
+@Slf4j
+public class ReservationExpiryService {
+    private final BookingProperties properties;
+    private final SeatInventoryService inventoryService;
+    private final AvailabilityService availabilityService;
+    private final TicketLedgerService ledgerService;
+    private final TicketRepository ticketRepository;
+    private final LeasedEvents leasedEvents;
+    private final HashedTimingWheel<ReservationHold> wheel;
+
+    public ReservationExpiryService(
+            BookingProperties properties,
+            SeatInventoryService inventoryService,
+            AvailabilityService availabilityService,
+            TicketLedgerService ledgerService,
+            TicketRepository ticketRepository,
+            LeasedEvents leasedEvents) {
+        this.properties = properties;
+        this.inventoryService = inventoryService;
+        this.availabilityService = availabilityService;
+        this.ledgerService = ledgerService;
+        this.ticketRepository = ticketRepository;
+        this.leasedEvents = leasedEvents;
+        this.wheel = new HashedTimingWheel<>(
+                properties.getExpiryTickMs(), properties.getExpiryWheelSize(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildPending() {
+        val holds = ticketRepository.findHolds().stream().filter(hold -> leasedEvents.isOwned(hold.eventId())).toList();
+        holds.forEach(this::schedule);
+        log.info("Scheduled expiry for {} pending reservations", holds.size());
+    }
+
+    /**
+     * Schedule the expiry of every pending reservation of an event, once this node has taken it over.
+     *
+     * @param eventId The id of the event
+     */
+    public void scheduleHolds(long eventId) {
+        ticketRepository.findHoldsByEventId(eventId).forEach(this::schedule);
+    }
+
+    /**
+     * Schedule the expiry of a reservation. Reservations without a hold expire on the next tick.
+     *
+     * @param hold The reservation to expire
+     */
+    public void schedule(ReservationHold hold) {
+        val deadline = hold.reservedUntil() == null ? 0 : SeatInventory.toEpochMilli(hold.reservedUntil());
+        wheel.schedule(hold, deadline);
+    }
+
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    @Scheduled(fixedDelayString = "${entrypoint.booking.expiry-tick-ms:1000}")
+    public void expireHolds() {
+        val now = System.currentTimeMillis();
+        val expired = wheel.advance(now);
+        if (expired.isEmpty()) return;
+
+        val releasedFromDatabase = new ArrayList<ReservationHold>();
+        for (val hold : expired) {
+            // Expired by the owning node, and scheduled again once this node takes the event over
+            if (!leasedEvents.isOwned(hold.eventId())) continue;
+
+            val result = inventoryService.expire(hold.eventId(), hold.ticketId(), hold.userId(), now);
+            if (result.isEmpty()) {
+                releasedFromDatabase.add(hold);
+            } else if (result.get() == SeatInventory.Result.APPLIED) {
+                ledgerService.record(released(hold));
+            }
+        }
+
+        val batchSize = properties.getExpiryBatchSize();
+        val cutoff = SeatInventory.toLocalDateTime(now);
+        for (int i = 0; i < releasedFromDatabase.size(); i += batchSize) {
+            val batch = releasedFromDatabase.subList(i, Math.min(i + batchSize, releasedFromDatabase.size()));
+            try {
+                val released = ticketRepository.releaseExpired(
+                        batch.stream().map(ReservationHold::ticketId).toList(), cutoff);
+
+                // The update only reports how many holds were released, not which ones
+                if (released > 0) {
+                    batch.stream().map(ReservationHold::eventId).distinct().forEach(availabilityService::invalidate);
+                }
+
+                // Unless every hold was released, the next snapshot of the events is read from the tickets instead
+                if (released == batch.size()) {
+                    ledgerService.recordAll(batch.stream().map(ReservationExpiryService::released).toList());
+                } else {
+                    batch.stream().map(ReservationHold::eventId).distinct().forEach(ledgerService::markChanged);
+                }
+            } catch (DataAccessException e) {
+                log.error("Failed to release {} expired reservations, retrying on next tick", batch.size(), e);
+                batch.forEach(hold -> wheel.schedule(hold, now));
+            }
+        }
+    }
+
+    private static TicketTransition released(ReservationHold hold) {
+        return TicketTransition.transitioned(
+                hold.eventId(),
+                hold.ticketId(),
+                TicketStatus.RESERVED,
+                hold.userId(),
+                TicketStatus.NOT_BOOKED,
+                0,
+                null);
+    }
+}
@@ -0,0 +1,468 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.InventoryProperties;
+import com.lamergameryt.entrypoint.config.OwnershipProperties;
+import com.lamergameryt.entrypoint.datasource.ReplicaPool;
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.SeatInventory;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import com.lamergameryt.entrypoint.ownership.LeasedEvents;
+import com.lamergameryt.entrypoint.repository.EventLeaseRepository;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.TicketBatchRepository;
+import com.lamergameryt.entrypoint.repository.TicketRepository;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Holds the seat state of upcoming events in memory and persists transitions with write-behind.
+ *
+ * <p>Booking decisions are a compare-and-set on the {@link SeatInventory} of the event. Every applied transition marks
+ * the seat as dirty, and the flusher periodically writes the <em>current</em> state of all dirty seats to the
+ * {@code tickets} table in JDBC batches. Because the flusher reads the latest state instead of replaying transitions,
+ * the database never ends up behind memory even if two transitions on the same seat are marked out of order.
+ *
+ * <p>Inventories are preloaded for upcoming events on startup, loaded lazily on first access, and evicted once the
+ * event has started. On startup an inventory is recovered from the newest snapshot of its event and the tail of the
+ * ticket transition ledger where possible, and the snapshots of changed events are refreshed periodically.
+ *
+ * <p>With event ownership enabled, only events this node {@linkplain LeasedEvents#isOwned(long) owns} are loaded and
+ * accept transitions. Seats are written in a transaction which locks the lease of their event and checks its fencing
+ * token, so a node taking the event over waits until the write commits, and reads it. An inventory whose lease lapsed
+ * is kept and written until the writes commit, and only dropped together with its unwritten seats once another node
+ * took the event over, as that node has loaded the state of the database and may have sold the same seats again.
+ */
+@Service
+@Slf4j
+public class SeatInventoryService {
+    private final InventoryProperties properties;
+    private final OwnershipProperties ownershipProperties;
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketBatchRepository batchRepository;
+    private final TicketLedgerService ledgerService;
+    private final ReplicaPool replicaPool;
+    private final LeasedEvents leasedEvents;
+    private final EventLeaseRepository leaseRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final boolean enabled;
+
+    private final Map<Long, SeatInventory> inventories = new ConcurrentHashMap<>();
+    private final Queue<DirtySeat> dirtySeats = new ConcurrentLinkedQueue<>();
+    private final Set<DirtySeat> pendingSeats = new LinkedHashSet<>();
+
+    private record DirtySeat(long eventId, long ticketId) {}
+
+    private enum Write {
+        WRITTEN,
+        /**
+         * The lease has changed hands since the token was read, possibly to this node itself.
+         */
+        RETRY,
+        /**
+         * Another node took the event over, so the seats can never be written.
+         */
+        LOST
+    }
+
+    public SeatInventoryService(
+            InventoryProperties properties,
+            OwnershipProperties ownershipProperties,
+            EventRepository eventRepository,
+            TicketRepository ticketRepository,
+            TicketBatchRepository batchRepository,
+            TicketLedgerService ledgerService,
+            ReplicaPool replicaPool,
+            LeasedEvents leasedEvents,
+            EventLeaseRepository leaseRepository,
+            PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.ownershipProperties = ownershipProperties;
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.batchRepository = batchRepository;
+        this.ledgerService = ledgerService;
+        this.replicaPool = replicaPool;
+        this.leasedEvents = leasedEvents;
+        this.leaseRepository = leaseRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        val configured = properties.getEnabled();
+        this.enabled = configured != null ? configured : ownershipProperties.isEnabled();
+        if (enabled && !ownershipProperties.isEnabled())
+            log.warn("The seat inventory is enabled without event ownership, which is only safe with a single node");
+    }
+
+    /**
+     * Whether booking decisions are served from memory. Unless configured explicitly, only when events are leased to a
+     * single node.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadUpcoming() {
+        if (!enabled) return;
+
+        val eventIds = eventRepository.findIdsByStartDateAfter(LocalDateTime.now());
+        for (val eventId : eventIds) {
+            if (leasedEvents.isOwned(eventId)) inventories.computeIfAbsent(eventId, this::recover);
+        }
+
+        log.info("Preloaded seat inventory for {} upcoming events", inventories.size());
+    }
+
+    /**
+     * Get the in-memory inventory of an event, loading it from the database on first access.
+     *
+     * @param eventId The id of the event
+     * @return The inventory, empty if the inventory is disabled, the event is not owned by this node, does not exist or
+     *     has already started
+     */
+    public Optional<SeatInventory> get(long eventId) {
+        if (!enabled || !leasedEvents.isOwned(eventId)) return Optional.empty();
+
+        return Optional.ofNullable(inventories.computeIfAbsent(eventId, this::loadFromPrimary));
+    }
+
+    /**
+     * Get the in-memory inventory of an event if it is already loaded.
+     *
+     * @param eventId The id of the event
+     * @return The inventory, empty if it is not held in memory
+     */
+    public Optional<SeatInventory> find(long eventId) {
+        return Optional.ofNullable(inventories.get(eventId));
+    }
+
+    /**
+     * Apply a transition to a seat in memory and schedule it to be persisted.
+     *
+     * @return The outcome of the transition, empty if the event is not held in memory,
+     *     {@link SeatInventory.Result#RETIRED} while the inventory of a started event is being evicted
+     */
+    public Optional<SeatInventory.Result> transition(
+            long eventId,
+            long ticketId,
+            TicketStatus from,
+            long fromHolder,
+            TicketStatus to,
+            long toHolder,
+            @Nullable LocalDateTime holdUntil) {
+        val holdUntilMillis = holdUntil == null ? 0 : SeatInventory.toEpochMilli(holdUntil);
+        return this.apply(
+                eventId,
+                new long[] {ticketId},
+                inventory -> inventory.transition(ticketId, from, fromHolder, to, toHolder, holdUntilMillis));
+    }
+
+    /**
+     * Apply a transition to several seats in memory, all or nothing, and schedule them to be persisted.
+     *
+     * @param ticketIds The distinct ids of the tickets, in ascending order
+     * @return The outcome of the transition, empty if the event is not held in memory,
+     *     {@link SeatInventory.Result#RETIRED} while the inventory of a started event is being evicted
+     */
+    public Optional<SeatInventory.Result> transitionAll(
+            long eventId,
+            long[] ticketIds,
+            TicketStatus from,
+            long fromHolder,
+            TicketStatus to,
+            long toHolder,
+            @Nullable LocalDateTime holdUntil) {
+        val holdUntilMillis = holdUntil == null ? 0 : SeatInventory.toEpochMilli(holdUntil);
+        return this.apply(
+                eventId,
+                ticketIds,
+                inventory -> inventory.transitionAll(ticketIds, from, fromHolder, to, toHolder, holdUntilMillis));
+    }
+
+    /**
+     * Release an expired reservation in memory and schedule it to be persisted.
+     *
+     * @return The outcome of the expiry, empty if the event is not held in memory, {@link SeatInventory.Result#RETIRED}
+     *     while the inventory of a started event is being evicted
+     */
+    public Optional<SeatInventory.Result> expire(long eventId, long ticketId, long userId, long now) {
+        return this.apply(eventId, new long[] {ticketId}, inventory -> inventory.expire(ticketId, userId, now));
+    }
+
+    /**
+     * Apply an operation to the inventory of an event. A rebuilt or discarded inventory is replaced in the same map
+     * update which retires it, so an operation which found it retired is retried once against whatever replaced it. An
+     * inventory which is still in place once retired is being evicted, and the operation fails right away.
+     */
+    private Optional<SeatInventory.Result> apply(
+            long eventId, long[] ticketIds, Function<SeatInventory, SeatInventory.Result> operation) {
+        SeatInventory retired = null;
+        for (; ; ) {
+            val inventory = this.get(eventId).orElse(null);
+            if (inventory == null) return Optional.empty();
+            if (inventory == retired) return Optional.of(SeatInventory.Result.RETIRED);
+
+            val result = operation.apply(inventory);
+            if (result == SeatInventory.Result.APPLIED) {
+                for (val ticketId : ticketIds) dirtySeats.add(new DirtySeat(eventId, ticketId));
+            }
+
+            if (result != SeatInventory.Result.RETIRED) return Optional.of(result);
+            retired = inventory;
+        }
+    }
+
+    /**
+     * Add newly persisted tickets to the inventory of their event once the current transaction commits.
+     *
+     * @param eventId The id of the event
+     * @param tickets The states of the created tickets
+     */
+    public void addTickets(long eventId, Collection<TicketState> tickets) {
+        TransactionCallbacks.afterCommit(() -> this.rebuild(eventId, tickets, Set.of()));
+    }
+
+    /**
+     * Remove a deleted ticket from the inventory of its event once the current transaction commits.
+     *
+     * @param eventId The id of the event
+     * @param ticketId The id of the deleted ticket
+     */
+    public void removeTicket(long eventId, long ticketId) {
+        TransactionCallbacks.afterCommit(() -> this.rebuild(eventId, Set.of(), Set.of(ticketId)));
+    }
+
+    /**
+     * Write the current state of every dirty seat to the database, in one transaction per event. Seats which fail to be
+     * written are retried on the next flush, also once the lease of their event has lapsed, until another node takes
+     * the event over.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.inventory.flush-interval-ms:100}")
+    public synchronized void flush() {
+        DirtySeat seat;
+        while ((seat = dirtySeats.poll()) != null) pendingSeats.add(seat);
+        if (pendingSeats.isEmpty()) return;
+
+        val byEvent = new LinkedHashMap<Long, List<DirtySeat>>();
+        for (val pending : pendingSeats)
+            byEvent.computeIfAbsent(pending.eventId(), id -> new ArrayList<>()).add(pending);
+
+        for (val entry : byEvent.entrySet()) {
+            val eventId = entry.getKey();
+            val seats = entry.getValue();
+            try {
+                val written = this.write(eventId, inventory -> {
+                    val states = new ArrayList<TicketState>(seats.size());
+                    for (val pending : seats) {
+                        val state = inventory.stateOf(pending.ticketId());
+                        if (state != null) states.add(state);
+                    }
+                    return states;
+                });
+                if (written == Write.RETRY) continue;
+                if (written == Write.LOST)
+                    log.error(
+                            "Lost {} seat transitions of event {}, which another node took over",
+                            seats.size(),
+                            eventId);
+
+                seats.forEach(pendingSeats::remove);
+            } catch (DataAccessException e) {
+                log.error(
+                        "Failed to flush {} seat transitions of event {}, retrying on next flush",
+                        seats.size(),
+                        eventId,
+                        e);
+            }
+        }
+    }
+
+    /**
+     * Evict the inventories of events which have started. Their complete state is written before they are dropped, as
+     * bookings are no longer accepted from memory afterward. An inventory which fails to be written stays retired in
+     * memory, along with its dirty seats, and is written again on the next run.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.inventory.eviction-interval-ms:60000}")
+    public synchronized void evictStarted() {
+        val now = LocalDateTime.now();
+        for (val inventory : inventories.values()) {
+            if (inventory.getStartDate().isAfter(now)) continue;
+
+            inventory.retire();
+            try {
+                if (this.write(inventory.getEventId(), retired -> retired.states(null)) == Write.RETRY) continue;
+            } catch (DataAccessException e) {
+                log.error(
+                        "Failed to persist inventory of event {} before eviction, retrying on next run",
+                        inventory.getEventId(),
+                        e);
+                continue;
+            }
+
+            inventories.remove(inventory.getEventId(), inventory);
+        }
+    }
+
+    /**
+     * Drop the inventory of an event without persisting it, so it is loaded again from the database on next access.
+     * Only called once another node took the event over, as dirty seats of the event which have not been
+     * {@linkplain #flush() flushed} yet are lost.
+     *
+     * @param eventId The id of the event
+     */
+    public void discard(long eventId) {
+        inventories.computeIfPresent(eventId, (id, inventory) -> {
+            inventory.retire();
+            return null;
+        });
+    }
+
+    /**
+     * Write seat states of the inventory of an event. With event ownership enabled, the states are only written in a
+     * transaction which locks the lease of the event and finds the fencing token this node holds, so no other node can
+     * take the event over before they commit. A lapsed lease which no other node took over still fences the write. A
+     * missing lease was either handed over by another node on shutdown, or deleted long after its event started.
+     *
+     * @param states The states to write, taken from the inventory
+     * @return The outcome, {@link Write#WRITTEN} as well if the event has no inventory
+     */
+    private Write write(long eventId, Function<SeatInventory, Collection<TicketState>> states) {
+        // The token is read before the inventory, which is always dropped before another token is held
+        val fencingToken = leasedEvents.fencingTokenOf(eventId);
+        val inventory = inventories.get(eventId);
+        if (inventory == null) return Write.WRITTEN;
+
+        if (!ownershipProperties.isEnabled()) {
+            batchRepository.updateStates(states.apply(inventory), properties.getFlushBatchSize());
+            return Write.WRITTEN;
+        }
+
+        val written = primaryTransaction.execute(status -> {
+            val lease = leaseRepository.lockById(eventId).orElse(null);
+            if (lease == null || !lease.getOwner().equals(leasedEvents.getNodeId())) return Write.LOST;
+            if (fencingToken == null || lease.getFencingToken() != fencingToken) return Write.RETRY;
+
+            batchRepository.updateStates(states.apply(inventory), properties.getFlushBatchSize());
+            return Write.WRITTEN;
+        });
+
+        // Only the inventory which was fenced is dropped, this node may have taken the event over again since
+        if (written == Write.LOST && inventories.remove(eventId, inventory)) inventory.retire();
+
+        return written;
+    }
+
+    /**
+     * Refresh the snapshot of every event with ticket transitions since its last snapshot, from memory if the event is
+     * held in memory and from the {@code tickets} table otherwise.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.ledger.snapshot-interval-ms:300000}")
+    public void snapshotChanged() {
+        for (val eventId : ledgerService.takeChangedEvents()) {
+            try {
+                ledgerService.snapshot(eventId, () -> {
+                    val inventory = inventories.get(eventId);
+                    return inventory == null ? ticketRepository.findStatesByEventId(eventId) : inventory.states(null);
+                });
+            } catch (DataAccessException e) {
+                log.error("Failed to snapshot the tickets of event {}, retrying on next snapshot", eventId, e);
+                ledgerService.markChanged(eventId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.flush();
+    }
+
+    /**
+     * Load an inventory in a transaction of its own if the current transaction reads from a replica. The inventory is
+     * the source of booking decisions, so it must not miss a transition the replica has not applied yet.
+     */
+    @Nullable private SeatInventory loadFromPrimary(long eventId) {
+        if (!replicaPool.isReplicaRead()) return this.load(eventId);
+
+        return primaryTransaction.execute(status -> this.load(eventId));
+    }
+
+    private SeatInventory load(long eventId) {
+        val startDate = eventRepository.findStartDateById(eventId);
+        if (startDate.isEmpty() || !startDate.get().isAfter(LocalDateTime.now())) return null;
+
+        return SeatInventory.of(eventId, startDate.get(), ticketRepository.findStatesByEventId(eventId));
+    }
+
+    /**
+     * Load the inventory of an event from its newest snapshot and the tail of the ledger. The {@code tickets} table is
+     * read instead if the event has no snapshot, or if the recovered states disagree with the ticket counts of the
+     * table, which only takes an aggregate instead of every row.
+     */
+    private SeatInventory recover(long eventId) {
+        val startDate = eventRepository.findStartDateById(eventId);
+        if (startDate.isEmpty() || !startDate.get().isAfter(LocalDateTime.now())) return null;
+
+        val recovered = ledgerService.rebuild(eventId);
+        if (recovered.isPresent() && this.matchesTable(eventId, recovered.get()))
+            return SeatInventory.of(eventId, startDate.get(), recovered.get());
+
+        return SeatInventory.of(eventId, startDate.get(), ticketRepository.findStatesByEventId(eventId));
+    }
+
+    private boolean matchesTable(long eventId, List<TicketState> states) {
+        val expected = new EnumMap<TicketStatus, Long>(TicketStatus.class);
+        for (val count : ticketRepository.countByStatus(List.of(eventId))) expected.put(count.status(), count.count());
+
+        val actual = new EnumMap<TicketStatus, Long>(TicketStatus.class);
+        for (val state : states) actual.merge(state.status(), 1L, Long::sum);
+        return expected.equals(actual);
+    }
+
+    private void rebuild(long eventId, Collection<TicketState> added, Collection<Long> removed) {
+        inventories.computeIfPresent(eventId, (id, inventory) -> inventory.rebuild(added, removed));
+    }
+}
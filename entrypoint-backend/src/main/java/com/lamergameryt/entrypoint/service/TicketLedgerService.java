@@ -0,0 +1,193 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.config.LedgerProperties;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import com.lamergameryt.entrypoint.ledger.LedgerSnapshot;
+import com.lamergameryt.entrypoint.ledger.TicketTransition;
+import com.lamergameryt.entrypoint.model.EventSnapshotModel;
+import com.lamergameryt.entrypoint.repository.EventSnapshotRepository;
+import com.lamergameryt.entrypoint.repository.TicketLedgerRepository;
+import com.lamergameryt.entrypoint.util.TransactionCallbacks;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records every ticket transition in the append-only {@code ticket_transitions} ledger, and keeps compact per-event
+ * snapshots of it.
+ *
+ * <p>Transitions are queued once they have been applied and appended in JDBC batches, so recording never adds a
+ * statement to the booking path. The current state of an event can be rebuilt from its newest snapshot and the
+ * ledger entries after the position of that snapshot, without reading the {@code tickets} table.
+ *
+ * <p>A snapshot is taken at the ledger position reached after flushing every queued transition, and its states are
+ * read only afterward. The position is the highest id assigned so far, but ids are assigned before their entries
+ * commit, so other instances may still commit entries below it. The snapshot therefore also stores the ids in a window
+ * below its position which held no committed entry yet, and a rebuild replays the entries committed at those ids later
+ * along with the entries after the position. A snapshot may already include some of these entries, which the replay
+ * recognizes and skips.
+ */
+@Service
+@Slf4j
+public class TicketLedgerService {
+    private final LedgerProperties properties;
+    private final TicketLedgerRepository ledgerRepository;
+    private final EventSnapshotRepository snapshotRepository;
+
+    private final Queue<TicketTransition> recorded = new ConcurrentLinkedQueue<>();
+    private final List<TicketTransition> pending = new ArrayList<>();
+    private final Set<Long> changedEvents = ConcurrentHashMap.newKeySet();
+
+    public TicketLedgerService(
+            LedgerProperties properties,
+            TicketLedgerRepository ledgerRepository,
+            EventSnapshotRepository snapshotRepository) {
+        this.properties = properties;
+        this.ledgerRepository = ledgerRepository;
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    /**
+     * Record a transition once the current transaction commits, or immediately if no transaction is active.
+     *
+     * @param transition The applied transition
+     */
+    public void record(TicketTransition transition) {
+        if (properties.isEnabled()) TransactionCallbacks.afterCommit(() -> recorded.add(transition));
+    }
+
+    public void recordAll(Collection<TicketTransition> transitions) {
+        if (properties.isEnabled()) TransactionCallbacks.afterCommit(() -> recorded.addAll(transitions));
+    }
+
+    /**
+     * Mark an event whose tickets changed without being recorded, so its next snapshot is read from its current state.
+     *
+     * @param eventId The id of the event
+     */
+    public void markChanged(long eventId) {
+        if (properties.isEnabled()) changedEvents.add(eventId);
+    }
+
+    /**
+     * Append every queued transition to the ledger. Transitions which fail to be appended are retried on the next
+     * flush. A retried batch may have been partly appended already, which is harmless as a replay skips entries
+     * which no longer apply.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.ledger.flush-interval-ms:200}")
+    public synchronized void flush() {
+        TicketTransition transition;
+        while ((transition = recorded.poll()) != null) pending.add(transition);
+        if (pending.isEmpty()) return;
+
+        try {
+            ledgerRepository.append(pending, properties.getFlushBatchSize());
+            for (val appended : pending) changedEvents.add(appended.eventId());
+            pending.clear();
+        } catch (DataAccessException e) {
+            log.error("Failed to append {} ticket transitions, retrying on next flush", pending.size(), e);
+        }
+    }
+
+    /**
+     * Take the ids of every event with transitions since its last snapshot.
+     *
+     * @return The ids of the changed events, which are no longer marked as changed
+     */
+    public List<Long> takeChangedEvents() {
+        val eventIds = new ArrayList<>(changedEvents);
+        changedEvents.removeAll(eventIds);
+        return eventIds;
+    }
+
+    /**
+     * Store a snapshot of an event, replacing its previous snapshot.
+     *
+     * @param eventId The id of the event
+     * @param currentStates The current states of every ticket of the event, read after the ledger position is fixed
+     */
+    public synchronized void snapshot(long eventId, Supplier<Collection<TicketState>> currentStates) {
+        this.flush();
+        val position = ledgerRepository.findPosition();
+        val missedIds =
+                ledgerRepository.findMissingIds(Math.max(0, position - properties.getSnapshotWindow()), position);
+        val states = currentStates.get();
+
+        snapshotRepository.save(EventSnapshotModel.builder()
+                .eventId(eventId)
+                .position(position)
+                .missedIds(encodeIds(missedIds))
+                .ticketCount(states.size())
+                .data(LedgerSnapshot.encode(states))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Rebuild the ticket states of an event from its newest snapshot and the ledger entries after it.
+     *
+     * @param eventId The id of the event
+     * @return The ticket states in ascending id order, empty if the event has no snapshot
+     */
+    public Optional<List<TicketState>> rebuild(long eventId) {
+        return snapshotRepository.findById(eventId).map(snapshot -> {
+            val tail = ledgerRepository.findTail(
+                    eventId, snapshot.getPosition(), decodeIds(snapshot.getMissedIds()));
+            return LedgerSnapshot.replay(LedgerSnapshot.decode(snapshot.getData()), tail);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.flush();
+    }
+
+    @Nullable private static byte[] encodeIds(long[] ids) {
+        if (ids.length == 0) return null;
+
+        val buffer = ByteBuffer.allocate(ids.length * Long.BYTES);
+        buffer.asLongBuffer().put(ids);
+        return buffer.array();
+    }
+
+    private static long[] decodeIds(@Nullable byte[] encoded) {
+        if (encoded == null) return new long[0];
+
+        val ids = new long[encoded.length / Long.BYTES];
+        ByteBuffer.wrap(encoded).asLongBuffer().get(ids);
+        return ids;
+    }
+}
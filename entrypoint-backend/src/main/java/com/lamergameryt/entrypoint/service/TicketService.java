@@ -18,32 +18,181 @@
 
 package com.lamergameryt.entrypoint.service;
 
+import com.lamergameryt.entrypoint.config.BookingProperties;
+import com.lamergameryt.entrypoint.dto.SeatIndexDto;
+import com.lamergameryt.entrypoint.dto.TicketBulkCreateDto;
+import com.lamergameryt.entrypoint.dto.TicketDto;
 import com.lamergameryt.entrypoint.enums.TicketStatus;
 import com.lamergameryt.entrypoint.exception.ResourceNotFoundException;
+import com.lamergameryt.entrypoint.inventory.ReservationHold;
+import com.lamergameryt.entrypoint.inventory.SeatInventory;
+import com.lamergameryt.entrypoint.inventory.SeatMap;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import com.lamergameryt.entrypoint.ledger.TicketTransition;
 import com.lamergameryt.entrypoint.model.EventModel;
 import com.lamergameryt.entrypoint.model.TicketModel;
+import com.lamergameryt.entrypoint.pagination.CursorPage;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import com.lamergameryt.entrypoint.repository.TicketBatchRepository;
 import com.lamergameryt.entrypoint.repository.TicketRepository;
-import jakarta.transaction.Transactional;
+import com.lamergameryt.entrypoint.util.RetryExecutor;
+import com.lamergameryt.entrypoint.util.StripedLock;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
 import lombok.val;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class TicketService {
+    private static final int BULK_INSERT_ATTEMPTS = 3;
+    private static final int STREAM_PAGE_SIZE = 1000;
+
     private final EventService eventService;
+    private final UserService userService;
+    private final SeatInventoryService inventoryService;
+    private final AvailabilityService availabilityService;
+    private final ReservationExpiryService expiryService;
+    private final TicketLedgerService ledgerService;
+    private final BookingProperties bookingProperties;
     private final TicketRepository repository;
+    private final TicketBatchRepository batchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedLock bookingLocks;
+    private final RetryExecutor retryExecutor;
 
-    public TicketService(EventService eventService, TicketRepository ticketRepository) {
+    public TicketService(
+            EventService eventService,
+            UserService userService,
+            SeatInventoryService inventoryService,
+            AvailabilityService availabilityService,
+            ReservationExpiryService expiryService,
+            TicketLedgerService ledgerService,
+            BookingProperties bookingProperties,
+            TicketRepository ticketRepository,
+            TicketBatchRepository batchRepository,
+            TransactionTemplate transactionTemplate,
+            StripedLock bookingLocks,
+            RetryExecutor retryExecutor) {
         this.eventService = eventService;
+        this.userService = userService;
+        this.inventoryService = inventoryService;
+        this.availabilityService = availabilityService;
+        this.expiryService = expiryService;
+        this.ledgerService = ledgerService;
+        this.bookingProperties = bookingProperties;
         this.repository = ticketRepository;
+        this.batchRepository = batchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bookingLocks = bookingLocks;
+        this.retryExecutor = retryExecutor;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<List<TicketDto>> getAvailableForEvent(long eventId, long afterId, int limit) {
+        return this.getForEvent(eventId, TicketStatus.NOT_BOOKED, afterId, limit);
     }
 
-    public List<TicketModel> getAvailableForEvent(long eventId) {
-        return repository.findAllByEvent_IdAndStatus(eventId, TicketStatus.NOT_BOOKED);
+    @Transactional(readOnly = true)
+    public CursorPage<List<TicketDto>> getAllForEvent(long eventId, long afterId, int limit) {
+        return this.getForEvent(eventId, null, afterId, limit);
     }
 
-    public List<TicketModel> getAllForEvent(long eventId) {
-        return repository.findAllByEvent_Id(eventId);
+    /**
+     * Get a page of the tickets for an event in ascending id order, from the seat inventory or from a keyset query.
+     * One ticket more than requested is read to tell whether a next page exists.
+     */
+    private CursorPage<List<TicketDto>> getForEvent(
+            long eventId, @Nullable TicketStatus status, long afterId, int limit) {
+        val inventory = inventoryService.get(eventId);
+        val tickets = inventory.isPresent()
+                ? inventory.get().states(status, afterId, limit + 1).stream()
+                        .map(state -> toDto(eventId, state))
+                        .toList()
+                : status == null
+                        ? repository.findDtosByEventIdAfter(eventId, afterId, Limit.of(limit + 1))
+                        : repository.findDtosByEventIdAndStatusAfter(eventId, status, afterId, Limit.of(limit + 1));
+
+        if (tickets.size() <= limit) return new CursorPage<>(tickets, null);
+
+        val page = tickets.subList(0, limit);
+        return new CursorPage<>(page, PageCursor.ofTicket(page.get(limit - 1).id()));
+    }
+
+    /**
+     * Pass every ticket for an event to an action in ascending id order, without collecting them first. Tickets are
+     * read from the seat inventory a page at a time, or streamed from the database through a forward-only cursor, so
+     * the memory used does not grow with the number of tickets.
+     *
+     * <p>The transaction stays open until the action has seen every ticket, an action writing to a slow client holds a
+     * database connection for as long.
+     *
+     * @param eventId The id of the event
+     * @param action The action to perform for every ticket
+     */
+    @Transactional(readOnly = true)
+    public void forEachForEvent(long eventId, Consumer<TicketDto> action) {
+        val inventory = inventoryService.get(eventId);
+        if (inventory.isEmpty()) {
+            try (val tickets = repository.streamDtosByEventId(eventId)) {
+                tickets.forEach(action);
+            }
+            return;
+        }
+
+        long afterId = 0;
+        List<TicketState> page;
+        do {
+            page = inventory.get().states(null, afterId, STREAM_PAGE_SIZE);
+            for (val state : page) action.accept(toDto(eventId, state));
+            if (!page.isEmpty()) afterId = page.get(page.size() - 1).id();
+        } while (page.size() == STREAM_PAGE_SIZE);
+    }
+
+    private static TicketDto toDto(long eventId, TicketState state) {
+        return new TicketDto(state.id(), eventId, state.seatNumber(), state.status());
+    }
+
+    /**
+     * Encode the status of every ticket for an event as a binary seat map. The map is built from the seat inventory or
+     * the ticket state projection, no ticket entity or DTO is created per seat.
+     *
+     * @param eventId The id of the event
+     * @return The encoded seat map
+     */
+    @Transactional(readOnly = true)
+    public byte[] getSeatMap(long eventId) {
+        val inventory = inventoryService.get(eventId);
+        if (inventory.isPresent()) {
+            val seats = inventory.get();
+            return SeatMap.encode(seats.getIndexVersion(), seats.size(), seats::statusAt);
+        }
+
+        val states = repository.findStatesByEventId(eventId);
+        val ticketIds = states.stream().mapToLong(TicketState::id).toArray();
+        return SeatMap.encode(SeatMap.indexVersion(ticketIds), states.size(), index -> states.get(index).status());
+    }
+
+    @Transactional(readOnly = true)
+    public SeatIndexDto getSeatIndex(long eventId) {
+        val inventory = inventoryService.get(eventId);
+        val states = inventory.isPresent() ? inventory.get().states(null) : repository.findStatesByEventId(eventId);
+
+        val ticketIds = states.stream().map(TicketState::id).toList();
+        val version = SeatMap.indexVersion(ticketIds.stream().mapToLong(Long::longValue).toArray());
+        return new SeatIndexDto(version, ticketIds, states.stream().map(TicketState::seatNumber).toList());
     }
 
     @Transactional
@@ -56,13 +205,329 @@ public class TicketService {
 
     @Transactional
     public TicketModel createTicket(EventModel event, String seatNumber) {
-        val ticket = TicketModel.builder().seatNumber(seatNumber).event(event).build();
-        return repository.save(ticket);
+        val ticket = repository.save(TicketModel.builder().seatNumber(seatNumber).event(event).build());
+        inventoryService.addTickets(
+                event.getId(),
+                List.of(new TicketState(ticket.getId(), ticket.getSeatNumber(), ticket.getStatus(), null, null)));
+        availabilityService.invalidate(event.getId());
+        ledgerService.record(TicketTransition.created(event.getId(), ticket.getId(), ticket.getSeatNumber()));
+        return ticket;
+    }
+
+    /**
+     * Create available tickets for every seat number with JDBC batch inserts. Seat numbers which are repeated or
+     * already exist for the event are skipped instead of failing the whole request.
+     *
+     * <p>Every batch is inserted in its own transaction. A batch which conflicts with a seat created concurrently is
+     * rolled back and retried without the conflicting seats.
+     *
+     * @param eventId The id of the event
+     * @param seatNumbers The seat numbers to create tickets for
+     * @return The number of requested, created and skipped tickets
+     */
+    public TicketBulkCreateDto createTickets(long eventId, List<String> seatNumbers) {
+        if (!eventService.exists(eventId))
+            throw new ResourceNotFoundException("Event with id " + eventId + " does not exist");
+
+        val batchSize = bookingProperties.getBulkBatchSize();
+        val unique = List.copyOf(new LinkedHashSet<>(seatNumbers));
+        val createdSeats = new HashSet<String>();
+        long created = 0;
+        for (int from = 0; from < unique.size(); from += batchSize) {
+            val batch = unique.subList(from, Math.min(unique.size(), from + batchSize));
+            created += this.insertTickets(eventId, batch, createdSeats);
+        }
+
+        // Seats already held by the inventory keep their in-memory state, only the new tickets are added
+        if (created > 0) {
+            val states = repository.findStatesByEventId(eventId);
+            inventoryService.addTickets(eventId, states);
+            availabilityService.invalidate(eventId);
+            ledgerService.recordAll(states.stream()
+                    .filter(state -> createdSeats.contains(state.seatNumber()))
+                    .map(state -> TicketTransition.created(eventId, state.id(), state.seatNumber()))
+                    .toList());
+        }
+
+        return new TicketBulkCreateDto(seatNumbers.size(), created, seatNumbers.size() - created);
+    }
+
+    private int insertTickets(long eventId, List<String> seatNumbers, Set<String> createdSeats) {
+        for (int attempt = 1; ; attempt++) {
+            val existing = repository.findSeatNumbers(eventId, seatNumbers);
+            val missing = seatNumbers.stream().filter(seat -> !existing.contains(seat)).toList();
+            if (missing.isEmpty()) return 0;
+
+            try {
+                val inserted = transactionTemplate.execute(
+                        status -> batchRepository.insertTickets(eventId, missing, missing.size()));
+
+                // The batch either inserted every missing seat or was rolled back
+                createdSeats.addAll(missing);
+                return inserted == null ? 0 : inserted;
+            } catch (DuplicateKeyException e) {
+                if (attempt == BULK_INSERT_ATTEMPTS) throw e;
+            }
+        }
     }
 
     @Transactional
     public void deleteTicket(long eventId, long ticketId) {
         val deleteCount = repository.deleteByIdAndEventId(ticketId, eventId);
         if (deleteCount == 0) throw new ResourceNotFoundException("Ticket with id " + ticketId + " does not exist");
+
+        inventoryService.removeTicket(eventId, ticketId);
+        availabilityService.invalidate(eventId);
+        ledgerService.record(TicketTransition.deleted(eventId, ticketId));
+    }
+
+    /**
+     * Reserve an available ticket for a user. The reservation is released automatically once its hold runs out.
+     *
+     * <p>Requests for a sold out event are rejected from the availability counters without querying the database.
+     *
+     * @return {@code true} if the ticket was reserved, {@code false} if it is already reserved or booked
+     */
+    public boolean reserveTicket(long eventId, long ticketId, long userId) {
+        if (availabilityService.isSoldOut(eventId)) return false;
+        if (!userService.exists(userId))
+            throw new ResourceNotFoundException("User with id " + userId + " does not exist");
+
+        val reservedUntil = LocalDateTime.now().plus(bookingProperties.getHoldTtl());
+        val result = inventoryService.transition(
+                eventId, ticketId, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, userId, reservedUntil);
+        val reserved = result.isPresent()
+                ? this.checkTransition(ticketId, result.get())
+                : this.updateLocked(
+                        eventId, ticketId, TicketStatus.NOT_BOOKED, TicketStatus.RESERVED, "reserve-ticket", () -> {
+                            val user = userService.getReference(userId);
+                            return repository.reserveTicket(eventId, ticketId, user, reservedUntil);
+                        });
+
+        if (reserved) {
+            this.transitioned(
+                    eventId,
+                    new long[] {ticketId},
+                    TicketStatus.NOT_BOOKED,
+                    0,
+                    TicketStatus.RESERVED,
+                    userId,
+                    reservedUntil);
+            expiryService.schedule(new ReservationHold(ticketId, eventId, userId, reservedUntil));
+        }
+
+        return reserved;
+    }
+
+    /**
+     * Book a ticket which the user has reserved.
+     *
+     * @return {@code true} if the ticket was booked, {@code false} if the user does not hold a reservation for it
+     */
+    public boolean bookTicket(long eventId, long ticketId, long userId) {
+        val result = inventoryService.transition(
+                eventId, ticketId, TicketStatus.RESERVED, userId, TicketStatus.BOOKED, userId, null);
+        val booked = result.isPresent()
+                ? this.checkTransition(ticketId, result.get())
+                : this.updateLocked(
+                        eventId,
+                        ticketId,
+                        TicketStatus.RESERVED,
+                        TicketStatus.BOOKED,
+                        "book-ticket",
+                        () -> repository.bookTicket(eventId, ticketId, userId));
+
+        if (booked) {
+            this.transitioned(
+                    eventId, new long[] {ticketId}, TicketStatus.RESERVED, userId, TicketStatus.BOOKED, userId, null);
+        }
+
+        return booked;
+    }
+
+    /**
+     * Release a ticket which the user has reserved.
+     *
+     * @return {@code true} if the ticket was released, {@code false} if the user does not hold a reservation for it
+     */
+    public boolean releaseTicket(long eventId, long ticketId, long userId) {
+        val result = inventoryService.transition(
+                eventId, ticketId, TicketStatus.RESERVED, userId, TicketStatus.NOT_BOOKED, 0, null);
+        val released = result.isPresent()
+                ? this.checkTransition(ticketId, result.get())
+                : this.updateLocked(
+                        eventId,
+                        ticketId,
+                        TicketStatus.RESERVED,
+                        TicketStatus.NOT_BOOKED,
+                        "release-ticket",
+                        () -> repository.releaseTicket(eventId, ticketId, userId));
+
+        if (released) {
+            this.transitioned(
+                    eventId, new long[] {ticketId}, TicketStatus.RESERVED, userId, TicketStatus.NOT_BOOKED, 0, null);
+        }
+
+        return released;
+    }
+
+    /**
+     * Reserve several available tickets for a user, all or nothing. The reservations are released automatically once
+     * their hold runs out.
+     *
+     * <p>In the database, the tickets are locked in ascending id order before a single conditional update, so
+     * overlapping group bookings queue behind each other instead of deadlocking.
+     *
+     * @return {@code true} if every ticket was reserved, {@code false} if any of them is already reserved or booked
+     */
+    public boolean reserveTickets(long eventId, Collection<Long> ticketIds, long userId) {
+        val sortedIds = sortedDistinct(ticketIds);
+        if (!availabilityService.hasAvailable(eventId, sortedIds.length)) return false;
+        if (!userService.exists(userId))
+            throw new ResourceNotFoundException("User with id " + userId + " does not exist");
+
+        val reservedUntil = LocalDateTime.now().plus(bookingProperties.getHoldTtl());
+        val result = inventoryService.transitionAll(
+                eventId, sortedIds, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, userId, reservedUntil);
+        val reserved = result.isPresent()
+                ? this.checkGroupTransition(result.get())
+                : this.transitionAll(
+                        eventId, sortedIds, TicketStatus.NOT_BOOKED, TicketStatus.RESERVED, "reserve-tickets", ids -> {
+                            val user = userService.getReference(userId);
+                            return repository.reserveTickets(eventId, ids, user, reservedUntil);
+                        });
+
+        if (reserved) {
+            this.transitioned(
+                    eventId, sortedIds, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, userId, reservedUntil);
+            for (val ticketId : sortedIds) {
+                expiryService.schedule(new ReservationHold(ticketId, eventId, userId, reservedUntil));
+            }
+        }
+
+        return reserved;
+    }
+
+    /**
+     * Book several tickets which the user has reserved, all or nothing.
+     *
+     * @return {@code true} if every ticket was booked, {@code false} if the user does not hold a reservation for any
+     *     of them
+     */
+    public boolean bookTickets(long eventId, Collection<Long> ticketIds, long userId) {
+        val sortedIds = sortedDistinct(ticketIds);
+        val result = inventoryService.transitionAll(
+                eventId, sortedIds, TicketStatus.RESERVED, userId, TicketStatus.BOOKED, userId, null);
+        val booked = result.isPresent()
+                ? this.checkGroupTransition(result.get())
+                : this.transitionAll(
+                        eventId,
+                        sortedIds,
+                        TicketStatus.RESERVED,
+                        TicketStatus.BOOKED,
+                        "book-tickets",
+                        ids -> repository.bookTickets(eventId, ids, userId));
+
+        if (booked) {
+            this.transitioned(eventId, sortedIds, TicketStatus.RESERVED, userId, TicketStatus.BOOKED, userId, null);
+        }
+
+        return booked;
+    }
+
+    /**
+     * Record a transition of tickets in the ledger.
+     */
+    private void transitioned(
+            long eventId,
+            long[] ticketIds,
+            TicketStatus from,
+            long fromHolder,
+            TicketStatus to,
+            long toHolder,
+            @Nullable LocalDateTime reservedUntil) {
+        for (val ticketId : ticketIds) {
+            ledgerService.record(
+                    TicketTransition.transitioned(eventId, ticketId, from, fromHolder, to, toHolder, reservedUntil));
+        }
+    }
+
+    private static long[] sortedDistinct(Collection<Long> ticketIds) {
+        return ticketIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * Lock the tickets in ascending id order and apply a conditional update to all of them in one transaction, which is
+     * rolled back unless every ticket was updated. The booking lock stripes of the tickets are held for the whole
+     * transaction, so the row locks are only waited for by bookings from other instances. A transaction which lost a
+     * locking race is retried in full after the stripes were released. An applied transition is counted in the
+     * availability of the event.
+     */
+    private boolean transitionAll(
+            long eventId,
+            long[] sortedIds,
+            TicketStatus from,
+            TicketStatus to,
+            String operation,
+            ToIntFunction<List<Long>> update) {
+        val ids = Arrays.stream(sortedIds).boxed().toList();
+        return availabilityService.transition(eventId, from, to, sortedIds.length, () -> {
+            val applied = retryExecutor.execute(
+                    operation,
+                    () -> bookingLocks.callAll(eventId, sortedIds, () -> transactionTemplate.execute(status -> {
+                        if (repository.lockAllById(eventId, ids).size() != ids.size()) {
+                            status.setRollbackOnly();
+                            return null;
+                        }
+
+                        if (update.applyAsInt(ids) == ids.size()) return true;
+
+                        status.setRollbackOnly();
+                        return false;
+                    })));
+
+            if (applied == null) throw new ResourceNotFoundException("One or more of the tickets do not exist");
+            return applied;
+        });
+    }
+
+    /**
+     * Apply a conditional update of a single ticket while holding its booking lock stripe, so concurrent updates of the
+     * same seat queue in memory instead of on its row lock. An update which lost a locking race is retried after the
+     * stripe was released. An applied transition is counted in the availability of the event.
+     */
+    private boolean updateLocked(
+            long eventId, long ticketId, TicketStatus from, TicketStatus to, String operation, IntSupplier update) {
+        return availabilityService.transition(eventId, from, to, 1, () -> {
+            val updateCount =
+                    retryExecutor.execute(operation, () -> bookingLocks.call(eventId, ticketId, update::getAsInt));
+            return this.checkTransition(eventId, ticketId, updateCount);
+        });
+    }
+
+    private boolean checkGroupTransition(SeatInventory.Result result) {
+        if (result == SeatInventory.Result.NOT_FOUND)
+            throw new ResourceNotFoundException("One or more of the tickets do not exist");
+
+        return result == SeatInventory.Result.APPLIED;
+    }
+
+    private boolean checkTransition(long ticketId, SeatInventory.Result result) {
+        if (result == SeatInventory.Result.NOT_FOUND)
+            throw new ResourceNotFoundException("Ticket with id " + ticketId + " does not exist");
+
+        return result == SeatInventory.Result.APPLIED;
+    }
+
+    /**
+     * A conditional update which did not match any row is either a conflict or a missing ticket. The existence check
+     * only runs on the failure path, so successful transitions stay a single statement.
+     */
+    private boolean checkTransition(long eventId, long ticketId, int updateCount) {
+        if (updateCount > 0) return true;
+        if (!repository.existsByIdAndEvent_Id(ticketId, eventId))
+            throw new ResourceNotFoundException("Ticket with id " + ticketId + " does not exist");
+
+        return false;
     }
 }
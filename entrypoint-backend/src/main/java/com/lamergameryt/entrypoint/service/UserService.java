@@ -20,9 +20,9 @@ package com.lamergameryt.entrypoint.service;
 
 import com.lamergameryt.entrypoint.model.UserModel;
 import com.lamergameryt.entrypoint.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserService {
@@ -32,10 +32,26 @@ public class UserService {
         this.userRepository = userRepository;
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserModel> findByCredentials(String email, String password) {
         return userRepository.findByEmailAndPassword(email, password);
     }
 
+    @Transactional(readOnly = true)
+    public boolean exists(long userId) {
+        return userRepository.existsById(userId);
+    }
+
+    /**
+     * Get a reference to a user without loading it from the database.
+     *
+     * @param userId The id of the user
+     * @return A lazy reference which only carries the id of the user
+     */
+    public UserModel getReference(long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     @Transactional
     public UserModel createUser(String name, String email, String password) {
         UserModel userModel = new UserModel();
@@ -0,0 +1,228 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.service;
+
+import com.lamergameryt.entrypoint.admission.WaitingRoom;
+import com.lamergameryt.entrypoint.config.WaitingRoomProperties;
+import com.lamergameryt.entrypoint.dto.WaitingRoomPositionDto;
+import com.lamergameryt.entrypoint.enums.AdmissionStatus;
+import com.lamergameryt.entrypoint.exception.ResourceNotFoundException;
+import jakarta.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Virtual waiting rooms which meter access to the tickets of hot events.
+ *
+ * <p>A token is the queue position of a client signed with HMAC-SHA256, so the server keeps no state per client and
+ * a client cannot skip ahead by forging a position. Joining and polling a waiting room are served entirely from
+ * memory and never reach the database.
+ */
+@Service
+@Slf4j
+public class WaitingRoomService {
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 16;
+    private static final int TOKEN_LENGTH = Long.BYTES + MAC_LENGTH;
+
+    private final EventService eventService;
+    private final WaitingRoomProperties properties;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentMap<Long, WaitingRoom> rooms = new ConcurrentHashMap<>();
+
+    public WaitingRoomService(EventService eventService, WaitingRoomProperties properties) {
+        this.eventService = eventService;
+        this.properties = properties;
+        this.key = new SecretKeySpec(this.secret(), MAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    private byte[] secret() {
+        if (properties.getSecret() != null) return properties.getSecret().getBytes(StandardCharsets.UTF_8);
+
+        log.warn("No waiting room secret configured, tokens are only valid on this instance until it restarts");
+        val secret = new byte[32];
+        random.nextBytes(secret);
+        return secret;
+    }
+
+    private Mac createMac() {
+        try {
+            val mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    /**
+     * Open the waiting room of an event, or change the admission rate of a room which is already open.
+     *
+     * @param eventId The id of the event
+     * @param admitRate The number of clients admitted per second, {@code null} for the configured default
+     * @param burst The number of clients admitted at once after the queue was idle, {@code null} for the default
+     * @return The waiting room of the event
+     */
+    public WaitingRoom open(long eventId, @Nullable Double admitRate, @Nullable Long burst) {
+        if (!eventService.exists(eventId))
+            throw new ResourceNotFoundException("Event with id " + eventId + " does not exist");
+
+        val rate = admitRate == null ? properties.getDefaultAdmitRate() : admitRate;
+        val capacity = burst == null ? properties.getDefaultBurst() : burst;
+        return rooms.compute(eventId, (id, room) -> {
+            if (room == null) {
+                return new WaitingRoom(
+                        id,
+                        random.nextLong(),
+                        rate,
+                        capacity,
+                        properties.getAdmissionTtl().toMillis(),
+                        System.currentTimeMillis());
+            }
+
+            room.configure(rate, capacity);
+            return room;
+        });
+    }
+
+    /**
+     * Close the waiting room of an event. Access to the tickets of the event is no longer metered and every token
+     * handed out by the room becomes invalid.
+     *
+     * @return {@code true} if a waiting room was open
+     */
+    public boolean close(long eventId) {
+        return rooms.remove(eventId) != null;
+    }
+
+    public boolean isOpen(long eventId) {
+        return rooms.containsKey(eventId);
+    }
+
+    /**
+     * Join the back of the queue of an event.
+     *
+     * @param eventId The id of the event
+     * @return The token and position of the client, empty if the event has no open waiting room
+     */
+    public Optional<WaitingRoomPositionDto> join(long eventId) {
+        val room = rooms.get(eventId);
+        if (room == null) return Optional.empty();
+
+        val position = room.join();
+        return Optional.of(this.positionOf(room, this.sign(room, position), position));
+    }
+
+    /**
+     * Get the current place in the queue for a token.
+     *
+     * @param eventId The id of the event
+     * @param token The token handed out when joining
+     * @return The position of the client, empty if the event has no open waiting room or the token is invalid
+     */
+    public Optional<WaitingRoomPositionDto> getPosition(long eventId, String token) {
+        val room = rooms.get(eventId);
+        if (room == null) return Optional.empty();
+
+        val position = this.verify(room, token);
+        return position > 0 ? Optional.of(this.positionOf(room, token, position)) : Optional.empty();
+    }
+
+    /**
+     * Check whether a client may access the tickets of an event. Events without an open waiting room are not metered.
+     *
+     * @param eventId The id of the event
+     * @param token The token of the client, {@code null} if none was sent
+     * @return {@code true} if the event has no open waiting room or the token has been admitted
+     */
+    public boolean isAdmitted(long eventId, @Nullable String token) {
+        val room = rooms.get(eventId);
+        if (room == null) return true;
+        if (token == null) return false;
+
+        return room.statusOf(this.verify(room, token)) == AdmissionStatus.ADMITTED;
+    }
+
+    private WaitingRoomPositionDto positionOf(WaitingRoom room, String token, long position) {
+        val waiting = room.positionOf(position);
+        val estimatedWait = (long) Math.ceil(waiting / room.getAdmitRate());
+        return new WaitingRoomPositionDto(token, room.statusOf(position), waiting, estimatedWait);
+    }
+
+    /**
+     * Admit the next waiting clients of every open waiting room.
+     */
+    @Scheduled(fixedDelayString = "${entrypoint.waiting-room.admit-interval-ms:100}")
+    public void admit() {
+        val now = System.currentTimeMillis();
+        for (val room : rooms.values()) room.admit(now);
+    }
+
+    private String sign(WaitingRoom room, long position) {
+        val token = ByteBuffer.allocate(TOKEN_LENGTH).putLong(position).put(this.mac(room, position)).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Check the signature of a token against a waiting room.
+     *
+     * @return The queue position signed by the token, 0 if the token is malformed or was not signed for this room
+     */
+    private long verify(WaitingRoom room, String token) {
+        final byte[] decoded;
+        try {
+            decoded = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+
+        if (decoded.length != TOKEN_LENGTH) return 0;
+
+        val position = ByteBuffer.wrap(decoded).getLong();
+        val signature = Arrays.copyOfRange(decoded, Long.BYTES, TOKEN_LENGTH);
+        return MessageDigest.isEqual(signature, this.mac(room, position)) ? position : 0;
+    }
+
+    private byte[] mac(WaitingRoom room, long position) {
+        val mac = macs.get();
+        mac.update(ByteBuffer.allocate(Long.BYTES * 3)
+                .putLong(room.getEventId())
+                .putLong(room.getEpoch())
+                .putLong(position)
+                .array());
+        return Arrays.copyOf(mac.doFinal(), MAC_LENGTH);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+
+/**
+ * A hashed timing wheel for a large number of short-lived timeouts.
+ *
+ * <p>Time is split into ticks of a fixed length, and a timeout is placed in the bucket of the tick it expires in,
+ * modulo the number of buckets. Timeouts further away than one revolution carry the number of remaining revolutions.
+ * Scheduling is O(1) and lock-free from any thread; expiring costs O(1) per timeout plus one bucket visit per tick,
+ * independent of how many timeouts are pending.
+ *
+ * <p>{@link #advance(long)} must only be called from a single thread at a time.
+ *
+ * @param <T> The type of the scheduled items
+ */
+public final class HashedTimingWheel<T> {
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<ArrayDeque<Timeout<T>>> buckets;
+    private final Queue<Timeout<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long currentTick;
+
+    private static final class Timeout<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Timeout(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+
+    /**
+     * Create a timing wheel.
+     *
+     * @param tickMillis The length of a tick in milliseconds
+     * @param bucketCount The number of buckets, rounded up to the next power of two
+     * @param startMillis The epoch millisecond at which the first tick starts
+     */
+    public HashedTimingWheel(long tickMillis, int bucketCount, long startMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis must be positive");
+        if (bucketCount <= 0 || bucketCount > 1 << 30)
+            throw new IllegalArgumentException("bucketCount must be between 1 and 2^30");
+
+        val normalizedCount = Integer.highestOneBit(bucketCount - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = Math.max(normalizedCount, 1) - 1;
+        this.buckets = new ArrayList<>(mask + 1);
+        for (int i = 0; i <= mask; i++) buckets.add(new ArrayDeque<>());
+    }
+
+    /**
+     * Schedule an item to expire at the given time. Items are never expired before their deadline, and at most one tick
+     * after it.
+     *
+     * @param item The item to schedule
+     * @param deadlineMillis The epoch millisecond at which the item expires
+     */
+    public void schedule(T item, long deadlineMillis) {
+        incoming.add(new Timeout<>(item, deadlineMillis));
+        size.incrementAndGet();
+    }
+
+    /**
+     * Move the wheel forward to the given time and collect every item which has expired.
+     *
+     * @param nowMillis The current epoch millisecond
+     * @return The expired items, in no particular order
+     */
+    public List<T> advance(long nowMillis) {
+        val targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        val expired = new ArrayList<T>();
+        if (targetTick < currentTick) return expired;
+
+        Timeout<T> timeout;
+        while ((timeout = incoming.poll()) != null) this.place(timeout);
+        for (; currentTick <= targetTick; currentTick++) this.expireBucket(currentTick, expired);
+
+        size.addAndGet(-expired.size());
+        return expired;
+    }
+
+    /** @return The number of items which are scheduled and have not expired yet */
+    public int size() {
+        return size.get();
+    }
+
+    private void place(Timeout<T> timeout) {
+        val deadlineTick = Math.max(this.ceilTick(timeout.deadlineMillis), currentTick);
+        timeout.remainingRounds = (deadlineTick - currentTick) / (mask + 1);
+        buckets.get((int) (deadlineTick & mask)).add(timeout);
+    }
+
+    private void expireBucket(long tick, List<T> expired) {
+        val bucket = buckets.get((int) (tick & mask));
+        val iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            val timeout = iterator.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+
+            iterator.remove();
+            expired.add(timeout.item);
+        }
+    }
+
+    private long ceilTick(long millis) {
+        return Math.floorDiv(millis - startMillis + tickMillis - 1, tickMillis);
+    }
+}
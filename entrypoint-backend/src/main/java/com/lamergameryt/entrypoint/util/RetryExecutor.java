@@ -0,0 +1,215 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.util;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.val;
+
+/**
+ * Runs operations which may fail on a transient conflict again after a randomized backoff.
+ *
+ * <p>The delay before retry {@code n} is drawn uniformly between 0 and {@code baseDelay * 2^(n - 1)}, capped at
+ * {@code maxDelay}, so callers which conflicted with each other do not collide again in lockstep. Every operation has
+ * its own retry budget, a {@link TokenBucket} of retries. Once the budget is spent, conflicts fail immediately instead
+ * of piling more load onto the contended rows, and the retries resume as the budget refills.
+ *
+ * <p>Every operation counts its calls, the conflicts it ran into, the retries it made and the calls which failed
+ * because the attempts or the budget ran out.
+ */
+public final class RetryExecutor {
+    private final Predicate<Throwable> retryable;
+    private final Function<String, Policy> policies;
+    private final Consumer<Operation> registered;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    /**
+     * How often and how fast an operation is retried.
+     *
+     * @param maxAttempts The maximum number of attempts including the first one
+     * @param baseDelay The upper bound of the delay before the first retry
+     * @param maxDelay The upper bound of the delay before any retry
+     * @param retriesPerSecond The rate at which the retry budget refills
+     * @param retryBurst The number of retries the budget holds
+     */
+    public record Policy(
+            int maxAttempts, Duration baseDelay, Duration maxDelay, double retriesPerSecond, long retryBurst) {
+        public Policy {
+            if (maxAttempts <= 0) throw new IllegalArgumentException("maxAttempts must be positive");
+            if (baseDelay.isNegative() || maxDelay.isNegative())
+                throw new IllegalArgumentException("delays must not be negative");
+        }
+    }
+
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    public static final class Operation {
+        private final String name;
+        private final Policy policy;
+
+        private final TokenBucket budget;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+
+        private Operation(String name, Policy policy, long nowMillis) {
+            this.name = name;
+            this.policy = policy;
+            this.budget = new TokenBucket(policy.retriesPerSecond(), policy.retryBurst(), nowMillis);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public Policy policy() {
+            return policy;
+        }
+
+        public long calls() {
+            return calls.sum();
+        }
+
+        public long conflicts() {
+            return conflicts.sum();
+        }
+
+        public long retries() {
+            return retries.sum();
+        }
+
+        public long exhausted() {
+            return exhausted.sum();
+        }
+    }
+
+    /**
+     * Create a retry executor sleeping on the calling thread.
+     *
+     * @param retryable Whether a failure is a transient conflict worth retrying
+     * @param policies The policy of every operation, looked up once per operation name
+     * @param registered Called once with every operation when it is first executed, for example to publish its counts
+     */
+    public RetryExecutor(
+            Predicate<Throwable> retryable, Function<String, Policy> policies, Consumer<Operation> registered) {
+        this(retryable, policies, registered, System::currentTimeMillis, Thread::sleep);
+    }
+
+    public RetryExecutor(
+            Predicate<Throwable> retryable,
+            Function<String, Policy> policies,
+            Consumer<Operation> registered,
+            LongSupplier clock,
+            Sleeper sleeper) {
+        this.retryable = retryable;
+        this.policies = policies;
+        this.registered = registered;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Run an operation, retrying it while it fails with a retryable conflict. The operation must not run inside a
+     * transaction of the caller, every attempt has to start from fresh state.
+     *
+     * @param operation The name of the operation, which selects its policy, budget and counts
+     * @param action The operation to run
+     * @return The result of the first successful attempt
+     * @throws RuntimeException The failure of the last attempt, if it was not retryable or no retry was left
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        val state = this.operation(operation);
+        state.calls.increment();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!retryable.test(e)) throw e;
+
+                state.conflicts.increment();
+                if (attempt >= state.policy.maxAttempts() || state.budget.take(1, clock.getAsLong()) == 0) {
+                    state.exhausted.increment();
+                    throw e;
+                }
+
+                state.retries.increment();
+                this.backoff(state.policy, attempt, e);
+            }
+        }
+    }
+
+    public Collection<Operation> operations() {
+        return operations.values();
+    }
+
+    private Operation operation(String name) {
+        val existing = operations.get(name);
+        if (existing != null) return existing;
+
+        val created = new Operation[1];
+        val operation = operations.computeIfAbsent(
+                name, key -> created[0] = new Operation(key, policies.apply(key), clock.getAsLong()));
+        if (created[0] != null) registered.accept(operation);
+        return operation;
+    }
+
+    private void backoff(Policy policy, int attempt, RuntimeException failure) {
+        val delay = delayBefore(policy, attempt);
+        if (delay == 0) return;
+
+        try {
+            sleeper.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(e);
+            throw failure;
+        }
+    }
+
+    /**
+     * Draw the delay before a retry.
+     *
+     * @param policy The policy of the operation
+     * @param attempt The number of the attempt which failed, starting at 1
+     * @return The delay in milliseconds, between 0 and the capped exponential bound
+     */
+    public static long delayBefore(Policy policy, int attempt) {
+        val base = policy.baseDelay().toMillis();
+        val max = policy.maxDelay().toMillis();
+        val shift = Math.min(attempt - 1, 30);
+        val bound = base > max >> shift ? max : base << shift;
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.val;
+
+/**
+ * A fixed number of locks shared by an unbounded number of keys, each key hashing to one stripe.
+ *
+ * <p>Work on the same key always queues on the same stripe. Keys sharing a stripe by chance also queue behind each
+ * other, so the number of stripes trades memory for false contention. Every stripe counts how often it was acquired,
+ * how often it had to be waited for and for how long, which tells whether the stripe count is large enough.
+ *
+ * <p>Several keys are locked by taking their distinct stripes in ascending order, so overlapping multi-key locks never
+ * deadlock.
+ */
+public final class StripedLock {
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+
+        private void lock() {
+            acquisitions.increment();
+            if (lock.tryLock()) return;
+
+            val start = System.nanoTime();
+            lock.lock();
+            contended.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Create a striped lock.
+     *
+     * @param stripeCount The number of stripes, rounded up to the next power of two
+     */
+    public StripedLock(int stripeCount) {
+        if (stripeCount <= 0 || stripeCount > 1 << 16)
+            throw new IllegalArgumentException("stripeCount must be between 1 and 2^16");
+
+        val normalizedCount = Math.max(Integer.highestOneBit(stripeCount - 1) << 1, 1);
+        this.mask = normalizedCount - 1;
+        this.stripes = new Stripe[normalizedCount];
+        for (int i = 0; i < normalizedCount; i++) stripes[i] = new Stripe();
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Get the stripe a pair of keys hashes to.
+     *
+     * @param key The first key, for example the id of an event
+     * @param subKey The second key, for example the id of a ticket of the event
+     * @return The index of the stripe
+     */
+    public int stripeOf(long key, long subKey) {
+        return (int) mix(key * 31 + subKey) & mask;
+    }
+
+    /**
+     * Run an action while holding the stripe of a pair of keys.
+     *
+     * @param key The first key
+     * @param subKey The second key
+     * @param action The action to run
+     * @return The result of the action
+     */
+    public <T> T call(long key, long subKey, Supplier<T> action) {
+        val stripe = stripes[this.stripeOf(key, subKey)];
+        stripe.lock();
+        try {
+            return action.get();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Run an action while holding the stripes of a key paired with each of several sub keys.
+     *
+     * @param key The first key
+     * @param subKeys The second keys
+     * @param action The action to run
+     * @return The result of the action
+     */
+    public <T> T callAll(long key, long[] subKeys, Supplier<T> action) {
+        val indexes = Arrays.stream(subKeys)
+                .mapToInt(subKey -> this.stripeOf(key, subKey))
+                .sorted()
+                .distinct()
+                .toArray();
+
+        int locked = 0;
+        try {
+            for (; locked < indexes.length; locked++) stripes[indexes[locked]].lock();
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) stripes[indexes[i]].lock.unlock();
+        }
+    }
+
+    /** @return The number of times the stripe was acquired */
+    public long acquisitions(int stripe) {
+        return stripes[stripe].acquisitions.sum();
+    }
+
+    /** @return The number of times the stripe was held by another thread when it was acquired */
+    public long contended(int stripe) {
+        return stripes[stripe].contended.sum();
+    }
+
+    /** @return The total time in nanoseconds spent waiting for the stripe */
+    public long waitNanos(int stripe) {
+        return stripes[stripe].waitNanos.sum();
+    }
+
+    /** The finalizer of MurmurHash3, so consecutive ids spread over all stripes. */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.util;
+
+import lombok.val;
+
+/**
+ * A token bucket which refills continuously at a fixed rate up to its capacity.
+ *
+ * <p>The bucket starts full, so a burst of up to its capacity is granted immediately and the sustained rate is capped
+ * at the refill rate afterwards. All methods are thread-safe.
+ */
+public final class TokenBucket {
+    private double ratePerMilli;
+    private long capacity;
+    private double tokens;
+    private long lastRefillMillis;
+
+    /**
+     * Create a full token bucket.
+     *
+     * @param ratePerSecond The number of tokens added per second
+     * @param capacity The maximum number of tokens the bucket holds
+     * @param nowMillis The current epoch millisecond
+     */
+    public TokenBucket(double ratePerSecond, long capacity, long nowMillis) {
+        this.configure(ratePerSecond, capacity);
+        this.tokens = capacity;
+        this.lastRefillMillis = nowMillis;
+    }
+
+    /**
+     * Change the refill rate and capacity. Tokens already in the bucket are kept up to the new capacity.
+     *
+     * @param ratePerSecond The number of tokens added per second
+     * @param capacity The maximum number of tokens the bucket holds
+     */
+    public synchronized void configure(double ratePerSecond, long capacity) {
+        if (ratePerSecond <= 0) throw new IllegalArgumentException("ratePerSecond must be positive");
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+
+        this.ratePerMilli = ratePerSecond / 1000;
+        this.capacity = capacity;
+        this.tokens = Math.min(tokens, capacity);
+    }
+
+    /**
+     * Take up to the requested number of tokens.
+     *
+     * @param requested The number of tokens wanted
+     * @param nowMillis The current epoch millisecond
+     * @return The number of tokens granted, between 0 and {@code requested}
+     */
+    public synchronized long take(long requested, long nowMillis) {
+        if (nowMillis > lastRefillMillis) {
+            tokens = Math.min(capacity, tokens + (nowMillis - lastRefillMillis) * ratePerMilli);
+            lastRefillMillis = nowMillis;
+        }
+
+        val granted = Math.min(Math.max(requested, 0), (long) tokens);
+        tokens -= granted;
+        return granted;
+    }
+
+    public synchronized double getRatePerSecond() {
+        return ratePerMilli * 1000;
+    }
+}
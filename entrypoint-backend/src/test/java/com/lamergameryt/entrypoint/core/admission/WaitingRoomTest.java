@@ -0,0 +1,77 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.admission;
+
+import com.lamergameryt.entrypoint.admission.WaitingRoom;
+import com.lamergameryt.entrypoint.enums.AdmissionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WaitingRoomTest {
+    private WaitingRoom room;
+
+    @BeforeEach
+    void setUp() {
+        room = new WaitingRoom(1, 42, 2, 2, 1_000, 0);
+    }
+
+    @Test
+    @DisplayName("Should admit clients in queue order at the bucket rate")
+    void shouldAdmitInOrder() {
+        for (int i = 0; i < 5; i++) room.join();
+
+        room.admit(0);
+        Assertions.assertEquals(AdmissionStatus.ADMITTED, room.statusOf(2));
+        Assertions.assertEquals(AdmissionStatus.WAITING, room.statusOf(3));
+        Assertions.assertEquals(3, room.positionOf(5));
+
+        room.admit(500);
+        Assertions.assertEquals(AdmissionStatus.ADMITTED, room.statusOf(3));
+        Assertions.assertEquals(AdmissionStatus.WAITING, room.statusOf(4));
+        Assertions.assertEquals(2, room.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("Should expire admissions once their time has run out")
+    void shouldExpireAdmissions() {
+        room.join();
+        room.admit(0);
+        room.join();
+        room.admit(500);
+
+        room.admit(999);
+        Assertions.assertEquals(AdmissionStatus.ADMITTED, room.statusOf(1));
+
+        room.admit(1_000);
+        Assertions.assertEquals(AdmissionStatus.EXPIRED, room.statusOf(1));
+        Assertions.assertEquals(AdmissionStatus.ADMITTED, room.statusOf(2));
+        Assertions.assertEquals(1, room.getAdmittedCount());
+    }
+
+    @Test
+    @DisplayName("Should not know positions which were never handed out")
+    void shouldRejectUnknownPositions() {
+        room.join();
+
+        Assertions.assertNull(room.statusOf(0));
+        Assertions.assertNull(room.statusOf(2));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.db.benchmark;
+
+import com.lamergameryt.entrypoint.config.PerformerProperties;
+import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.dto.PerformerDto;
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.model.PerformerModel;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.PerformerRepository;
+import com.lamergameryt.entrypoint.service.PerformerService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Compares reading events with many performers through the {@code performers} entity graph against reading the events
+ * first and attaching their performers through the {@link PerformerService}.
+ *
+ * <p>Skipped by the regular test run, run it with {@code ./gradlew benchmark}. Timings are taken against the
+ * in-memory test database, so they show the cost of the wider result and of hydrating entities rather than network
+ * transfer, which widens the gap further on a real database.
+ */
+@EnabledIfSystemProperty(named = "entrypoint.benchmark", matches = "true")
+class PerformerFetchBenchmark extends DbTestBase {
+    private static final int EVENTS = 200;
+    private static final int PERFORMERS = 500;
+    private static final int PERFORMERS_PER_EVENT = 50;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PerformerRepository performerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setUp() {
+        var performers = new ArrayList<PerformerModel>();
+        for (int i = 0; i < PERFORMERS; i++)
+            performers.add(PerformerModel.builder()
+                    .name("Performer " + i)
+                    .description("Description of performer " + i)
+                    .build());
+        performerRepository.saveAll(performers);
+
+        from = LocalDateTime.now().plusDays(1);
+        to = from.plusDays(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            var eventPerformers = new HashSet<PerformerModel>();
+            for (int j = 0; j < PERFORMERS_PER_EVENT; j++)
+                eventPerformers.add(performers.get((i * 7 + j) % PERFORMERS));
+
+            eventRepository.save(EventModel.builder()
+                    .name("Event " + i)
+                    .description("Description of event " + i)
+                    .startDate(from.plusDays(i))
+                    .performers(eventPerformers)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Benchmark the entity graph against batched performer loading")
+    void compareFetchStrategies() {
+        var warmService = this.newPerformerService();
+
+        Supplier<List<EventDto>> entityGraph = () -> eventRepository.findAllByStartDateBetween(from, to).stream()
+                .map(EventDto::from)
+                .toList();
+        Supplier<List<EventDto>> batchedCold = () ->
+                this.newPerformerService().withPerformers(eventRepository.findRowsByStartDateBetween(from, to));
+        Supplier<List<EventDto>> batchedWarm =
+                () -> warmService.withPerformers(eventRepository.findRowsByStartDateBetween(from, to));
+
+        var expected = normalize(entityGraph.get());
+        Assertions.assertEquals(EVENTS, expected.size());
+        Assertions.assertEquals(expected, normalize(batchedCold.get()));
+        Assertions.assertEquals(expected, normalize(batchedWarm.get()));
+
+        report("entity graph", entityGraph);
+        report("batched, cold cache", batchedCold);
+        report("batched, warm cache", batchedWarm);
+    }
+
+    private PerformerService newPerformerService() {
+        return new PerformerService(new PerformerProperties(), performerRepository, eventRepository);
+    }
+
+    private void report(String name, Supplier<List<EventDto>> read) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) this.measure(read);
+
+        var nanos = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) nanos[i] = this.measure(read);
+        Arrays.sort(nanos);
+
+        System.out.printf(
+                "%-20s %d events x %d performers: median %.2f ms, min %.2f ms, max %.2f ms%n",
+                name,
+                EVENTS,
+                PERFORMERS_PER_EVENT,
+                nanos[MEASURED_ROUNDS / 2] / 1e6,
+                nanos[0] / 1e6,
+                nanos[MEASURED_ROUNDS - 1] / 1e6);
+    }
+
+    private long measure(Supplier<List<EventDto>> read) {
+        entityManager.clear();
+        var start = System.nanoTime();
+        var events = read.get();
+        var elapsed = System.nanoTime() - start;
+        Assertions.assertEquals(EVENTS, events.size());
+        return elapsed;
+    }
+
+    private static List<EventDto> normalize(List<EventDto> events) {
+        return events.stream()
+                .map(event -> new EventDto(
+                        event.id(),
+                        event.name(),
+                        event.description(),
+                        event.startDate(),
+                        event.performers().stream()
+                                .sorted(Comparator.comparingLong(PerformerDto::id))
+                                .toList()))
+                .sorted(Comparator.comparingLong(EventDto::id))
+                .toList();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.db.cache;
+
+import com.lamergameryt.entrypoint.config.CacheRegions;
+import com.lamergameryt.entrypoint.config.SecondLevelCacheConfig;
+import com.lamergameryt.entrypoint.config.SecondLevelCacheProperties;
+import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.model.PerformerModel;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.PerformerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Set;
+import javax.cache.CacheManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({SecondLevelCacheConfig.class, SecondLevelCacheProperties.class})
+class SecondLevelCacheTest extends DbTestBase {
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PerformerRepository performerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    private EventModel saveEvent() {
+        var performer = performerRepository.save(PerformerModel.builder().name("The Band").build());
+        var event = eventRepository.save(EventModel.builder()
+                .name("Music Concert")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .performers(Set.of(performer))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should keep loaded events, their performers and the performers themselves in the cache")
+    void shouldCacheLoadedEntities() {
+        var event = saveEvent();
+        var performerId = event.getPerformers().iterator().next().getId();
+
+        var loaded = eventRepository.findById(event.getId()).orElseThrow();
+        Assertions.assertEquals(1, loaded.getPerformers().size());
+
+        var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        Assertions.assertTrue(cache.containsEntity(EventModel.class, event.getId()));
+        Assertions.assertTrue(cache.containsEntity(PerformerModel.class, performerId));
+        Assertions.assertTrue(cache.containsCollection(EventModel.class.getName() + ".performers", event.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep the results of cacheable finders in their query region")
+    void shouldCacheQueryResults() {
+        var event = saveEvent();
+
+        Assertions.assertFalse(hibernateCacheManager.getCache(CacheRegions.EVENT_QUERIES).iterator().hasNext());
+        Assertions.assertEquals(
+                event.getStartDate().withNano(0),
+                eventRepository.findStartDateById(event.getId()).orElseThrow().withNano(0));
+        Assertions.assertTrue(hibernateCacheManager.getCache(CacheRegions.EVENT_QUERIES).iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("Should create every region with its configured limits")
+    void shouldCreateRegions() {
+        for (var region : CacheRegions.ALL) Assertions.assertNotNull(hibernateCacheManager.getCache(region));
+        Assertions.assertNotNull(hibernateCacheManager.getCache(CacheRegions.UPDATE_TIMESTAMPS));
+    }
+}
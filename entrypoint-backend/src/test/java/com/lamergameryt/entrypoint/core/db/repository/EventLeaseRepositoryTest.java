@@ -0,0 +1,87 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.db.repository;
+
+import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.model.EventLeaseModel;
+import com.lamergameryt.entrypoint.repository.EventLeaseRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class EventLeaseRepositoryTest extends DbTestBase {
+    @Autowired
+    private EventLeaseRepository repository;
+
+    @Test
+    @DisplayName("Should only take over a lease held by the same node or expired, drawing a token on handover")
+    void shouldTakeOverExpiredLease() {
+        var now = LocalDateTime.now();
+        repository.insertLease(1, "node-a", "http://node-a", now.plusSeconds(10), 7);
+
+        Assertions.assertEquals(0, repository.takeOver(1, "node-b", "http://node-b", now.plusSeconds(10), now, 9));
+        Assertions.assertEquals(1, repository.takeOver(1, "node-a", "http://node-a", now.plusSeconds(20), now, 9));
+        Assertions.assertEquals("node-a", repository.findById(1L).orElseThrow().getOwner());
+        Assertions.assertEquals(7, repository.findById(1L).orElseThrow().getFencingToken());
+
+        var later = now.plusSeconds(30);
+        Assertions.assertEquals(1, repository.takeOver(1, "node-b", "http://node-b", later.plusSeconds(10), later, 9));
+
+        var lease = repository.findById(1L).orElseThrow();
+        Assertions.assertEquals("node-b", lease.getOwner());
+        Assertions.assertEquals("http://node-b", lease.getOwnerUrl());
+        Assertions.assertEquals(9, lease.getFencingToken());
+    }
+
+    @Test
+    @DisplayName("Should not take over an event without a lease")
+    void shouldNotTakeOverMissingLease() {
+        var now = LocalDateTime.now();
+
+        Assertions.assertEquals(0, repository.takeOver(1, "node-a", null, now.plusSeconds(10), now, 9));
+        Assertions.assertFalse(repository.existsById(1L));
+    }
+
+    @Test
+    @DisplayName("Should renew only the unexpired leases of a node")
+    void shouldRenewUnexpiredLeases() {
+        var now = LocalDateTime.now();
+        repository.insertLease(1, "node-a", null, now.plusSeconds(10), 7);
+        repository.insertLease(2, "node-a", null, now.minusSeconds(1), 7);
+        repository.insertLease(3, "node-b", null, now.plusSeconds(10), 7);
+
+        Assertions.assertEquals(1, repository.renew("node-a", now.plusSeconds(20), now));
+        Assertions.assertEquals(List.of(1L), repository.findEventIdsHeldBy("node-a", now));
+    }
+
+    @Test
+    @DisplayName("Should release every lease of a node")
+    void shouldReleaseAll() {
+        var now = LocalDateTime.now();
+        repository.insertLease(1, "node-a", null, now.plusSeconds(10), 7);
+        repository.insertLease(2, "node-a", null, now.plusSeconds(10), 7);
+        repository.insertLease(3, "node-b", null, now.plusSeconds(10), 7);
+
+        Assertions.assertEquals(2, repository.releaseAll("node-a"));
+        Assertions.assertEquals(List.of(3L), repository.findAll().stream().map(EventLeaseModel::getEventId).toList());
+    }
+}
@@ -19,19 +19,30 @@
 package com.lamergameryt.entrypoint.core.db.repository;
 
 import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.dto.PerformerDto;
+import com.lamergameryt.entrypoint.dto.projection.EventPerformerLink;
+import com.lamergameryt.entrypoint.dto.projection.EventRow;
 import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.model.PerformerModel;
 import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.PerformerRepository;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 
 class EventRepositoryTest extends DbTestBase {
     @Autowired
     private EventRepository repository;
 
+    @Autowired
+    private PerformerRepository performerRepository;
+
     private LocalDateTime now;
     private EventModel event1;
     private EventModel event2;
@@ -110,4 +121,64 @@ class EventRepositoryTest extends DbTestBase {
         Assertions.assertEquals(1, events.size());
         Assertions.assertEquals("Art Exhibition", events.get(0).getName());
     }
+
+    @Test
+    @DisplayName("Should read the searchable fields of events in id order")
+    void shouldFindIndexedEventsAfter() {
+        var first = repository.save(event1);
+        var second = repository.save(event2);
+
+        var events = repository.findIndexedEventsAfter(0, Limit.of(1));
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(first.getId(), events.get(0).id());
+        Assertions.assertEquals("Music Concert", events.get(0).name());
+
+        events = repository.findIndexedEventsAfter(first.getId(), Limit.of(10));
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(second.getId(), events.get(0).id());
+    }
+
+    @Test
+    @DisplayName("Should read event rows and their performer links separately")
+    void shouldFindRowsAndPerformerLinks() {
+        var performer = performerRepository.save(PerformerModel.builder().name("The Band").build());
+        event1.setPerformers(Set.of(performer));
+        var first = repository.save(event1);
+        var second = repository.save(event2);
+
+        var rows = repository.findRowsByStartDateBetween(now, now.plusDays(3));
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals(first.getId(), rows.get(0).id());
+        Assertions.assertEquals("Music Concert", rows.get(0).name());
+
+        var byName = repository.findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate(
+                "ART", now, Limit.of(10));
+        Assertions.assertEquals(1, byName.size());
+        Assertions.assertEquals(second.getId(), byName.get(0).id());
+
+        var links = repository.findPerformerLinksByEventIdIn(List.of(first.getId(), second.getId()));
+        Assertions.assertEquals(List.of(new EventPerformerLink(first.getId(), performer.getId())), links);
+        Assertions.assertEquals(
+                List.of("The Band"),
+                performerRepository.findDtosByIdIn(List.of(performer.getId())).stream()
+                        .map(PerformerDto::name)
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("Should read event rows in batches by sort key and by id")
+    void shouldFindRowsAfter() {
+        var first = repository.save(event1);
+        var second = repository.save(event2);
+
+        var page = repository.findRowsAfter(now, Long.MAX_VALUE, Limit.of(1));
+        Assertions.assertEquals(List.of(first.getId()), page.stream().map(EventRow::id).toList());
+
+        var next = repository.findRowsAfter(first.getStartDate(), first.getId(), Limit.of(10));
+        Assertions.assertEquals(List.of(second.getId()), next.stream().map(EventRow::id).toList());
+
+        var created = repository.findRowsByIdAfter(first.getId(), now, Limit.of(10));
+        Assertions.assertEquals(List.of(second.getId()), created.stream().map(EventRow::id).toList());
+        Assertions.assertTrue(repository.findRowsByIdAfter(0, now.plusDays(10), Limit.of(10)).isEmpty());
+    }
 }
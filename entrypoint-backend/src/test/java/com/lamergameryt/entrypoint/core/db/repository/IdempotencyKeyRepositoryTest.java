@@ -0,0 +1,122 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.db.repository;
+
+import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.model.IdempotencyKeyModel;
+import com.lamergameryt.entrypoint.repository.IdempotencyKeyRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class IdempotencyKeyRepositoryTest extends DbTestBase {
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    private IdempotencyKeyModel storedResponse(String key, LocalDateTime createdAt) {
+        return IdempotencyKeyModel.builder()
+                .key(key)
+                .fingerprint(new byte[32])
+                .statusCode(200)
+                .contentType("application/json")
+                .body("{\"id\":1}".getBytes(StandardCharsets.UTF_8))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should save and fetch stored response successfully")
+    void shouldSaveAndFetch() {
+        repository.save(this.storedResponse("key-1", LocalDateTime.now()));
+
+        var stored = repository.findById("key-1");
+        Assertions.assertTrue(stored.isPresent());
+        Assertions.assertEquals(200, stored.get().getStatusCode());
+        Assertions.assertEquals("application/json", stored.get().getContentType());
+        Assertions.assertEquals("{\"id\":1}", new String(stored.get().getBody(), StandardCharsets.UTF_8));
+        Assertions.assertFalse(stored.get().isNew());
+    }
+
+    @Test
+    @DisplayName("Should claim a key only once and complete it with its response")
+    void shouldClaimOnce() {
+        var now = LocalDateTime.now();
+        var body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(1, repository.insertClaim("key-1", new byte[32], new byte[0], now));
+        Assertions.assertFalse(repository.findById("key-1").get().isCompleted());
+
+        Assertions.assertEquals(1, repository.complete("key-1", 201, "application/json", body));
+        Assertions.assertEquals(0, repository.complete("key-1", 500, null, new byte[0]));
+        Assertions.assertEquals(0, repository.release("key-1"));
+
+        var stored = repository.findById("key-1");
+        Assertions.assertTrue(stored.get().isCompleted());
+        Assertions.assertEquals(201, stored.get().getStatusCode());
+
+        // Last, as the failed insert marks the test transaction for rollback
+        Assertions.assertThrows(
+                DataIntegrityViolationException.class,
+                () -> repository.insertClaim("key-1", new byte[32], new byte[0], now));
+    }
+
+    @Test
+    @DisplayName("Should take over only abandoned claims and expired responses")
+    void shouldTakeOver() {
+        var now = LocalDateTime.now();
+        repository.insertClaim("abandoned", new byte[32], new byte[0], now.minusMinutes(10));
+        repository.insertClaim("pending", new byte[32], new byte[0], now.minusMinutes(1));
+        repository.save(this.storedResponse("expired", now.minusDays(2)));
+        repository.save(this.storedResponse("completed", now.minusMinutes(10)));
+
+        var expiredBefore = now.minusDays(1);
+        var abandonedBefore = now.minusMinutes(5);
+        for (var key : List.of("abandoned", "expired")) {
+            Assertions.assertEquals(
+                    1, repository.takeOver(key, new byte[32], new byte[0], now, expiredBefore, abandonedBefore));
+        }
+
+        for (var key : List.of("pending", "completed")) {
+            Assertions.assertEquals(
+                    0, repository.takeOver(key, new byte[32], new byte[0], now, expiredBefore, abandonedBefore));
+        }
+
+        Assertions.assertFalse(repository.findById("expired").get().isCompleted());
+        Assertions.assertEquals(1, repository.release("expired"));
+        Assertions.assertFalse(repository.existsById("expired"));
+    }
+
+    @Test
+    @DisplayName("Should delete only stored responses created before the cutoff")
+    void shouldDeleteCreatedBefore() {
+        var now = LocalDateTime.now();
+        repository.save(this.storedResponse("old", now.minusDays(2)));
+        repository.save(this.storedResponse("recent", now.minusHours(1)));
+
+        var deleted = repository.deleteCreatedBefore(now.minusDays(1));
+
+        Assertions.assertEquals(1, deleted);
+        Assertions.assertFalse(repository.existsById("old"));
+        Assertions.assertTrue(repository.existsById("recent"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.db.repository;
+
+import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.TicketBatchRepository;
+import com.lamergameryt.entrypoint.repository.TicketRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+
+@Import(TicketBatchRepository.class)
+class TicketBatchRepositoryTest extends DbTestBase {
+    @Autowired
+    private TicketBatchRepository batchRepository;
+
+    @Autowired
+    private TicketRepository repository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private EventModel testEvent;
+
+    @BeforeEach
+    void setUp() {
+        testEvent = eventRepository.save(EventModel.builder()
+                .name("Sample Event")
+                .description("This is a sample event for testing.")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should insert available tickets in batches")
+    void shouldInsertTickets() {
+        var inserted = batchRepository.insertTickets(testEvent.getId(), List.of("A1", "A2", "A3", "A4", "A5"), 2);
+        Assertions.assertEquals(5, inserted);
+
+        var tickets = repository.findAllByEvent_IdAndStatus(testEvent.getId(), TicketStatus.NOT_BOOKED);
+        Assertions.assertEquals(5, tickets.size());
+        Assertions.assertEquals(
+                Set.of("A2", "A4"), repository.findSeatNumbers(testEvent.getId(), List.of("A2", "A4", "B1")));
+    }
+
+    @Test
+    @DisplayName("Should reject a seat number which already exists for the event")
+    void shouldRejectDuplicateSeat() {
+        batchRepository.insertTickets(testEvent.getId(), List.of("A1"), 10);
+
+        Assertions.assertThrows(
+                DuplicateKeyException.class,
+                () -> batchRepository.insertTickets(testEvent.getId(), List.of("A2", "A1"), 10));
+    }
+}
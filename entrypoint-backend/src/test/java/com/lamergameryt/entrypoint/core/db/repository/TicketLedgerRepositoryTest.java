@@ -0,0 +1,97 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.db.repository;
+
+import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.enums.TransitionType;
+import com.lamergameryt.entrypoint.ledger.TicketTransition;
+import com.lamergameryt.entrypoint.repository.TicketLedgerRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import(TicketLedgerRepository.class)
+class TicketLedgerRepositoryTest extends DbTestBase {
+    @Autowired
+    private TicketLedgerRepository repository;
+
+    @Test
+    @DisplayName("Should append transitions and read the tail of an event in ledger order")
+    void shouldAppendAndReadTail() {
+        var reservedUntil = LocalDateTime.now().plusMinutes(10);
+        repository.append(
+                List.of(
+                        TicketTransition.created(1, 10, "A-1"),
+                        TicketTransition.created(2, 20, "B-1"),
+                        TicketTransition.transitioned(
+                                1, 10, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 7, reservedUntil)),
+                2);
+
+        var history = repository.findTail(1, 0);
+        Assertions.assertEquals(2, history.size());
+        Assertions.assertEquals(TransitionType.CREATED, history.get(0).type());
+        Assertions.assertEquals("A-1", history.get(0).seatNumber());
+        Assertions.assertNull(history.get(0).fromStatus());
+
+        var reserved = history.get(1);
+        Assertions.assertEquals(TransitionType.RESERVED, reserved.type());
+        Assertions.assertEquals(TicketStatus.NOT_BOOKED, reserved.fromStatus());
+        Assertions.assertNull(reserved.fromUserId());
+        Assertions.assertEquals(TicketStatus.RESERVED, reserved.status());
+        Assertions.assertEquals(7L, reserved.userId());
+        Assertions.assertNotNull(reserved.reservedUntil());
+    }
+
+    @Test
+    @DisplayName("Should only read transitions after the given position")
+    void shouldReadAfterPosition() {
+        repository.append(List.of(TicketTransition.created(1, 10, "A-1")), 10);
+        var position = repository.findPosition();
+        repository.append(List.of(TicketTransition.deleted(1, 10)), 10);
+
+        var tail = repository.findTail(1, position);
+        Assertions.assertEquals(1, tail.size());
+        Assertions.assertEquals(TransitionType.DELETED, tail.get(0).type());
+        Assertions.assertTrue(repository.findPosition() > position);
+    }
+
+    @Test
+    @DisplayName("Should find ids without an entry and read the entries at missed ids below a position")
+    void shouldReadMissedIds() {
+        repository.append(List.of(TicketTransition.created(1, 10, "A-1")), 10);
+        var missed = repository.findPosition();
+        repository.append(List.of(TicketTransition.created(1, 11, "A-2")), 10);
+        var position = repository.findPosition();
+        repository.append(List.of(TicketTransition.deleted(1, 10)), 10);
+
+        Assertions.assertArrayEquals(new long[0], repository.findMissingIds(missed - 1, position));
+        Assertions.assertArrayEquals(
+                new long[] {position + 2, position + 3}, repository.findMissingIds(position + 1, position + 3));
+
+        var tail = repository.findTail(1, position, new long[] {missed});
+        Assertions.assertEquals(2, tail.size());
+        Assertions.assertEquals("A-1", tail.get(0).seatNumber());
+        Assertions.assertEquals(TransitionType.DELETED, tail.get(1).type());
+    }
+}
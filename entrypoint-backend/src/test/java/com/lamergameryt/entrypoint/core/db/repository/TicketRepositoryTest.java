@@ -19,17 +19,24 @@
 package com.lamergameryt.entrypoint.core.db.repository;
 
 import com.lamergameryt.entrypoint.core.db.DbTestBase;
+import com.lamergameryt.entrypoint.dto.TicketDto;
 import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.StatusCount;
 import com.lamergameryt.entrypoint.model.EventModel;
 import com.lamergameryt.entrypoint.model.TicketModel;
+import com.lamergameryt.entrypoint.model.UserModel;
 import com.lamergameryt.entrypoint.repository.EventRepository;
 import com.lamergameryt.entrypoint.repository.TicketRepository;
+import com.lamergameryt.entrypoint.repository.UserRepository;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 class TicketRepositoryTest extends DbTestBase {
     @Autowired
@@ -38,8 +45,13 @@ class TicketRepositoryTest extends DbTestBase {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     private EventModel testEvent;
     private TicketModel testTicket;
+    private UserModel testUser;
+    private LocalDateTime holdUntil;
 
     @BeforeEach
     void setUp() {
@@ -54,6 +66,14 @@ class TicketRepositoryTest extends DbTestBase {
                 .status(TicketStatus.NOT_BOOKED)
                 .event(testEvent)
                 .build();
+
+        testUser = userRepository.save(UserModel.builder()
+                .name("Test User")
+                .email("testuser@gmail.com")
+                .password("securepassword")
+                .build());
+
+        holdUntil = LocalDateTime.now().plusMinutes(10);
     }
 
     @Test
@@ -89,6 +109,46 @@ class TicketRepositoryTest extends DbTestBase {
         Assertions.assertEquals(testTicket.getSeatNumber(), tickets.get(0).getSeatNumber());
     }
 
+    @Test
+    @DisplayName("Should page tickets after an id in id order")
+    void shouldFindDtosAfter() {
+        var first = repository.save(testTicket);
+        var second = repository.save(TicketModel.builder()
+                .status(TicketStatus.BOOKED)
+                .event(testEvent)
+                .seatNumber("A2")
+                .build());
+        var third = repository.save(TicketModel.builder()
+                .status(TicketStatus.NOT_BOOKED)
+                .event(testEvent)
+                .seatNumber("A3")
+                .build());
+
+        var page = repository.findDtosByEventIdAfter(testEvent.getId(), first.getId(), Limit.of(1));
+        Assertions.assertEquals(1, page.size());
+        Assertions.assertEquals(second.getId(), page.get(0).id());
+
+        var available = repository.findDtosByEventIdAndStatusAfter(
+                testEvent.getId(), TicketStatus.NOT_BOOKED, first.getId(), Limit.of(10));
+        Assertions.assertEquals(1, available.size());
+        Assertions.assertEquals(third.getId(), available.get(0).id());
+    }
+
+    @Test
+    @DisplayName("Should stream every ticket of an event in id order")
+    void shouldStreamDtos() {
+        var first = repository.save(testTicket);
+        var second = repository.save(TicketModel.builder()
+                .status(TicketStatus.BOOKED)
+                .event(testEvent)
+                .seatNumber("A2")
+                .build());
+
+        try (var tickets = repository.streamDtosByEventId(testEvent.getId())) {
+            Assertions.assertEquals(List.of(first.getId(), second.getId()), tickets.map(TicketDto::id).toList());
+        }
+    }
+
     @Test
     @DisplayName("Should delete ticket by ID and event ID")
     void shouldDeleteByIdAndEventId() {
@@ -100,4 +160,113 @@ class TicketRepositoryTest extends DbTestBase {
         var ticket = repository.findById(savedTicket.getId());
         Assertions.assertTrue(ticket.isEmpty());
     }
+
+    @Test
+    @DisplayName("Should reserve an available ticket only once")
+    void shouldReserveOnlyOnce() {
+        var savedTicket = repository.save(testTicket);
+
+        Assertions.assertEquals(
+                1, repository.reserveTicket(testEvent.getId(), savedTicket.getId(), testUser, holdUntil));
+        Assertions.assertEquals(
+                0, repository.reserveTicket(testEvent.getId(), savedTicket.getId(), testUser, holdUntil));
+
+        var ticket = repository.findById(savedTicket.getId());
+        Assertions.assertTrue(ticket.isPresent());
+        Assertions.assertEquals(TicketStatus.RESERVED, ticket.get().getStatus());
+        Assertions.assertEquals(testUser.getId(), ticket.get().getPurchasedByUser().getId());
+    }
+
+    @Test
+    @DisplayName("Should only book or release a ticket reserved by the same user")
+    void shouldBookAndReleaseForHolder() {
+        var savedTicket = repository.save(testTicket);
+        var otherUserId = testUser.getId() + 1;
+
+        Assertions.assertEquals(0, repository.bookTicket(testEvent.getId(), savedTicket.getId(), testUser.getId()));
+
+        repository.reserveTicket(testEvent.getId(), savedTicket.getId(), testUser, holdUntil);
+        Assertions.assertEquals(0, repository.releaseTicket(testEvent.getId(), savedTicket.getId(), otherUserId));
+        Assertions.assertEquals(1, repository.releaseTicket(testEvent.getId(), savedTicket.getId(), testUser.getId()));
+
+        repository.reserveTicket(testEvent.getId(), savedTicket.getId(), testUser, holdUntil);
+        Assertions.assertEquals(1, repository.bookTicket(testEvent.getId(), savedTicket.getId(), testUser.getId()));
+
+        var ticket = repository.findById(savedTicket.getId());
+        Assertions.assertTrue(ticket.isPresent());
+        Assertions.assertEquals(TicketStatus.BOOKED, ticket.get().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should release reservations only once their hold has run out")
+    void shouldReleaseExpired() {
+        var savedTicket = repository.save(testTicket);
+        repository.reserveTicket(testEvent.getId(), savedTicket.getId(), testUser, holdUntil);
+
+        Assertions.assertEquals(0, repository.releaseExpired(List.of(savedTicket.getId()), LocalDateTime.now()));
+        Assertions.assertEquals(1, repository.findHolds().size());
+        Assertions.assertEquals(
+                1, repository.releaseExpired(List.of(savedTicket.getId()), holdUntil.plusSeconds(1)));
+
+        var ticket = repository.findById(savedTicket.getId());
+        Assertions.assertTrue(ticket.isPresent());
+        Assertions.assertEquals(TicketStatus.NOT_BOOKED, ticket.get().getStatus());
+        Assertions.assertNull(ticket.get().getPurchasedByUser());
+        Assertions.assertNull(ticket.get().getReservedUntil());
+    }
+
+    @Test
+    @DisplayName("Should count tickets per event and status")
+    void shouldCountByStatus() {
+        repository.save(testTicket);
+        repository.save(TicketModel.builder()
+                .status(TicketStatus.BOOKED)
+                .event(testEvent)
+                .seatNumber("A2")
+                .build());
+        repository.save(TicketModel.builder()
+                .status(TicketStatus.BOOKED)
+                .event(testEvent)
+                .seatNumber("A3")
+                .build());
+
+        var counts = repository.countByStatus(List.of(testEvent.getId()));
+        Assertions.assertEquals(2, counts.size());
+        Assertions.assertTrue(counts.contains(new StatusCount(testEvent.getId(), TicketStatus.BOOKED, 2)));
+        Assertions.assertTrue(counts.contains(new StatusCount(testEvent.getId(), TicketStatus.NOT_BOOKED, 1)));
+    }
+
+    @Test
+    @DisplayName("Should lock and reserve a group of tickets only if all of them are available")
+    void shouldReserveGroup() {
+        var first = repository.save(testTicket);
+        var second = repository.save(TicketModel.builder()
+                .status(TicketStatus.NOT_BOOKED)
+                .event(testEvent)
+                .seatNumber("A2")
+                .build());
+        var ticketIds = List.of(first.getId(), second.getId());
+
+        Assertions.assertEquals(ticketIds, repository.lockAllById(testEvent.getId(), ticketIds));
+        Assertions.assertEquals(1, repository.lockAllById(testEvent.getId(), List.of(first.getId(), 0L)).size());
+
+        repository.reserveTicket(testEvent.getId(), second.getId(), testUser, holdUntil);
+        Assertions.assertEquals(1, repository.reserveTickets(testEvent.getId(), ticketIds, testUser, holdUntil));
+        Assertions.assertEquals(2, repository.bookTickets(testEvent.getId(), ticketIds, testUser.getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject writing back a ticket changed by a conditional update")
+    void shouldRejectStaleTicket() {
+        var savedTicket = repository.save(testTicket);
+        repository.reserveTicket(testEvent.getId(), savedTicket.getId(), testUser, holdUntil);
+
+        var ticket = repository.findById(savedTicket.getId());
+        Assertions.assertTrue(ticket.isPresent());
+        Assertions.assertEquals(savedTicket.getVersion() + 1, ticket.get().getVersion());
+
+        savedTicket.setStatus(TicketStatus.BOOKED);
+        Assertions.assertThrows(
+                ObjectOptimisticLockingFailureException.class, () -> repository.saveAndFlush(savedTicket));
+    }
 }
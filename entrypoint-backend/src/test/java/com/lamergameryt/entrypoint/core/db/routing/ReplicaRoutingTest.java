@@ -0,0 +1,173 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.db.routing;
+
+import com.lamergameryt.entrypoint.datasource.ReadYourWrites;
+import com.lamergameryt.entrypoint.datasource.Replica;
+import com.lamergameryt.entrypoint.datasource.ReplicaLagMonitor;
+import com.lamergameryt.entrypoint.datasource.ReplicaPool;
+import com.lamergameryt.entrypoint.repository.UserRepository;
+import com.lamergameryt.entrypoint.service.UserService;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+@SpringBootTest
+class ReplicaRoutingTest {
+    private static final DockerImageName MYSQL = DockerImageName.parse("mysql:8.4");
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    private static final MySQLContainer<?> primary = new MySQLContainer<>(MYSQL)
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withCommand("--server-id=1");
+
+    @Container
+    private static final MySQLContainer<?> replica =
+            new MySQLContainer<>(MYSQL).withNetwork(network).withCommand("--server-id=2");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) throws SQLException {
+        primary.start();
+        replica.start();
+        startReplication();
+
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+
+        registry.add("entrypoint.datasource.replicas[0].name", () -> "replica");
+        registry.add("entrypoint.datasource.replicas[0].url", replica::getJdbcUrl);
+        registry.add("entrypoint.datasource.replicas[0].username", replica::getUsername);
+        registry.add("entrypoint.datasource.replicas[0].password", replica::getPassword);
+        registry.add("entrypoint.datasource.max-lag", () -> "0ms");
+        registry.add("entrypoint.datasource.lag-check-interval-ms", () -> "3600000");
+    }
+
+    /**
+     * Replicate everything the primary writes from now on, after the setup of both containers.
+     */
+    private static void startReplication() throws SQLException {
+        String file;
+        long position;
+        try (var connection = DriverManager.getConnection(primary.getJdbcUrl(), "root", primary.getPassword());
+                var result = connection.createStatement().executeQuery("SHOW BINARY LOG STATUS")) {
+            result.next();
+            file = result.getString("File");
+            position = result.getLong("Position");
+        }
+
+        execute(
+                replica,
+                "CHANGE REPLICATION SOURCE TO SOURCE_HOST = 'primary', SOURCE_PORT = 3306, SOURCE_USER = 'root', "
+                        + "SOURCE_PASSWORD = '" + primary.getPassword() + "', SOURCE_LOG_FILE = '" + file + "', "
+                        + "SOURCE_LOG_POS = " + position + ", GET_SOURCE_PUBLIC_KEY = 1");
+        execute(replica, "START REPLICA");
+    }
+
+    private static void execute(MySQLContainer<?> container, String sql) throws SQLException {
+        try (var connection = DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword())) {
+            connection.createStatement().execute(sql);
+        }
+    }
+
+    private Replica replica() {
+        return replicaPool.replicas().get(0);
+    }
+
+    @BeforeEach
+    void catchUp() throws SQLException, InterruptedException {
+        execute(replica, "START REPLICA SQL_THREAD");
+        for (int i = 0; i < 100 && !replica().isWithin(0); i++) {
+            lagMonitor.checkLag();
+            Thread.sleep(100);
+        }
+
+        Assertions.assertTrue(replica().isWithin(0), "The replica did not catch up with the primary");
+    }
+
+    @Test
+    @DisplayName("Should read from the replica in read-only service transactions")
+    void shouldReadFromReplica() throws SQLException {
+        execute(replica, "STOP REPLICA SQL_THREAD");
+        var user = userService.createUser("Replica Reader", "reader@example.com", "secret");
+
+        Assertions.assertTrue(userService.findByCredentials("reader@example.com", "secret").isEmpty());
+        Assertions.assertFalse(userService.exists(user.getId()));
+        // Repository methods called on their own keep reading from the primary
+        Assertions.assertTrue(userRepository.existsById(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary once the replica lags")
+    void shouldFallBackToPrimary() throws SQLException, InterruptedException {
+        execute(replica, "STOP REPLICA SQL_THREAD");
+        var user = userService.createUser("Lagging Reader", "lagging@example.com", "secret");
+
+        lagMonitor.checkLag();
+        Thread.sleep(10);
+        lagMonitor.checkLag();
+
+        Assertions.assertFalse(replica().isWithin(0));
+        Assertions.assertTrue(userService.exists(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary while pinned after a write")
+    void shouldReadYourWrites() throws SQLException {
+        execute(replica, "STOP REPLICA SQL_THREAD");
+        var user = userService.createUser("Pinned Reader", "pinned@example.com", "secret");
+
+        ReadYourWrites.pinPrimary();
+        try {
+            Assertions.assertTrue(userService.exists(user.getId()));
+        } finally {
+            ReadYourWrites.unpin();
+        }
+
+        Assertions.assertFalse(userService.exists(user.getId()));
+    }
+}
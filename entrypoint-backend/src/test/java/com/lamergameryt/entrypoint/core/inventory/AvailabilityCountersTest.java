@@ -0,0 +1,81 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.AvailabilityCounters;
+import com.lamergameryt.entrypoint.inventory.TicketCounts;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityCountersTest {
+    @Test
+    @DisplayName("Should keep counts exact under concurrent transitions")
+    void shouldCountConcurrently() throws InterruptedException {
+        var counters = new AvailabilityCounters(new TicketCounts(10_000, 0, 0));
+        var executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            var book = i % 2 == 0;
+            executor.execute(() -> {
+                counters.transition(TicketStatus.NOT_BOOKED, TicketStatus.RESERVED);
+                if (book) counters.transition(TicketStatus.RESERVED, TicketStatus.BOOKED);
+            });
+        }
+
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(new TicketCounts(0, 5_000, 5_000), counters.counts());
+        Assertions.assertTrue(counters.isSoldOut());
+    }
+
+    @Test
+    @DisplayName("Should keep concurrent transitions when correcting the counts")
+    void shouldCorrectByDifference() {
+        var counters = new AvailabilityCounters(new TicketCounts(5, 0, 0));
+        var expected = counters.snapshot();
+        counters.transition(TicketStatus.NOT_BOOKED, TicketStatus.RESERVED);
+
+        counters.correct(expected, new TicketCounts(4, 0, 1));
+
+        Assertions.assertEquals(new TicketCounts(3, 1, 1), counters.counts());
+    }
+
+    @Test
+    @DisplayName("Should not consider an event without tickets sold out")
+    void shouldNotSellOutEmptyEvent() {
+        Assertions.assertFalse(TicketCounts.EMPTY.isSoldOut());
+        Assertions.assertTrue(new TicketCounts(0, 1, 0).isSoldOut());
+        Assertions.assertFalse(new TicketCounts(1, 0, 5).isSoldOut());
+    }
+
+    @Test
+    @DisplayName("Should only report the counts as accessed once until they are read again")
+    void shouldTrackAccess() {
+        var counters = new AvailabilityCounters(TicketCounts.EMPTY);
+
+        Assertions.assertTrue(counters.clearAccessed());
+        counters.snapshot();
+        Assertions.assertFalse(counters.clearAccessed());
+        counters.counts();
+        Assertions.assertTrue(counters.clearAccessed());
+    }
+}
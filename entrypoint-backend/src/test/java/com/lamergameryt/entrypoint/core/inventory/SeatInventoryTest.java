@@ -0,0 +1,287 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.SeatInventory;
+import com.lamergameryt.entrypoint.inventory.TicketCounts;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatInventoryTest {
+    private SeatInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = SeatInventory.of(
+                1,
+                LocalDateTime.now().plusDays(1),
+                List.of(
+                        new TicketState(3, "A3", TicketStatus.NOT_BOOKED, null, null),
+                        new TicketState(1, "A1", TicketStatus.BOOKED, 7L, null),
+                        new TicketState(2, "A2", TicketStatus.NOT_BOOKED, null, null)));
+    }
+
+    @Test
+    @DisplayName("Should order tickets by id and filter by status")
+    void shouldFilterByStatus() {
+        var available = inventory.states(TicketStatus.NOT_BOOKED);
+
+        Assertions.assertEquals(3, inventory.size());
+        Assertions.assertEquals(2, available.size());
+        Assertions.assertEquals("A2", available.get(0).seatNumber());
+        Assertions.assertEquals("A3", available.get(1).seatNumber());
+    }
+
+    @Test
+    @DisplayName("Should page tickets after an id")
+    void shouldPageStates() {
+        var first = inventory.states(null, 0, 2);
+        Assertions.assertEquals(List.of(1L, 2L), first.stream().map(TicketState::id).toList());
+        Assertions.assertEquals(List.of(3L), inventory.states(null, 2, 2).stream().map(TicketState::id).toList());
+        Assertions.assertTrue(inventory.states(null, 3, 2).isEmpty());
+
+        var available = inventory.states(TicketStatus.NOT_BOOKED, 1, 1);
+        Assertions.assertEquals(1, available.size());
+        Assertions.assertEquals("A2", available.get(0).seatNumber());
+    }
+
+    @Test
+    @DisplayName("Should only let the holder book or release a reserved ticket")
+    void shouldCheckHolder() {
+        Assertions.assertEquals(
+                SeatInventory.Result.APPLIED,
+                inventory.transition(2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0));
+        Assertions.assertEquals(
+                SeatInventory.Result.CONFLICT,
+                inventory.transition(2, TicketStatus.RESERVED, 6, TicketStatus.BOOKED, 6, 0));
+        Assertions.assertEquals(
+                SeatInventory.Result.APPLIED,
+                inventory.transition(2, TicketStatus.RESERVED, 5, TicketStatus.BOOKED, 5, 0));
+        Assertions.assertEquals(
+                SeatInventory.Result.NOT_FOUND,
+                inventory.transition(9, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0));
+
+        var state = inventory.stateOf(2);
+        Assertions.assertNotNull(state);
+        Assertions.assertEquals(TicketStatus.BOOKED, state.status());
+        Assertions.assertEquals(5L, state.userId());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent reservations succeed")
+    void shouldReserveOnce() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(8);
+        var start = new CountDownLatch(1);
+        var applied = new AtomicInteger();
+
+        for (int user = 1; user <= 64; user++) {
+            var userId = user;
+            executor.submit(() -> {
+                start.await();
+                var result = inventory.transition(3, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, userId, 0);
+                if (result == SeatInventory.Result.APPLIED) applied.incrementAndGet();
+                return result;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, applied.get());
+    }
+
+    @Test
+    @DisplayName("Should carry state over on rebuild and reject transitions on the retired inventory")
+    void shouldRebuild() {
+        inventory.transition(2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0);
+        var added = new TicketState(4, "A4", TicketStatus.NOT_BOOKED, null, null);
+        var rebuilt = inventory.rebuild(List.of(added), Set.of(1L));
+
+        Assertions.assertEquals(
+                SeatInventory.Result.RETIRED,
+                inventory.transition(3, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0));
+        Assertions.assertEquals(3, rebuilt.size());
+        Assertions.assertNull(rebuilt.stateOf(1));
+        Assertions.assertEquals(TicketStatus.RESERVED, rebuilt.stateOf(2).status());
+        Assertions.assertEquals(TicketStatus.NOT_BOOKED, rebuilt.stateOf(4).status());
+    }
+
+    @Test
+    @DisplayName("Should only expire a reservation whose hold has run out")
+    void shouldExpireHold() {
+        inventory.transition(2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 1_000);
+
+        Assertions.assertEquals(SeatInventory.Result.CONFLICT, inventory.expire(2, 5, 999));
+        Assertions.assertEquals(SeatInventory.Result.CONFLICT, inventory.expire(2, 6, 1_000));
+        Assertions.assertEquals(SeatInventory.Result.APPLIED, inventory.expire(2, 5, 1_000));
+        Assertions.assertEquals(TicketStatus.NOT_BOOKED, inventory.stateOf(2).status());
+        Assertions.assertNull(inventory.stateOf(2).reservedUntil());
+    }
+
+    @Test
+    @DisplayName("Should count every applied transition exactly once")
+    void shouldCountTransitions() {
+        Assertions.assertEquals(new TicketCounts(2, 0, 1), inventory.counts());
+
+        inventory.transition(2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 1_000);
+        inventory.transition(2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 6, 1_000);
+        Assertions.assertEquals(new TicketCounts(1, 1, 1), inventory.counts());
+
+        inventory.expire(2, 5, 1_000);
+        inventory.expire(2, 5, 1_000);
+        Assertions.assertEquals(new TicketCounts(2, 0, 1), inventory.counts());
+
+        inventory.transitionAll(new long[] {2, 3}, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0);
+        inventory.transitionAll(new long[] {2, 3}, TicketStatus.RESERVED, 5, TicketStatus.BOOKED, 5, 0);
+        Assertions.assertEquals(new TicketCounts(0, 0, 3), inventory.counts());
+    }
+
+    @Test
+    @DisplayName("Should keep a reservation made again by the same holder when its earlier hold expires")
+    void shouldKeepReservationMadeAgain() {
+        inventory.transition(2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 1_000);
+        inventory.transition(2, TicketStatus.RESERVED, 5, TicketStatus.NOT_BOOKED, 0, 0);
+        inventory.transition(2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 5_000);
+
+        Assertions.assertEquals(SeatInventory.Result.CONFLICT, inventory.expire(2, 5, 2_000));
+        Assertions.assertEquals(TicketStatus.RESERVED, inventory.stateOf(2).status());
+        Assertions.assertNotNull(inventory.stateOf(2).reservedUntil());
+    }
+
+    @Test
+    @DisplayName("Should round holds up to whole seconds and reject holders beyond the packed range")
+    void shouldPackSeat() {
+        inventory.transition(
+                2, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, SeatInventory.MAX_HOLDER, 1_700_000_000_001L);
+
+        var state = inventory.stateOf(2);
+        Assertions.assertEquals(SeatInventory.MAX_HOLDER, state.userId());
+        Assertions.assertEquals(1_700_000_001_000L, SeatInventory.toEpochMilli(state.reservedUntil()));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> inventory.transition(
+                        3, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, SeatInventory.MAX_HOLDER + 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should reserve a group of tickets all or nothing")
+    void shouldReserveGroupAtomically() {
+        Assertions.assertEquals(
+                SeatInventory.Result.CONFLICT,
+                inventory.transitionAll(
+                        new long[] {1, 2, 3}, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 1_000));
+        Assertions.assertEquals(2, inventory.states(TicketStatus.NOT_BOOKED).size());
+
+        Assertions.assertEquals(
+                SeatInventory.Result.NOT_FOUND,
+                inventory.transitionAll(new long[] {2, 9}, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0));
+        Assertions.assertEquals(
+                SeatInventory.Result.APPLIED,
+                inventory.transitionAll(
+                        new long[] {2, 3}, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 1_000));
+
+        var reserved = inventory.states(TicketStatus.RESERVED);
+        Assertions.assertEquals(2, reserved.size());
+        Assertions.assertEquals(5L, reserved.get(0).userId());
+        Assertions.assertNotNull(reserved.get(1).reservedUntil());
+    }
+
+    @Test
+    @DisplayName("Should never split a group between overlapping group reservations")
+    void shouldNotSplitOverlappingGroups() throws InterruptedException {
+        var tickets = new ArrayList<TicketState>();
+        for (long id = 1; id <= 64; id++) {
+            tickets.add(new TicketState(id, "A" + id, TicketStatus.NOT_BOOKED, null, null));
+        }
+
+        var seats = SeatInventory.of(1, LocalDateTime.now().plusDays(1), tickets);
+
+        var executor = Executors.newFixedThreadPool(8);
+        var start = new CountDownLatch(1);
+        for (int user = 1; user <= 63; user++) {
+            var holder = user;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                seats.transitionAll(
+                        new long[] {holder, holder + 1}, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, holder, 0);
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        var reserved = seats.states(TicketStatus.RESERVED);
+        Assertions.assertEquals(0, reserved.size() % 2);
+        for (int i = 0; i < reserved.size(); i += 2) {
+            Assertions.assertEquals(reserved.get(i).userId(), reserved.get(i + 1).userId());
+            Assertions.assertEquals(reserved.get(i).id() + 1, reserved.get(i + 1).id());
+        }
+    }
+
+    @Test
+    @DisplayName("Should never let another transition take a seat a failing group has claimed")
+    void shouldHandBackClaimedSeats() throws InterruptedException {
+        inventory.transition(3, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 9, 0);
+        var booked = new AtomicInteger();
+        var booker = new Thread(() -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                var result = inventory.transition(2, TicketStatus.RESERVED, 5, TicketStatus.BOOKED, 5, 0);
+                if (result == SeatInventory.Result.APPLIED) booked.incrementAndGet();
+            }
+        });
+
+        booker.start();
+        for (int i = 0; i < 1_000_000; i++) {
+            // Ticket 3 is held by another user, so the group always fails after claiming ticket 2
+            inventory.transitionAll(new long[] {2, 3}, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0);
+        }
+
+        booker.join();
+        Assertions.assertEquals(0, booked.get());
+        Assertions.assertEquals(TicketStatus.NOT_BOOKED, inventory.stateOf(2).status());
+    }
+
+    @Test
+    @DisplayName("Should reject group transitions on a retired inventory")
+    void shouldRejectGroupWhenRetired() {
+        inventory.retire();
+
+        Assertions.assertEquals(
+                SeatInventory.Result.RETIRED,
+                inventory.transitionAll(new long[] {2, 3}, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, 5, 0));
+    }
+}
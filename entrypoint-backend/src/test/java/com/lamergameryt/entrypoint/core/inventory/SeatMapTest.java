@@ -0,0 +1,68 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.inventory;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.SeatMap;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatMapTest {
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+
+    @Test
+    @DisplayName("Should pack mixed statuses into two bits per seat")
+    void shouldPackMixedStatuses() {
+        var statuses = new TicketStatus[1_000];
+        for (int i = 0; i < statuses.length; i++) statuses[i] = STATUSES[(i * 7 + i / 3) % STATUSES.length];
+
+        var seatMap = SeatMap.encode(42, statuses.length, index -> statuses[index]);
+
+        Assertions.assertEquals(SeatMap.ENCODING_PACKED, seatMap[3]);
+        Assertions.assertEquals(16 + 250, seatMap.length);
+        Assertions.assertArrayEquals(statuses, SeatMap.decode(seatMap));
+    }
+
+    @Test
+    @DisplayName("Should run-length encode long runs of the same status")
+    void shouldRunLengthEncode() {
+        var statuses = new TicketStatus[50_000];
+        Arrays.fill(statuses, 0, 30_000, TicketStatus.BOOKED);
+        statuses[30_000] = TicketStatus.RESERVED;
+        Arrays.fill(statuses, 30_001, statuses.length, TicketStatus.NOT_BOOKED);
+
+        var seatMap = SeatMap.encode(42, statuses.length, index -> statuses[index]);
+
+        Assertions.assertEquals(SeatMap.ENCODING_RLE, seatMap[3]);
+        Assertions.assertTrue(seatMap.length < 32);
+        Assertions.assertArrayEquals(statuses, SeatMap.decode(seatMap));
+    }
+
+    @Test
+    @DisplayName("Should change the index version only when the tickets change")
+    void shouldVersionIndex() {
+        Assertions.assertEquals(
+                SeatMap.indexVersion(new long[] {1, 2, 3}), SeatMap.indexVersion(new long[] {1, 2, 3}));
+        Assertions.assertNotEquals(
+                SeatMap.indexVersion(new long[] {1, 2, 3}), SeatMap.indexVersion(new long[] {1, 2, 4}));
+        Assertions.assertNotEquals(SeatMap.indexVersion(new long[] {1, 2}), SeatMap.indexVersion(new long[] {1, 2, 3}));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.ledger;
+
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.inventory.TicketState;
+import com.lamergameryt.entrypoint.ledger.LedgerSnapshot;
+import com.lamergameryt.entrypoint.ledger.TicketTransition;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LedgerSnapshotTest {
+    private static TicketTransition reserve(long ticketId, long userId) {
+        return TicketTransition.transitioned(
+                1, ticketId, TicketStatus.NOT_BOOKED, 0, TicketStatus.RESERVED, userId, null);
+    }
+
+    private static TicketTransition book(long ticketId, long userId) {
+        return TicketTransition.transitioned(
+                1, ticketId, TicketStatus.RESERVED, userId, TicketStatus.BOOKED, userId, null);
+    }
+
+    private static TicketState available(long ticketId) {
+        return new TicketState(ticketId, "A-" + ticketId, TicketStatus.NOT_BOOKED, null, null);
+    }
+
+    @Test
+    @DisplayName("Should encode and decode ticket states in ascending id order")
+    void shouldRoundTrip() {
+        var reservedUntil = LocalDateTime.now().plusMinutes(10).truncatedTo(ChronoUnit.MILLIS);
+        var states = List.of(
+                new TicketState(20, "B-1", TicketStatus.RESERVED, 7L, reservedUntil),
+                new TicketState(3, "A-1", TicketStatus.BOOKED, 5L, null),
+                available(4));
+
+        var decoded = LedgerSnapshot.decode(LedgerSnapshot.encode(states));
+
+        Assertions.assertEquals(List.of(states.get(1), states.get(2), states.get(0)), decoded);
+    }
+
+    @Test
+    @DisplayName("Should replay created, transitioned and deleted tickets on top of a snapshot")
+    void shouldReplayTail() {
+        var tail = List.of(
+                reserve(1, 7), book(1, 7), TicketTransition.created(1, 3, "A-3"), TicketTransition.deleted(1, 2));
+
+        var states = LedgerSnapshot.replay(List.of(available(1), available(2)), tail);
+
+        Assertions.assertEquals(2, states.size());
+        Assertions.assertEquals(new TicketState(1, "A-1", TicketStatus.BOOKED, 7L, null), states.get(0));
+        Assertions.assertEquals(available(3), states.get(1));
+    }
+
+    @Test
+    @DisplayName("Should skip entries which the snapshot already includes")
+    void shouldSkipIncludedEntries() {
+        var snapshot = List.of(new TicketState(1, "A-1", TicketStatus.RESERVED, 7L, null));
+
+        var states = LedgerSnapshot.replay(snapshot, List.of(reserve(1, 7), TicketTransition.created(1, 1, "A-1")));
+
+        Assertions.assertEquals(snapshot, states);
+    }
+
+    @Test
+    @DisplayName("Should apply entries which were recorded out of order")
+    void shouldReorderEntries() {
+        var states = LedgerSnapshot.replay(List.of(available(1)), List.of(book(1, 7), reserve(1, 7)));
+
+        Assertions.assertEquals(TicketStatus.BOOKED, states.get(0).status());
+        Assertions.assertEquals(7L, states.get(0).userId());
+    }
+}
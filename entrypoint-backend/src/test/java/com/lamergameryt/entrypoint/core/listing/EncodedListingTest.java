@@ -0,0 +1,77 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.listing;
+
+import com.lamergameryt.entrypoint.listing.EncodedListing;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EncodedListingTest {
+    private static final byte[] JSON = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Should derive a strong ETag from the content")
+    void shouldDeriveEtag() {
+        var listing = EncodedListing.of(JSON, false);
+
+        Assertions.assertTrue(listing.etag().startsWith("\"") && listing.etag().endsWith("\""));
+        Assertions.assertEquals(listing.etag(), EncodedListing.of(JSON.clone(), true).etag());
+        Assertions.assertNotEquals(
+                listing.etag(), EncodedListing.of("[]".getBytes(StandardCharsets.UTF_8), false).etag());
+        Assertions.assertNotEquals(listing.etag(), listing.gzipEtag());
+        Assertions.assertNull(listing.gzip());
+    }
+
+    @Test
+    @DisplayName("Should match If-None-Match against either representation")
+    void shouldMatchIfNoneMatch() {
+        var listing = EncodedListing.of(JSON, true);
+
+        Assertions.assertTrue(listing.matches(listing.etag()));
+        Assertions.assertTrue(listing.matches("\"other\", W/" + listing.gzipEtag()));
+        Assertions.assertTrue(listing.matches("*"));
+        Assertions.assertFalse(listing.matches("\"other\""));
+        Assertions.assertFalse(listing.matches(null));
+    }
+
+    @Test
+    @DisplayName("Should keep a gzip compressed copy of the content")
+    void shouldCompress() throws IOException {
+        var listing = EncodedListing.of(JSON, true);
+
+        try (var input = new GZIPInputStream(new ByteArrayInputStream(listing.gzip()))) {
+            Assertions.assertArrayEquals(JSON, input.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept gzip only if the client lists it without a zero quality")
+    void shouldParseAcceptEncoding() {
+        Assertions.assertTrue(EncodedListing.acceptsGzip("gzip, deflate, br"));
+        Assertions.assertTrue(EncodedListing.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        Assertions.assertFalse(EncodedListing.acceptsGzip("gzip;q=0"));
+        Assertions.assertFalse(EncodedListing.acceptsGzip("br, deflate"));
+        Assertions.assertFalse(EncodedListing.acceptsGzip(null));
+    }
+}
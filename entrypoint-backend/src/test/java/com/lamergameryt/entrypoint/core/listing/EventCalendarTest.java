@@ -0,0 +1,122 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.listing;
+
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.listing.EventCalendar;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventCalendarTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private static EventDto event(long id, LocalDateTime startDate) {
+        return new EventDto(id, "Event " + id, null, startDate, List.of());
+    }
+
+    private static List<Long> ids(List<EventDto> events) {
+        return events.stream().map(EventDto::id).toList();
+    }
+
+    @Test
+    @DisplayName("Should return the events within an inclusive range in start date and id order")
+    void shouldReturnEventsBetween() {
+        var calendar = new EventCalendar();
+        calendar.putAll(List.of(
+                event(3, FROM.plusHours(30)),
+                event(1, FROM.plusHours(1)),
+                event(4, FROM.plusHours(2)),
+                event(2, FROM.plusHours(2))));
+
+        Assertions.assertEquals(List.of(2L, 4L, 3L), ids(calendar.between(FROM.plusHours(2), FROM.plusHours(30))));
+        Assertions.assertTrue(calendar.between(FROM.plusHours(3), FROM.plusHours(29)).isEmpty());
+        Assertions.assertTrue(calendar.between(FROM.plusDays(2), FROM).isEmpty());
+        Assertions.assertEquals(4, calendar.between(FROM, FROM.plusDays(2)).size());
+    }
+
+    @Test
+    @DisplayName("Should page through a range after the cursor of the previous page")
+    void shouldPageAfterCursor() {
+        var calendar = new EventCalendar();
+        calendar.putAll(List.of(
+                event(1, FROM.plusHours(1)),
+                event(2, FROM.plusHours(2)),
+                event(3, FROM.plusHours(2)),
+                event(4, FROM.plusHours(3)),
+                event(5, FROM.plusHours(40))));
+
+        var first = calendar.page(FROM, FROM.plusDays(1), null, 2);
+        Assertions.assertEquals(List.of(1L, 2L), ids(first));
+
+        var second = calendar.page(FROM, FROM.plusDays(1), new PageCursor.EventKey(FROM.plusHours(2), 2), 2);
+        Assertions.assertEquals(List.of(3L, 4L), ids(second));
+
+        var last = calendar.page(FROM, FROM.plusDays(1), new PageCursor.EventKey(FROM.plusHours(3), 4), 2);
+        Assertions.assertTrue(last.isEmpty());
+
+        // A cursor from before the window starts at the window
+        var stale = calendar.page(FROM.plusHours(2), FROM.plusDays(1), new PageCursor.EventKey(FROM, 1), 10);
+        Assertions.assertEquals(List.of(2L, 3L, 4L), ids(stale));
+    }
+
+    @Test
+    @DisplayName("Should remove the events which have started")
+    void shouldPrune() {
+        var calendar = new EventCalendar();
+        calendar.putAll(List.of(event(1, FROM.minusHours(1)), event(2, FROM), event(3, FROM.plusHours(1))));
+
+        Assertions.assertEquals(1, calendar.prune(FROM));
+        Assertions.assertEquals(2, calendar.size());
+        Assertions.assertNull(calendar.get(1));
+        Assertions.assertNotNull(calendar.get(2));
+        Assertions.assertEquals(3, calendar.maxId());
+    }
+
+    @Test
+    @DisplayName("Should only change the version if an event changed")
+    void shouldTrackVersion() {
+        var calendar = new EventCalendar();
+        Assertions.assertTrue(calendar.put(event(1, FROM)));
+        var version = calendar.version();
+
+        Assertions.assertFalse(calendar.put(event(1, FROM)));
+        Assertions.assertEquals(version, calendar.version());
+
+        Assertions.assertTrue(calendar.put(new EventDto(1, "Renamed", null, FROM, List.of())));
+        Assertions.assertNotEquals(version, calendar.version());
+        Assertions.assertEquals("Renamed", calendar.get(1).name());
+    }
+
+    @Test
+    @DisplayName("Should replace every event at once")
+    void shouldReplaceAll() {
+        var calendar = new EventCalendar();
+        calendar.putAll(List.of(event(1, FROM), event(2, FROM.plusHours(1))));
+
+        calendar.replaceAll(List.of(event(2, FROM.plusHours(5)), event(7, FROM.plusHours(2))));
+
+        Assertions.assertNull(calendar.get(1));
+        Assertions.assertEquals(List.of(7L, 2L), ids(calendar.between(FROM, FROM.plusDays(1))));
+        Assertions.assertEquals(7, calendar.maxId());
+    }
+}
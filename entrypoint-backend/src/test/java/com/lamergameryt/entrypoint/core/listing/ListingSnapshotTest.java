@@ -0,0 +1,135 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.listing;
+
+import com.lamergameryt.entrypoint.dto.EventDto;
+import com.lamergameryt.entrypoint.listing.EncodedListing;
+import com.lamergameryt.entrypoint.listing.ListingSnapshot;
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ListingSnapshotTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private static EventDto event(long id, LocalDateTime startDate) {
+        return new EventDto(id, "Event " + id, null, startDate, List.of());
+    }
+
+    @Test
+    @DisplayName("Should return the events within an inclusive range in start date order")
+    void shouldReturnEventsBetween() {
+        var snapshot = ListingSnapshot.of(
+                0,
+                FROM,
+                FROM.plusDays(2),
+                List.of(
+                        event(3, FROM.plusHours(30)),
+                        event(1, FROM.plusHours(1)),
+                        event(2, FROM.plusHours(2)),
+                        event(4, FROM.plusHours(2))));
+
+        var events = snapshot.between(FROM.plusHours(2), FROM.plusHours(30));
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals(
+                List.of(FROM.plusHours(2), FROM.plusHours(2), FROM.plusHours(30)),
+                events.stream().map(EventDto::startDate).toList());
+        Assertions.assertTrue(snapshot.between(FROM.plusHours(3), FROM.plusHours(29)).isEmpty());
+        Assertions.assertEquals(4, snapshot.between(FROM, FROM.plusDays(2)).size());
+    }
+
+    @Test
+    @DisplayName("Should cover a window only within its loaded range")
+    void shouldCoverWindow() {
+        var snapshot = ListingSnapshot.of(0, FROM, FROM.plusDays(10).plusMinutes(2), List.of());
+
+        Assertions.assertTrue(snapshot.covers(FROM, FROM.plusDays(10)));
+        Assertions.assertTrue(snapshot.covers(FROM.plusMinutes(2), FROM.plusDays(10).plusMinutes(2)));
+        Assertions.assertFalse(snapshot.covers(FROM.plusMinutes(3), FROM.plusDays(10).plusMinutes(3)));
+        Assertions.assertFalse(snapshot.covers(FROM.minusSeconds(1), FROM.plusDays(10)));
+    }
+
+    @Test
+    @DisplayName("Should round times down to the start of their quantum")
+    void shouldQuantize() {
+        var quantum = Duration.ofMinutes(1);
+
+        Assertions.assertEquals(FROM, ListingSnapshot.quantize(FROM, quantum));
+        Assertions.assertEquals(FROM, ListingSnapshot.quantize(FROM.plusSeconds(59).plusNanos(999), quantum));
+        Assertions.assertEquals(FROM.plusMinutes(1), ListingSnapshot.quantize(FROM.plusSeconds(60), quantum));
+        Assertions.assertEquals(
+                LocalDateTime.of(1969, 12, 31, 23, 59),
+                ListingSnapshot.quantize(LocalDateTime.of(1969, 12, 31, 23, 59, 30), quantum));
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> ListingSnapshot.quantize(FROM, Duration.ofMillis(500)));
+    }
+
+    @Test
+    @DisplayName("Should reuse the encoding until the requested events change")
+    void shouldReuseEncoding() {
+        var snapshot = ListingSnapshot.of(
+                0, FROM, FROM.plusDays(2), List.of(event(1, FROM.plusHours(1)), event(2, FROM.plusHours(5))));
+        var encodings = new AtomicInteger();
+        Function<List<EventDto>, EncodedListing> encoder = events -> {
+            encodings.incrementAndGet();
+            return EncodedListing.of(new byte[] {(byte) events.size()}, false);
+        };
+
+        var first = snapshot.encode(FROM, FROM.plusDays(1), null, 10, encoder);
+        Assertions.assertSame(
+                first, snapshot.encode(FROM.plusMinutes(30), FROM.plusDays(1).plusMinutes(30), null, 10, encoder));
+        Assertions.assertEquals(1, encodings.get());
+
+        var later = snapshot.encode(FROM.plusHours(2), FROM.plusDays(1).plusHours(2), null, 10, encoder);
+        Assertions.assertNotEquals(first.content().etag(), later.content().etag());
+        Assertions.assertEquals(2, encodings.get());
+    }
+
+    @Test
+    @DisplayName("Should page events in start date and id order after a cursor")
+    void shouldPageAfterCursor() {
+        var snapshot = ListingSnapshot.of(
+                0,
+                FROM,
+                FROM.plusDays(2),
+                List.of(event(3, FROM.plusHours(2)), event(1, FROM.plusHours(1)), event(2, FROM.plusHours(2))));
+        var pages = new ArrayList<List<Long>>();
+        Function<List<EventDto>, EncodedListing> encoder = events -> {
+            pages.add(events.stream().map(EventDto::id).toList());
+            return EncodedListing.of(new byte[] {(byte) events.size()}, false);
+        };
+
+        var first = snapshot.encode(FROM, FROM.plusDays(1), null, 2, encoder);
+        Assertions.assertNotNull(first.nextCursor());
+        Assertions.assertEquals(
+                new PageCursor.EventKey(FROM.plusHours(2), 2), PageCursor.parseEvent(first.nextCursor()));
+
+        var second = snapshot.encode(FROM, FROM.plusDays(1), PageCursor.parseEvent(first.nextCursor()), 2, encoder);
+        Assertions.assertNull(second.nextCursor());
+        Assertions.assertEquals(List.of(List.of(1L, 2L), List.of(3L)), pages);
+    }
+}
+
@@ -0,0 +1,221 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.ownership;
+
+import com.lamergameryt.entrypoint.EntrypointApplication;
+import com.lamergameryt.entrypoint.enums.TicketStatus;
+import com.lamergameryt.entrypoint.model.EventModel;
+import com.lamergameryt.entrypoint.model.TicketModel;
+import com.lamergameryt.entrypoint.model.UserModel;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.TicketRepository;
+import com.lamergameryt.entrypoint.repository.UserRepository;
+import com.lamergameryt.entrypoint.service.EventOwnershipService;
+import com.lamergameryt.entrypoint.service.ReservationExpiryService;
+import com.lamergameryt.entrypoint.service.SeatInventoryService;
+import com.lamergameryt.entrypoint.service.TicketService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs several nodes as separate application contexts sharing one in-memory database.
+ */
+class EventOwnershipTest {
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    private EventOwnershipService startNode(String nodeId, String... properties) {
+        var context = new SpringApplicationBuilder(EntrypointApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:ownership;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "entrypoint.ownership.enabled=true",
+                        "entrypoint.ownership.node-id=" + nodeId,
+                        "entrypoint.ownership.advertised-url=http://" + nodeId + ":8080")
+                .properties(properties)
+                .run();
+        nodes.add(context);
+        return context.getBean(EventOwnershipService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("Should lease an event to a single node and point the other nodes to it")
+    void shouldLeaseToSingleNode() {
+        var nodeA = this.startNode("node-a");
+        var nodeB = this.startNode("node-b");
+
+        Assertions.assertTrue(nodeA.isLocal(nodeA.leaseOf(1)));
+
+        var lease = nodeB.leaseOf(1);
+        Assertions.assertFalse(nodeB.isLocal(lease));
+        Assertions.assertEquals("node-a", lease.owner());
+        Assertions.assertEquals("http://node-a:8080", lease.ownerUrl());
+
+        Assertions.assertTrue(nodeB.isLocal(nodeB.leaseOf(2)));
+        Assertions.assertEquals("node-b", nodeA.leaseOf(2).owner());
+    }
+
+    @Test
+    @DisplayName("Should hand the events of a node over once it shuts down")
+    void shouldHandOverOnShutdown() {
+        var nodeA = this.startNode("node-a");
+        var nodeB = this.startNode("node-b");
+        Assertions.assertTrue(nodeA.isLocal(nodeA.leaseOf(3)));
+
+        nodes.get(0).close();
+
+        Assertions.assertTrue(nodeB.isLocal(nodeB.leaseOf(3)));
+    }
+
+    @Test
+    @DisplayName("Should fail over the events of a node which stops renewing its leases")
+    void shouldFailOverExpiredLease() throws InterruptedException {
+        var nodeA = this.startNode(
+                "node-a", "entrypoint.ownership.lease-ttl=200ms", "entrypoint.ownership.heartbeat-interval-ms=600000");
+        var nodeB = this.startNode("node-b");
+        Assertions.assertTrue(nodeA.isLocal(nodeA.leaseOf(4)));
+        Assertions.assertEquals("node-a", nodeB.leaseOf(4).owner());
+
+        Thread.sleep(300);
+
+        Assertions.assertTrue(nodeB.isLocal(nodeB.leaseOf(4)));
+        Assertions.assertEquals("node-b", nodeA.leaseOf(4).owner());
+    }
+
+    @Test
+    @DisplayName("Should never write the tickets of an event from a node which lost its lease")
+    void shouldNotWriteWithoutLease() throws InterruptedException {
+        var nodeA = this.startNode(
+                "node-a",
+                "entrypoint.ownership.lease-ttl=200ms",
+                "entrypoint.ownership.heartbeat-interval-ms=600000",
+                "entrypoint.inventory.flush-interval-ms=600000");
+        var nodeB = this.startNode("node-b");
+        var contextA = nodes.get(0);
+        var contextB = nodes.get(1);
+
+        var users = contextB.getBean(UserRepository.class);
+        var tickets = contextB.getBean(TicketRepository.class);
+        var first = users.save(UserModel.builder()
+                .name("First User")
+                .email("first@ownership.test")
+                .password("securepassword")
+                .build());
+        var second = users.save(UserModel.builder()
+                .name("Second User")
+                .email("second@ownership.test")
+                .password("securepassword")
+                .build());
+        var event = contextB.getBean(EventRepository.class)
+                .save(EventModel.builder()
+                        .name("Owned Event")
+                        .description("An event leased to one node at a time.")
+                        .startDate(LocalDateTime.now().plusDays(1))
+                        .build());
+        var ticket = tickets.save(TicketModel.builder()
+                .seatNumber("A1")
+                .status(TicketStatus.NOT_BOOKED)
+                .event(event)
+                .build());
+
+        // Node A reserves the seat in memory, and never gets to write it before its lease expires
+        Assertions.assertTrue(nodeA.isLocal(nodeA.leaseOf(event.getId())));
+        Assertions.assertTrue(
+                contextA.getBean(TicketService.class).reserveTicket(event.getId(), ticket.getId(), first.getId()));
+        Thread.sleep(300);
+
+        Assertions.assertTrue(nodeB.isLocal(nodeB.leaseOf(event.getId())));
+        Assertions.assertTrue(
+                contextB.getBean(TicketService.class).reserveTicket(event.getId(), ticket.getId(), second.getId()));
+        contextB.getBean(SeatInventoryService.class).flush();
+
+        var inventoryA = contextA.getBean(SeatInventoryService.class);
+        inventoryA.flush();
+        inventoryA.evictStarted();
+        contextA.getBean(ReservationExpiryService.class).expireHolds();
+        Assertions.assertTrue(inventoryA.get(event.getId()).isEmpty());
+        Assertions.assertTrue(inventoryA.find(event.getId()).isEmpty());
+
+        var state = tickets.findStatesByEventId(event.getId()).get(0);
+        Assertions.assertEquals(TicketStatus.RESERVED, state.status());
+        Assertions.assertEquals(second.getId(), state.userId());
+    }
+
+    @Test
+    @DisplayName("Should write the seats of a lapsed lease which no other node took over")
+    void shouldWriteLapsedLease() throws InterruptedException {
+        var nodeA = this.startNode(
+                "node-a",
+                "entrypoint.ownership.lease-ttl=200ms",
+                "entrypoint.ownership.heartbeat-interval-ms=600000",
+                "entrypoint.inventory.flush-interval-ms=600000");
+        var contextA = nodes.get(0);
+
+        var tickets = contextA.getBean(TicketRepository.class);
+        var user = contextA.getBean(UserRepository.class)
+                .save(UserModel.builder()
+                        .name("Lapsed User")
+                        .email("lapsed@ownership.test")
+                        .password("securepassword")
+                        .build());
+        var event = contextA.getBean(EventRepository.class)
+                .save(EventModel.builder()
+                        .name("Lapsed Event")
+                        .description("An event whose lease lapses before its seats are written.")
+                        .startDate(LocalDateTime.now().plusDays(1))
+                        .build());
+        var ticket = tickets.save(TicketModel.builder()
+                .seatNumber("A1")
+                .status(TicketStatus.NOT_BOOKED)
+                .event(event)
+                .build());
+
+        Assertions.assertTrue(nodeA.isLocal(nodeA.leaseOf(event.getId())));
+        Assertions.assertTrue(
+                contextA.getBean(TicketService.class).reserveTicket(event.getId(), ticket.getId(), user.getId()));
+        Thread.sleep(300);
+
+        // The lease has expired, but the event was not taken over, so the accepted reservation is still written
+        var inventoryA = contextA.getBean(SeatInventoryService.class);
+        var inventory = inventoryA.find(event.getId()).orElseThrow();
+        inventoryA.flush();
+
+        var state = tickets.findStatesByEventId(event.getId()).get(0);
+        Assertions.assertEquals(TicketStatus.RESERVED, state.status());
+        Assertions.assertEquals(user.getId(), state.userId());
+
+        // Taking the lease back keeps the seat state in memory
+        Assertions.assertTrue(nodeA.isLocal(nodeA.leaseOf(event.getId())));
+        Assertions.assertSame(inventory, inventoryA.find(event.getId()).orElseThrow());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.pagination;
+
+import com.lamergameryt.entrypoint.pagination.PageCursor;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+    @Test
+    @DisplayName("Should read back the key of an event cursor")
+    void shouldRoundTripEvent() {
+        var startDate = LocalDateTime.of(2026, 5, 1, 12, 30, 15, 123_000_000);
+        var cursor = PageCursor.ofEvent(startDate, 42);
+
+        Assertions.assertEquals(new PageCursor.EventKey(startDate, 42), PageCursor.parseEvent(cursor));
+        Assertions.assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Should read back the id of a ticket cursor")
+    void shouldRoundTripTicket() {
+        Assertions.assertEquals(7, PageCursor.parseTicket(PageCursor.ofTicket(7)));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and cursors of another kind")
+    void shouldRejectMalformed() {
+        var ticket = PageCursor.ofTicket(7);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.parseEvent(ticket));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> PageCursor.parseTicket(PageCursor.ofEvent(LocalDateTime.of(2026, 5, 1, 12, 0), 1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.parseTicket("not a cursor"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.parseTicket(""));
+    }
+}
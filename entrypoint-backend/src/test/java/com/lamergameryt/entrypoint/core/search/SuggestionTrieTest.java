@@ -0,0 +1,99 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.search;
+
+import com.lamergameryt.entrypoint.search.SuggestionTrie;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+    private SuggestionTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestionTrie(3);
+        trie.add(new SuggestionTrie.Entry(1, 1.0), List.of("Summer Music Festival"));
+        trie.add(new SuggestionTrie.Entry(2, 3.0), List.of("Music Concert", "The Strings"));
+        trie.add(new SuggestionTrie.Entry(3, 2.0), List.of("M\u00fasica en Vivo"));
+        trie.add(new SuggestionTrie.Entry(4, 0.5), List.of("Art Exhibition", "Summit Singers"));
+    }
+
+    private static List<Long> ids(List<SuggestionTrie.Entry> entries) {
+        return entries.stream().map(SuggestionTrie.Entry::id).toList();
+    }
+
+    @Test
+    @DisplayName("Should suggest the best ranked events with a word starting with the prefix")
+    void shouldSuggestByRank() {
+        Assertions.assertEquals(List.of(2L, 3L, 1L), ids(trie.suggest("mus", 10)));
+        Assertions.assertEquals(List.of(2L, 3L), ids(trie.suggest("mus", 2)));
+        Assertions.assertEquals(List.of(1L, 4L), ids(trie.suggest("sum", 10)));
+        Assertions.assertEquals(List.of(1L), ids(trie.suggest("summer", 10)));
+        Assertions.assertEquals(4, trie.size());
+    }
+
+    @Test
+    @DisplayName("Should match names of performers and following words")
+    void shouldMatchPerformersAndPhrases() {
+        Assertions.assertEquals(List.of(2L), ids(trie.suggest("the str", 10)));
+        Assertions.assertEquals(List.of(1L), ids(trie.suggest("music fest", 10)));
+        Assertions.assertEquals(List.of(4L), ids(trie.suggest("singers", 10)));
+        Assertions.assertTrue(trie.suggest("usic", 10).isEmpty());
+        Assertions.assertTrue(trie.suggest("music concerts", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore case, accents and separators")
+    void shouldNormalize() {
+        Assertions.assertEquals(List.of(3L), ids(trie.suggest("  MUSICA ", 10)));
+        Assertions.assertEquals(List.of(1L), ids(trie.suggest("music-festival", 10)));
+        Assertions.assertTrue(trie.suggest(" !? ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep only the best ranked events per prefix")
+    void shouldKeepBestEvents() {
+        trie.add(new SuggestionTrie.Entry(5, 2.5), List.of("Musical Theatre"));
+        trie.add(new SuggestionTrie.Entry(6, 0.1), List.of("Museum Night"));
+
+        Assertions.assertEquals(List.of(2L, 5L, 3L), ids(trie.suggest("mu", 10)));
+        Assertions.assertEquals(List.of(5L), ids(trie.suggest("musical", 10)));
+        Assertions.assertEquals(List.of(6L), ids(trie.suggest("muse", 10)));
+    }
+
+    @Test
+    @DisplayName("Should replace and remove added events")
+    void shouldReplaceAndRemove() {
+        Assertions.assertFalse(trie.add(new SuggestionTrie.Entry(2, 5.0), List.of("Jazz Night")));
+        trie.replace(new SuggestionTrie.Entry(2, 0.2), List.of("Jazz Concert"));
+
+        Assertions.assertEquals(List.of(3L, 1L), ids(trie.suggest("mus", 10)));
+        Assertions.assertEquals(List.of(2L), ids(trie.suggest("concert", 10)));
+        Assertions.assertTrue(trie.suggest("the str", 10).isEmpty());
+        Assertions.assertTrue(trie.suggest("jazz night", 10).isEmpty());
+
+        Assertions.assertTrue(trie.remove(3));
+        Assertions.assertFalse(trie.remove(3));
+        Assertions.assertEquals(List.of(1L), ids(trie.suggest("mus", 10)));
+        Assertions.assertEquals(3, trie.size());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.search;
+
+import com.lamergameryt.entrypoint.search.IndexedEvent;
+import com.lamergameryt.entrypoint.search.TrigramIndex;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.add(new IndexedEvent(1, "Music Concert", NOW.plusDays(1)));
+        index.add(new IndexedEvent(2, "Art Exhibition", NOW.plusDays(5)));
+        index.add(new IndexedEvent(3, "Summer Music Festival", NOW.plusDays(3)));
+        index.add(new IndexedEvent(4, "M\u00fasic Night", NOW.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Should rank names containing the whole query first")
+    void shouldRankMatches() {
+        var matches = index.search("music", NOW, 0.5, 10);
+
+        Assertions.assertEquals(2, matches.size());
+        Assertions.assertEquals(1, matches.get(0).id());
+        Assertions.assertEquals(3, matches.get(1).id());
+        Assertions.assertEquals(1.0, matches.get(0).coverage());
+        Assertions.assertTrue(matches.get(0).similarity() > matches.get(1).similarity());
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos in the query")
+    void shouldTolerateTypos() {
+        var matches = index.search("exhbition", NOW, 0.5, 10);
+
+        Assertions.assertEquals(1, matches.size());
+        Assertions.assertEquals(2, matches.get(0).id());
+        Assertions.assertTrue(index.search("exhbition", NOW, 0.9, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should only match events starting after the given time")
+    void shouldFilterByStartDate() {
+        Assertions.assertEquals(3, index.search("music", NOW.minusDays(2), 0.5, 10).size());
+        Assertions.assertEquals(3, index.search("music", NOW.plusDays(2), 0.5, 10).get(0).id());
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents and limit the number of matches")
+    void shouldNormalize() {
+        var matches = index.search("MUSIC", NOW.minusDays(2), 0.5, 1);
+
+        // The accented name is the shortest one containing the whole query
+        Assertions.assertEquals(1, matches.size());
+        Assertions.assertEquals(4, matches.get(0).id());
+        Assertions.assertTrue(index.search("  !? ", NOW, 0.5, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should index every event once and track the highest id")
+    void shouldAddOnce() {
+        Assertions.assertFalse(index.add(new IndexedEvent(2, "Art Exhibition", NOW.plusDays(5))));
+        Assertions.assertTrue(index.add(new IndexedEvent(10, "Jazz", NOW.plusDays(5))));
+        Assertions.assertTrue(index.add(new IndexedEvent(7, "Jazz Brunch", NOW.plusDays(5))));
+
+        Assertions.assertEquals(6, index.size());
+        Assertions.assertEquals(10, index.maxId());
+        Assertions.assertEquals(10, index.search("jazz", NOW, 0.5, 10).get(0).id());
+        Assertions.assertEquals(7, index.search("jazz", NOW, 0.5, 10).get(1).id());
+    }
+
+    @Test
+    @DisplayName("Should replace and remove indexed events")
+    void shouldReplaceAndRemove() {
+        index.replace(new IndexedEvent(1, "Jazz Concert", NOW.plusDays(1)));
+        index.replace(new IndexedEvent(8, "Music Quiz", NOW.plusDays(2)));
+
+        Assertions.assertEquals(5, index.size());
+        Assertions.assertEquals(1, index.search("jazz", NOW, 0.5, 10).get(0).id());
+        Assertions.assertEquals(8, index.search("music", NOW, 0.5, 10).get(0).id());
+        Assertions.assertEquals(2, index.search("music", NOW, 0.5, 10).size());
+
+        Assertions.assertTrue(index.remove(3));
+        Assertions.assertFalse(index.remove(3));
+        Assertions.assertEquals(4, index.size());
+        Assertions.assertEquals(8, index.maxId());
+        Assertions.assertEquals(1, index.search("music", NOW, 0.5, 10).size());
+        Assertions.assertTrue(index.search("festival", NOW, 0.5, 10).isEmpty());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.service;
+
+import com.lamergameryt.entrypoint.config.SearchProperties;
+import com.lamergameryt.entrypoint.dto.projection.EventRow;
+import com.lamergameryt.entrypoint.listing.EventIndexLoader;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.service.EventCalendarService;
+import com.lamergameryt.entrypoint.service.EventSearchService;
+import com.lamergameryt.entrypoint.service.PerformerService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class EventSearchServiceUnitTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 20, 0);
+    private static final Limit LIMIT = Limit.of(new SearchProperties().getMaxResults());
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PerformerService performerService;
+
+    @Mock
+    private EventCalendarService calendarService;
+
+    private EventSearchService service;
+
+    @BeforeEach
+    void setup() {
+        // The index is never built, so every search not answered from the cache reads the database
+        service = new EventSearchService(
+                new SearchProperties(), eventRepository, performerService, calendarService, new EventIndexLoader());
+    }
+
+    private void stubSearch(String query, EventRow... rows) {
+        var found = List.of(rows);
+        Mockito.when(eventRepository.findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate(
+                        query, NOW, LIMIT))
+                .thenReturn(found);
+        Mockito.when(performerService.withPerformers(found))
+                .thenReturn(found.stream().map(row -> row.toDto(List.of())).toList());
+    }
+
+    @Test
+    @DisplayName("Should answer repeated searches for the same normalized query from the cache")
+    void testCachesResults() {
+        stubSearch("summer music", new EventRow(1, "Summer Music", null, NOW.plusDays(1)));
+
+        var first = service.search("Summer Music", NOW);
+        var second = service.search("  summer   MUSIC ", NOW.plusSeconds(30));
+
+        Assertions.assertThat(first).extracting("id").containsExactly(1L);
+        Assertions.assertThat(second).isEqualTo(first);
+        Mockito.verify(eventRepository, Mockito.times(1))
+                .findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate("summer music", NOW, LIMIT);
+    }
+
+    @Test
+    @DisplayName("Should cache searches without any results")
+    void testCachesEmptyResults() {
+        stubSearch("qwxzj");
+
+        Assertions.assertThat(service.search("qwxzj", NOW)).isEmpty();
+        Assertions.assertThat(service.search("QWXZJ", NOW.plusSeconds(10))).isEmpty();
+        Mockito.verify(eventRepository, Mockito.times(1))
+                .findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate("qwxzj", NOW, LIMIT);
+    }
+
+    @Test
+    @DisplayName("Should narrow cached results down to the exact start date")
+    void testNarrowsToStartDate() {
+        stubSearch(
+                "gala",
+                new EventRow(1, "Gala", null, NOW.plusSeconds(20)),
+                new EventRow(2, "Gala", null, NOW.plusDays(1)));
+
+        Assertions.assertThat(service.search("gala", NOW)).extracting("id").containsExactly(1L, 2L);
+        Assertions.assertThat(service.search("gala", NOW.plusSeconds(30))).extracting("id").containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should search the exact start date again when narrowing results cut off at the limit")
+    void testRefillsTruncatedResults() {
+        var properties = new SearchProperties();
+        properties.setMaxResults(2);
+        service = new EventSearchService(
+                properties, eventRepository, performerService, calendarService, new EventIndexLoader());
+
+        var soon = new EventRow(1, "Gala", null, NOW.plusSeconds(20));
+        var tomorrow = new EventRow(2, "Gala", null, NOW.plusDays(1));
+        var later = new EventRow(3, "Gala", null, NOW.plusDays(2));
+        for (var rows : List.of(List.of(soon, tomorrow), List.of(tomorrow, later))) {
+            Mockito.when(performerService.withPerformers(rows))
+                    .thenReturn(rows.stream().map(row -> row.toDto(List.of())).toList());
+        }
+
+        Mockito.when(eventRepository.findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate(
+                        "gala", NOW, Limit.of(2)))
+                .thenReturn(List.of(soon, tomorrow));
+        Mockito.when(eventRepository.findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate(
+                        "gala", NOW.plusSeconds(30), Limit.of(2)))
+                .thenReturn(List.of(tomorrow, later));
+
+        Assertions.assertThat(service.search("gala", NOW)).extracting("id").containsExactly(1L, 2L);
+        Assertions.assertThat(service.search("gala", NOW.plusSeconds(30))).extracting("id").containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should search again once the cache is invalidated")
+    void testInvalidate() {
+        stubSearch("gala");
+
+        service.search("gala", NOW);
+        service.invalidate();
+        service.search("gala", NOW);
+
+        Mockito.verify(eventRepository, Mockito.times(2))
+                .findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate("gala", NOW, LIMIT);
+    }
+
+    @Test
+    @DisplayName("Should not share results between start date quanta")
+    void testSeparatesQuanta() {
+        stubSearch("gala");
+        Mockito.when(eventRepository.findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate(
+                        "gala", NOW.plusMinutes(1), LIMIT))
+                .thenReturn(List.of());
+
+        service.search("gala", NOW.plusSeconds(59));
+        service.search("gala", NOW.plusMinutes(1));
+
+        Mockito.verify(eventRepository)
+                .findRowsByNameContainingIgnoreCaseAndStartDateAfterOrderByStartDate("gala", NOW.plusMinutes(1), LIMIT);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.service;
+
+import com.lamergameryt.entrypoint.config.PerformerProperties;
+import com.lamergameryt.entrypoint.dto.PerformerDto;
+import com.lamergameryt.entrypoint.dto.projection.EventPerformerLink;
+import com.lamergameryt.entrypoint.dto.projection.EventRow;
+import com.lamergameryt.entrypoint.repository.EventRepository;
+import com.lamergameryt.entrypoint.repository.PerformerRepository;
+import com.lamergameryt.entrypoint.service.PerformerService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PerformerServiceUnitTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 5, 1, 20, 0);
+
+    @Mock
+    private PerformerRepository performerRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private PerformerService service;
+
+    @BeforeEach
+    void setup() {
+        var properties = new PerformerProperties();
+        properties.setBatchSize(2);
+        service = new PerformerService(properties, performerRepository, eventRepository);
+    }
+
+    @Test
+    @DisplayName("Should attach performers read by id to events in their given order")
+    void testWithPerformers() {
+        var events = List.of(
+                new EventRow(2, "Second", null, START),
+                new EventRow(1, "First", null, START),
+                new EventRow(3, "Third", null, START));
+        Mockito.when(eventRepository.findPerformerLinksByEventIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(new EventPerformerLink(1, 10), new EventPerformerLink(2, 10)));
+        Mockito.when(eventRepository.findPerformerLinksByEventIdIn(List.of(3L)))
+                .thenReturn(List.of(new EventPerformerLink(3, 11)));
+        Mockito.when(performerRepository.findDtosByIdIn(Mockito.anyCollection()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                        .map(id -> new PerformerDto(id, "Performer " + id, null))
+                        .toList());
+
+        var result = service.withPerformers(events);
+
+        Assertions.assertThat(result).extracting("id").containsExactly(2L, 1L, 3L);
+        Assertions.assertThat(result.get(0).performers()).extracting("id").containsExactly(10L);
+        Assertions.assertThat(result.get(1).performers()).extracting("id").containsExactly(10L);
+        Assertions.assertThat(result.get(2).performers()).extracting("id").containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("Should read a cached performer only once")
+    void testCachesPerformers() {
+        var events = List.of(new EventRow(1, "First", null, START));
+        Mockito.when(eventRepository.findPerformerLinksByEventIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventPerformerLink(1, 10)));
+        Mockito.when(performerRepository.findDtosByIdIn(List.of(10L)))
+                .thenReturn(List.of(new PerformerDto(10, "Performer", null)));
+
+        service.withPerformers(events);
+        var result = service.withPerformers(events);
+
+        Assertions.assertThat(result.get(0).performers()).extracting("name").containsExactly("Performer");
+        Mockito.verify(performerRepository, Mockito.times(1)).findDtosByIdIn(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("Should not query anything for no events")
+    void testNoEvents() {
+        Assertions.assertThat(service.withPerformers(List.of())).isEmpty();
+        Mockito.verifyNoInteractions(eventRepository, performerRepository);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.util;
+
+import com.lamergameryt.entrypoint.util.HashedTimingWheel;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(100, 8, 0);
+    }
+
+    @Test
+    @DisplayName("Should never expire an item before its deadline")
+    void shouldExpireAtDeadline() {
+        wheel.schedule("first", 250);
+        wheel.schedule("second", 500);
+
+        Assertions.assertTrue(wheel.advance(200).isEmpty());
+        Assertions.assertEquals(List.of("first"), wheel.advance(300));
+        Assertions.assertTrue(wheel.advance(400).isEmpty());
+        Assertions.assertEquals(List.of("second"), wheel.advance(500));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should expire items more than one revolution away after the right number of rounds")
+    void shouldCountRounds() {
+        wheel.schedule("near", 300);
+        wheel.schedule("far", 300 + 8 * 100 * 2);
+
+        Assertions.assertEquals(List.of("near"), wheel.advance(300));
+        Assertions.assertTrue(wheel.advance(1_800).isEmpty());
+        Assertions.assertEquals(List.of("far"), wheel.advance(1_900));
+    }
+
+    @Test
+    @DisplayName("Should expire overdue items on the next advance, including after a long pause")
+    void shouldExpireOverdue() {
+        wheel.schedule("overdue", -1_000);
+        wheel.schedule("paused", 700);
+
+        Assertions.assertEquals(List.of("overdue"), wheel.advance(0));
+        Assertions.assertEquals(List.of("paused"), wheel.advance(10_000));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.util;
+
+import com.lamergameryt.entrypoint.util.RetryExecutor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryExecutorTest {
+    private static final RetryExecutor.Policy POLICY =
+            new RetryExecutor.Policy(4, Duration.ofMillis(10), Duration.ofMillis(25), 1, 3);
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private final List<RetryExecutor.Operation> registered = new ArrayList<>();
+    private final RetryExecutor executor = new RetryExecutor(
+            IllegalStateException.class::isInstance, name -> POLICY, registered::add, () -> 0, sleeps::add);
+
+    @Test
+    @DisplayName("Should retry conflicts until an attempt succeeds")
+    void shouldRetryConflicts() {
+        var attempts = new AtomicInteger();
+
+        var result = executor.execute("book", () -> {
+            if (attempts.incrementAndGet() < 3) throw new IllegalStateException("conflict");
+            return "booked";
+        });
+
+        Assertions.assertEquals("booked", result);
+        Assertions.assertEquals(2, sleeps.size());
+        Assertions.assertEquals(1, registered.size());
+
+        var operation = registered.get(0);
+        Assertions.assertEquals("book", operation.name());
+        Assertions.assertEquals(1, operation.calls());
+        Assertions.assertEquals(2, operation.conflicts());
+        Assertions.assertEquals(2, operation.retries());
+        Assertions.assertEquals(0, operation.exhausted());
+    }
+
+    @Test
+    @DisplayName("Should not retry failures which are not conflicts")
+    void shouldNotRetryOtherFailures() {
+        var attempts = new AtomicInteger();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> executor.execute("book", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("invalid");
+        }));
+
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(0, registered.get(0).conflicts());
+    }
+
+    @Test
+    @DisplayName("Should give up after the maximum number of attempts")
+    void shouldStopAfterMaxAttempts() {
+        var attempts = new AtomicInteger();
+        var budget = new RetryExecutor.Policy(2, Duration.ofMillis(10), Duration.ofMillis(25), 1, 100);
+        var limited = new RetryExecutor(
+                IllegalStateException.class::isInstance, name -> budget, registered::add, () -> 0, sleeps::add);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> limited.execute("book", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("conflict");
+        }));
+
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(1, registered.get(0).exhausted());
+    }
+
+    @Test
+    @DisplayName("Should fail fast once the retry budget of an operation is spent")
+    void shouldFailFastWithoutBudget() {
+        var attempts = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThrows(IllegalStateException.class, () -> executor.execute("book", () -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("conflict");
+            }));
+        }
+
+        // The first call spends all 3 retries, later calls fail on their first conflict
+        Assertions.assertEquals(6, attempts.get());
+        Assertions.assertEquals(3, registered.get(0).retries());
+        Assertions.assertEquals(3, registered.get(0).exhausted());
+
+        var other = new AtomicInteger();
+        Assertions.assertThrows(IllegalStateException.class, () -> executor.execute("release", () -> {
+            other.incrementAndGet();
+            throw new IllegalStateException("conflict");
+        }));
+        Assertions.assertEquals(4, other.get());
+    }
+
+    @Test
+    @DisplayName("Should draw backoff delays below the capped exponential bound")
+    void shouldBoundBackoff() {
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertTrue(RetryExecutor.delayBefore(POLICY, 1) <= 10);
+            Assertions.assertTrue(RetryExecutor.delayBefore(POLICY, 2) <= 20);
+            Assertions.assertTrue(RetryExecutor.delayBefore(POLICY, 3) <= 25);
+            Assertions.assertTrue(RetryExecutor.delayBefore(POLICY, 40) <= 25);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.util;
+
+import com.lamergameryt.entrypoint.util.StripedLock;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedLockTest {
+    @Test
+    @DisplayName("Should round the stripe count up to a power of two")
+    void shouldRoundStripeCount() {
+        Assertions.assertEquals(1, new StripedLock(1).stripeCount());
+        Assertions.assertEquals(256, new StripedLock(200).stripeCount());
+        Assertions.assertEquals(256, new StripedLock(256).stripeCount());
+    }
+
+    @Test
+    @DisplayName("Should count acquisitions of the stripe of a key")
+    void shouldCountAcquisitions() {
+        var locks = new StripedLock(16);
+        var stripe = locks.stripeOf(1, 42);
+
+        Assertions.assertEquals("done", locks.call(1, 42, () -> "done"));
+        Assertions.assertEquals(1, locks.acquisitions(stripe));
+        Assertions.assertEquals(0, locks.contended(stripe));
+    }
+
+    @Test
+    @DisplayName("Should make a second thread wait for a held stripe and count the contention")
+    void shouldCountContention() throws InterruptedException {
+        var locks = new StripedLock(16);
+        var stripe = locks.stripeOf(1, 42);
+        var held = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var holder = new Thread(() -> locks.call(1, 42, () -> {
+            held.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        holder.start();
+        held.await();
+
+        var waiter = new Thread(() -> locks.call(1, 42, () -> true));
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING) Thread.onSpinWait();
+
+        release.countDown();
+        holder.join();
+        waiter.join();
+
+        Assertions.assertEquals(2, locks.acquisitions(stripe));
+        Assertions.assertEquals(1, locks.contended(stripe));
+        Assertions.assertTrue(locks.waitNanos(stripe) > 0);
+    }
+
+    @Test
+    @DisplayName("Should take every distinct stripe of a group once")
+    void shouldLockGroupStripes() {
+        var locks = new StripedLock(4);
+        var ticketIds = new long[] {1, 2, 3, 4, 5, 6, 7, 8};
+
+        locks.callAll(1, ticketIds, () -> true);
+
+        long acquisitions = 0;
+        for (int i = 0; i < locks.stripeCount(); i++) acquisitions += locks.acquisitions(i);
+
+        var distinct = Arrays.stream(ticketIds).mapToInt(id -> locks.stripeOf(1, id)).distinct().count();
+        Assertions.assertEquals(distinct, acquisitions);
+    }
+}
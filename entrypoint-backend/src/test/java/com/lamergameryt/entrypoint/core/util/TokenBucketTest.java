@@ -0,0 +1,48 @@
+/*
+ * Entrypoint - Event Booking and Management Application
+ * Copyright (C) 2026 Harsh Patil <ifung230@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.lamergameryt.entrypoint.core.util;
+
+import com.lamergameryt.entrypoint.util.TokenBucket;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+    @Test
+    @DisplayName("Should grant a full burst and then refill at the configured rate")
+    void shouldRefillAtRate() {
+        var bucket = new TokenBucket(10, 5, 0);
+
+        Assertions.assertEquals(5, bucket.take(8, 0));
+        Assertions.assertEquals(0, bucket.take(8, 50));
+        Assertions.assertEquals(1, bucket.take(8, 100));
+        Assertions.assertEquals(5, bucket.take(8, 10_000));
+    }
+
+    @Test
+    @DisplayName("Should keep partial tokens between takes")
+    void shouldKeepPartialTokens() {
+        var bucket = new TokenBucket(10, 5, 0);
+        bucket.take(5, 0);
+
+        Assertions.assertEquals(0, bucket.take(1, 60));
+        Assertions.assertEquals(1, bucket.take(1, 120));
+        Assertions.assertEquals(0, bucket.take(1, 180));
+    }
+}